@@ -0,0 +1,46 @@
+package seoultech.capstone.menjil.domain.admin.api;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import seoultech.capstone.menjil.domain.admin.application.CacheAdminService;
+import seoultech.capstone.menjil.global.cache.CacheStats;
+import seoultech.capstone.menjil.global.common.dto.ApiResponse;
+import seoultech.capstone.menjil.global.exception.SuccessCode;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/caches")   // AdminAuthorizationFilter 를 거치도록 /api/admin 하위에 둔다.
+public class CacheAdminController {
+
+    private final CacheAdminService cacheAdminService;
+
+    /**
+     * 서버에서 사용 중인 캐시의 hit/miss/eviction 통계를 조회한다.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<CacheStats>>> getAllCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(SuccessCode.GET_CACHE_STATS_SUCCESS,
+                        cacheAdminService.getAllCacheStats()));
+    }
+
+    @GetMapping("/{cacheName}")
+    public ResponseEntity<ApiResponse<CacheStats>> getCacheStats(@PathVariable("cacheName") String cacheName) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(SuccessCode.GET_CACHE_STATS_SUCCESS,
+                        cacheAdminService.getCacheStats(cacheName)));
+    }
+
+    @DeleteMapping("/{cacheName}")
+    public ResponseEntity<ApiResponse<?>> flushCache(@PathVariable("cacheName") String cacheName) {
+        cacheAdminService.flushCache(cacheName);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(SuccessCode.CACHE_FLUSH_SUCCESS));
+    }
+}
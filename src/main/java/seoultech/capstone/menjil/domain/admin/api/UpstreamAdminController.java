@@ -0,0 +1,32 @@
+package seoultech.capstone.menjil.domain.admin.api;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import seoultech.capstone.menjil.domain.admin.application.UpstreamAdminService;
+import seoultech.capstone.menjil.global.common.dto.ApiResponse;
+import seoultech.capstone.menjil.global.exception.SuccessCode;
+import seoultech.capstone.menjil.global.http.UpstreamPoolStats;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/upstreams")   // AdminAuthorizationFilter 를 거치도록 /api/admin 하위에 둔다.
+public class UpstreamAdminController {
+
+    private final UpstreamAdminService upstreamAdminService;
+
+    /**
+     * 외부 API 별 connection pool 상태를 조회한다. pool 크기를 정할 때 참고한다.
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<UpstreamPoolStats>>> getAllPoolStats() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success(SuccessCode.GET_UPSTREAM_STATS_SUCCESS,
+                        upstreamAdminService.getAllPoolStats()));
+    }
+}
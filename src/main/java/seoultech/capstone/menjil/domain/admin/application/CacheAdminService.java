@@ -0,0 +1,52 @@
+package seoultech.capstone.menjil.domain.admin.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import seoultech.capstone.menjil.global.cache.CacheStats;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class CacheAdminService {
+
+    private final Map<String, ExpiringLruCache<?, ?>> caches;
+
+    /**
+     * CacheConfig 에 등록된 모든 캐시를 이름으로 조회할 수 있도록 Map 으로 변환
+     */
+    public CacheAdminService(List<ExpiringLruCache<?, ?>> caches) {
+        this.caches = caches.stream()
+                .collect(Collectors.toMap(ExpiringLruCache::getName, Function.identity()));
+    }
+
+    public List<CacheStats> getAllCacheStats() {
+        return caches.values().stream()
+                .map(ExpiringLruCache::stats)
+                .collect(Collectors.toList());
+    }
+
+    public CacheStats getCacheStats(String cacheName) {
+        return findCache(cacheName).stats();
+    }
+
+    public void flushCache(String cacheName) {
+        ExpiringLruCache<?, ?> cache = findCache(cacheName);
+        cache.clear();
+        log.info(">> cache {} is flushed", cacheName);
+    }
+
+    private ExpiringLruCache<?, ?> findCache(String cacheName) {
+        ExpiringLruCache<?, ?> cache = caches.get(cacheName);
+        if (cache == null) {
+            throw new CustomException(ErrorCode.CACHE_NOT_EXISTED);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,19 @@
+package seoultech.capstone.menjil.domain.admin.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import seoultech.capstone.menjil.global.http.UpstreamClientRegistry;
+import seoultech.capstone.menjil.global.http.UpstreamPoolStats;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Service
+public class UpstreamAdminService {
+
+    private final UpstreamClientRegistry upstreamClientRegistry;
+
+    public List<UpstreamPoolStats> getAllPoolStats() {
+        return upstreamClientRegistry.snapshots();
+    }
+}
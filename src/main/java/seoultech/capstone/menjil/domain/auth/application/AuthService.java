@@ -125,6 +125,7 @@ public class AuthService {
                 // 기존에 로그인을 해서 db 에 데이터가 존재하는 경우, Update
                 // status 의 값은 1
                 int status = tokenRepository.updateRefreshToken(user, refreshToken, expiryDate);
+                jwtTokenProvider.invalidateRefreshTokens(user.getId());
 
             } else {
                 // save in db
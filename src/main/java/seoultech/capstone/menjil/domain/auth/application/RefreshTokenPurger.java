@@ -0,0 +1,124 @@
+package seoultech.capstone.menjil.domain.auth.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import seoultech.capstone.menjil.domain.auth.dao.TokenRepository;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 Refresh Token 을 주기적으로 삭제한다.
+ * 한 번에 batchSize 개씩 기본 키로 삭제하고 batch 사이에 batchPause 만큼 쉬어, 다른 요청이 잠금을 오래 기다리지 않도록 한다.
+ * 한 번 실행할 때 최대 maxBatchesPerRun 번까지만 삭제하고, 남은 행은 다음 실행에서 삭제한다.
+ * 실행마다 삭제한 개수와 테이블의 행 개수를 metric 으로 남긴다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private final TokenRepository tokenRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatchesPerRun;
+    private final Clock clock;
+
+    private final Counter purgedCounter;
+    private final AtomicLong lastPurgedCount = new AtomicLong();
+    private final AtomicLong tableSize = new AtomicLong();
+
+    @Autowired
+    public RefreshTokenPurger(TokenRepository tokenRepository, MeterRegistry meterRegistry,
+                              @Value("${auth.refresh-token-purge.enabled:true}") boolean enabled,
+                              @Value("${auth.refresh-token-purge.batch-size:500}") int batchSize,
+                              @Value("${auth.refresh-token-purge.batch-pause-millis:100}") long batchPauseMillis,
+                              @Value("${auth.refresh-token-purge.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this(tokenRepository, meterRegistry, enabled, batchSize, Duration.ofMillis(batchPauseMillis),
+                maxBatchesPerRun, Clock.systemDefaultZone());
+    }
+
+    // 테스트 코드 작성을 위해, Clock 을 파라미터로 받도록 작성.
+    RefreshTokenPurger(TokenRepository tokenRepository, MeterRegistry meterRegistry, boolean enabled,
+                       int batchSize, Duration batchPause, int maxBatchesPerRun, Clock clock) {
+        this.tokenRepository = tokenRepository;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.clock = clock;
+
+        this.purgedCounter = Counter.builder("refresh_token.purge.deleted")
+                .description("삭제한 만료 Refresh Token 의 누적 개수")
+                .register(meterRegistry);
+        Gauge.builder("refresh_token.purge.last_run.deleted", lastPurgedCount, AtomicLong::get)
+                .description("마지막 실행에서 삭제한 만료 Refresh Token 의 개수")
+                .register(meterRegistry);
+        Gauge.builder("refresh_token.rows", tableSize, AtomicLong::get)
+                .description("마지막 실행 후 refresh_token 테이블의 행 개수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token-purge.interval-millis:3600000}",
+            initialDelayString = "${auth.refresh-token-purge.initial-delay-millis:300000}")
+    public void scheduledPurge() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            purgeExpiredTokens();
+        } catch (RuntimeException e) {
+            log.error(">> failed to purge expired refresh tokens", e);
+        }
+    }
+
+    /**
+     * 실행 시점에 만료된 Refresh Token 을 삭제하고, 삭제한 개수를 돌려준다.
+     */
+    public int purgeExpiredTokens() {
+        Timestamp now = Timestamp.from(clock.instant());
+        int purged = 0;
+        for (int batch = 1; batch <= maxBatchesPerRun; batch++) {
+            List<Long> expiredIds = tokenRepository.findExpiredTokenIds(now, PageRequest.of(0, batchSize));
+            if (expiredIds.isEmpty()) {
+                break;
+            }
+            purged += tokenRepository.deleteAllByIdIn(expiredIds);
+
+            // 마지막 batch 이면, 쉬지 않고 끝낸다.
+            if (expiredIds.size() < batchSize || batch == maxBatchesPerRun || !pause()) {
+                break;
+            }
+        }
+
+        purgedCounter.increment(purged);
+        lastPurgedCount.set(purged);
+        tableSize.set(tokenRepository.count());
+        log.info(">> purged {} expired refresh tokens, {} rows remain", purged, tableSize.get());
+        return purged;
+    }
+
+    private boolean pause() {
+        if (batchPause.isZero() || batchPause.isNegative()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // 종료 중인 경우이므로, 남은 행은 다음 실행에서 삭제한다.
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
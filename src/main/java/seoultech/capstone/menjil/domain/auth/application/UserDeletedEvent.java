@@ -0,0 +1,17 @@
+package seoultech.capstone.menjil.domain.auth.application;
+
+import lombok.Getter;
+
+/**
+ * 사용자를 삭제한 뒤 발행한다.
+ * JwtTokenProvider 에서 해당 사용자의 검증된 Access Token 캐시를 제거한다.
+ */
+@Getter
+public class UserDeletedEvent {
+
+    private final String userId;
+
+    public UserDeletedEvent(String userId) {
+        this.userId = userId;
+    }
+}
@@ -1,26 +1,53 @@
 package seoultech.capstone.menjil.domain.auth.dao;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import seoultech.capstone.menjil.domain.auth.domain.RefreshToken;
 import seoultech.capstone.menjil.domain.auth.domain.User;
 
 import java.sql.Timestamp;
+import java.util.List;
 import java.util.Optional;
 
 public interface TokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findRefreshTokenByToken(String token);
+    Optional<RefreshToken> findRefreshTokenByTokenDigest(String tokenDigest);
+
+    // Refresh Token 은 digest 로 저장되므로, 원문을 digest 로 바꾸어 조회한다.
+    default Optional<RefreshToken> findRefreshTokenByToken(String token) {
+        return findRefreshTokenByTokenDigest(RefreshToken.digest(token));
+    }
 
     Optional<RefreshToken> findRefreshTokenByUserId(User user);
 
     void deleteRefreshTokenByUserId(User user);
 
     @Modifying(clearAutomatically = true)   // 1차캐시와 db 동기화. 그렇지 않으면 test code 에서 오류 발생
-    @Query("UPDATE RefreshToken r SET r.token = :token, r.expiryDate = :timestamp WHERE r.userId = :user")
-    int updateRefreshToken(@Param("user") User user, @Param("token") String token, @Param("timestamp") Timestamp timestamp);
+    @Query("UPDATE RefreshToken r SET r.tokenDigest = :tokenDigest, r.expiryDate = :timestamp WHERE r.userId = :user")
+    int updateRefreshTokenDigest(@Param("user") User user, @Param("tokenDigest") String tokenDigest,
+                                 @Param("timestamp") Timestamp timestamp);
+
+    default int updateRefreshToken(User user, String token, Timestamp timestamp) {
+        return updateRefreshTokenDigest(user, RefreshToken.digest(token), timestamp);
+    }
+
+    /*
+    만료된 Refresh Token 을 나누어 삭제하기 위해, expiry_date 인덱스 순서대로 pageable 크기만큼의 id 를 가져온다.
+     */
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiryDate < :now ORDER BY r.expiryDate")
+    List<Long> findExpiredTokenIds(@Param("now") Timestamp now, Pageable pageable);
+
+    /*
+    기본 키로 삭제하여 잠그는 행을 최소화하고, 호출마다 별도의 트랜잭션으로 커밋하여 잠금을 오래 잡지 않는다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 
     @Modifying
     @Query(
@@ -2,13 +2,17 @@ package seoultech.capstone.menjil.domain.auth.domain;
 
 import lombok.*;
 
+import seoultech.capstone.menjil.global.common.util.Sha256;
+
 import javax.persistence.*;
 import java.sql.Timestamp;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 인자 없는 기본 생성자 필요
 @Entity
-@Table(name = "refresh_token")
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_token_digest", columnNames = "token_digest"),
+        indexes = @Index(name = "idx_refresh_token_expiry_date", columnList = "expiry_date"))
 public class RefreshToken {
 
     @Id
@@ -19,8 +23,13 @@ public class RefreshToken {
     @JoinColumn(name = "user_id")
     private User userId;
 
-    @Column(name = "token", nullable = false, unique = true)
-    private String token;
+    /*
+    Refresh Token 원문 대신 SHA-256 digest(hex, 64자)를 저장하고 조회한다.
+    고정 길이 컬럼이므로 unique index 의 크기가 작고, db 가 유출되어도 토큰 원문을 알 수 없다.
+    기존 token 컬럼의 데이터는 resources/db/refresh_token_digest.sql 로 옮긴다.
+     */
+    @Column(name = "token_digest", nullable = false, columnDefinition = "CHAR(64)")
+    private String tokenDigest;
 
     @Column(name = "expiry_date", nullable = false, columnDefinition = "TIMESTAMP")
     private Timestamp expiryDate;
@@ -29,7 +38,11 @@ public class RefreshToken {
     private RefreshToken(Long id, User userId, String token, Timestamp expiryDate) {
         this.id = id;
         this.userId = userId;
-        this.token = token;
+        this.tokenDigest = digest(token);
         this.expiryDate = expiryDate;
     }
+
+    public static String digest(String token) {
+        return Sha256.hex(token);
+    }
 }
@@ -0,0 +1,28 @@
+package seoultech.capstone.menjil.domain.auth.jwt;
+
+import java.security.Principal;
+
+/**
+ * JwtAuthenticationFilter 에서 Access Token 을 검증한 뒤, 요청에 담아 전달하는 사용자 정보
+ * Controller 에서는 Principal 파라미터 혹은 @RequestAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE) 로 받을 수 있으며,
+ * 토큰을 다시 파싱하거나 db 를 조회하지 않아도 된다.
+ */
+public class AuthenticatedUser implements Principal {
+
+    public static final String REQUEST_ATTRIBUTE = "authenticatedUser";
+
+    private final String userId;
+
+    public AuthenticatedUser(String userId) {
+        this.userId = userId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+}
@@ -5,13 +5,19 @@ import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.IOException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+import seoultech.capstone.menjil.domain.auth.application.UserDeletedEvent;
 import seoultech.capstone.menjil.domain.auth.dao.TokenRepository;
 import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
 import seoultech.capstone.menjil.domain.auth.domain.RefreshToken;
 import seoultech.capstone.menjil.domain.auth.domain.User;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+import seoultech.capstone.menjil.global.common.util.Sha256;
 import seoultech.capstone.menjil.global.exception.CustomException;
 import seoultech.capstone.menjil.global.exception.ErrorCode;
 
@@ -31,16 +37,26 @@ public class JwtTokenProvider {
      */
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
+    private final ExpiringLruCache<String, String> verifiedAccessTokenCache;
+    private final ExpiringLruCache<String, String> validatedRefreshTokenCache;
     private final SecretKey JWT_SECRET_TOKEN_KEY;
+    private final JwtParser jwtParser;     // 생성 후에는 변경되지 않으므로, 여러 스레드에서 함께 사용한다.
     private static final long accessTokenExpiresIn = Duration.ofMinutes(60).toMillis();    // 만료시간 1시간
     private static final long refreshTokenExpiresIn = Duration.ofDays(14).toMillis();     // 만료시간 14일
 
     public JwtTokenProvider(@Value("${jwt.secret.token}") String tokenKey,
-                            UserRepository userRepository, TokenRepository tokenRepository) {
+                            UserRepository userRepository, TokenRepository tokenRepository,
+                            @Qualifier("verifiedAccessTokenCache") ExpiringLruCache<String, String> verifiedAccessTokenCache,
+                            @Qualifier("validatedRefreshTokenCache") ExpiringLruCache<String, String> validatedRefreshTokenCache) {
         byte[] accessKeyBytes = Decoders.BASE64.decode(tokenKey);
         JWT_SECRET_TOKEN_KEY = Keys.hmacShaKeyFor(accessKeyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(JWT_SECRET_TOKEN_KEY)
+                .build();
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
+        this.verifiedAccessTokenCache = verifiedAccessTokenCache;
+        this.validatedRefreshTokenCache = validatedRefreshTokenCache;
     }
 
     // 테스트 코드 작성을 위해, LocalDateTime 값을 파라미터로 받도록 수정.
@@ -77,82 +93,128 @@ public class JwtTokenProvider {
     /* Access Token 검증 */
     @Transactional
     public TokenStatus validateAccessToken(String accessToken) {
+        return authenticateAccessToken(accessToken).getStatus();
+    }
+
+    /*
+     Access Token 을 한 번만 파싱하여, 검증 결과와 user id 를 함께 돌려준다.
+     이미 검증한 Access Token 은 토큰의 만료 시각(exp)까지 캐시에 보관하여, 서명 검증과 db 조회를 다시 하지 않는다.
+     */
+    @Transactional
+    public TokenValidationResult authenticateAccessToken(String accessToken) {
+        String tokenDigest = StringUtils.hasText(accessToken) ? Sha256.base64Url(accessToken) : null;
+        if (tokenDigest != null) {
+            Optional<String> cachedUserId = verifiedAccessTokenCache.get(tokenDigest);
+            if (cachedUserId.isPresent()) {
+                return TokenValidationResult.reliable(cachedUserId.get());
+            }
+        }
+
         try {
             log.info(">> validate Access Token <<");
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(this.JWT_SECRET_TOKEN_KEY)
-                    .build()
-                    .parseClaimsJws(accessToken);
+            Jws<Claims> claims = jwtParser.parseClaimsJws(accessToken);
 
             /* case 2: Check if user id in Access Token is not exists */
             String userIdInToken = claims.getBody().get("user_id").toString();
             User user = userRepository.findUserById(userIdInToken)
                     .orElse(null);
             if (user == null) {
-                return TokenStatus.USER_ID_NOT_EXIST;
+                return TokenValidationResult.of(TokenStatus.USER_ID_NOT_EXIST);
+            }
+
+            Date expiration = claims.getBody().getExpiration();
+            if (tokenDigest != null && expiration != null) {
+                verifiedAccessTokenCache.put(tokenDigest, userIdInToken, expiration.toInstant());
             }
+            return TokenValidationResult.reliable(userIdInToken);
 
             /* case 3 : Other Exception */
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("[Error] Invalid JWT Access Token", e);
-            return TokenStatus.OTHER_EXCEPTION;
+            return TokenValidationResult.of(TokenStatus.OTHER_EXCEPTION);
         }
         /* case 1: Check if Access Token has expired */ catch (ExpiredJwtException e) {
-            return TokenStatus.EXPIRED;
+            return TokenValidationResult.of(TokenStatus.EXPIRED);
         } catch (UnsupportedJwtException e) {
             log.error("[Error] Unsupported JWT Access Token", e);
-            return TokenStatus.OTHER_EXCEPTION;
+            return TokenValidationResult.of(TokenStatus.OTHER_EXCEPTION);
         } catch (IllegalArgumentException e) {
             log.error("[Error] JWT Access Token claims string is empty.", e);
-            return TokenStatus.OTHER_EXCEPTION;
+            return TokenValidationResult.of(TokenStatus.OTHER_EXCEPTION);
         }
-        return TokenStatus.RELIABLE;
     }
 
     /* Refresh Token 검증 */
     @Transactional
     public TokenStatus validateRefreshToken(String refreshToken) {
+        return authenticateRefreshToken(refreshToken).getStatus();
+    }
+
+    /*
+     Refresh Token 을 한 번만 파싱하여, 검증 결과와 user id 를 함께 돌려준다.
+     Access Token 을 재발급할 때, getUserId() 로 같은 토큰을 다시 파싱하지 않아도 된다.
+     db 에서 존재를 확인한 Refresh Token 의 digest 는 잠시 캐시에 보관하여, 다시 조회하지 않는다.
+     */
+    @Transactional
+    public TokenValidationResult authenticateRefreshToken(String refreshToken) {
         try {
             log.info(">> validate Refresh Token <<");
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(this.JWT_SECRET_TOKEN_KEY)
-                    .build()
-                    .parseClaimsJws(refreshToken);
+            Jws<Claims> claims = jwtParser.parseClaimsJws(refreshToken);
+            String userIdInToken = claims.getBody().get("user_id").toString();
+
+            String tokenDigest = RefreshToken.digest(refreshToken);
+            if (validatedRefreshTokenCache.get(tokenDigest).isPresent()) {
+                return TokenValidationResult.reliable(userIdInToken);
+            }
 
             /* case 1: db 조회해서 Refresh Token 값이 존재하는지 확인
              존재하지 않는다면, 바로 로그아웃 처리 */
-            Optional<RefreshToken> findTokenInDb = tokenRepository.findRefreshTokenByToken(refreshToken);
+            Optional<RefreshToken> findTokenInDb = tokenRepository.findRefreshTokenByTokenDigest(tokenDigest);
             if (findTokenInDb.isEmpty()) {
-                return TokenStatus.REFRESH_TOKEN_NOT_EXIST;
+                return TokenValidationResult.of(TokenStatus.REFRESH_TOKEN_NOT_EXIST);
             }
+            validatedRefreshTokenCache.put(tokenDigest, userIdInToken);
+            return TokenValidationResult.reliable(userIdInToken);
 
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("[Error] Invalid JWT Refresh Token", e);
-            return TokenStatus.OTHER_EXCEPTION;
+            return TokenValidationResult.of(TokenStatus.OTHER_EXCEPTION);
         }
         /* 토큰 유효 기간이 만료된 경우 검증 */ catch (ExpiredJwtException e) {
             log.error("[Error] Expired JWT Refresh Token", e);
-            return TokenStatus.EXPIRED;
+            return TokenValidationResult.of(TokenStatus.EXPIRED);
         } catch (UnsupportedJwtException e) {
             log.error("[Error] Unsupported JWT Refresh Token", e);
-            return TokenStatus.OTHER_EXCEPTION;
+            return TokenValidationResult.of(TokenStatus.OTHER_EXCEPTION);
         } catch (IllegalArgumentException e) {
             log.error("[Error] JWT Refresh Token claims string is empty", e);
-            return TokenStatus.OTHER_EXCEPTION;
+            return TokenValidationResult.of(TokenStatus.OTHER_EXCEPTION);
         }
-        return TokenStatus.RELIABLE;
     }
 
     public String getUserId(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                    .setSigningKey(this.JWT_SECRET_TOKEN_KEY)
-                    .build()
-                    .parseClaimsJws(token);
+            Jws<Claims> claims = jwtParser.parseClaimsJws(token);
             return claims.getBody().get("user_id").toString();
         } catch (IOException e) {
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
+    /**
+     * 삭제된 사용자의 Access Token, Refresh Token 이 캐시에 남아 있지 않도록 제거한다.
+     */
+    @EventListener
+    public void handleUserDeleted(UserDeletedEvent event) {
+        int removed = verifiedAccessTokenCache.invalidateIf((tokenDigest, userId) -> userId.equals(event.getUserId()));
+        log.info(">> removed {} verified access tokens of deleted user", removed);
+        invalidateRefreshTokens(event.getUserId());
+    }
+
+    /**
+     * db 의 Refresh Token 이 바뀌거나(로그인) 삭제될 때(로그아웃) 호출하여, 이전 Refresh Token 을 캐시에서 제거한다.
+     */
+    public void invalidateRefreshTokens(String userId) {
+        validatedRefreshTokenCache.invalidateIf((tokenDigest, cachedUserId) -> cachedUserId.equals(userId));
+    }
 }
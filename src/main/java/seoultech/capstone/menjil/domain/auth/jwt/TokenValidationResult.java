@@ -0,0 +1,31 @@
+package seoultech.capstone.menjil.domain.auth.jwt;
+
+import lombok.Getter;
+
+/**
+ * 토큰을 한 번만 파싱하여 얻은 검증 결과
+ * RELIABLE 인 경우에만 userId 가 존재한다.
+ */
+@Getter
+public class TokenValidationResult {
+
+    private final TokenStatus status;
+    private final String userId;
+
+    private TokenValidationResult(TokenStatus status, String userId) {
+        this.status = status;
+        this.userId = userId;
+    }
+
+    public static TokenValidationResult reliable(String userId) {
+        return new TokenValidationResult(TokenStatus.RELIABLE, userId);
+    }
+
+    public static TokenValidationResult of(TokenStatus status) {
+        return new TokenValidationResult(status, null);
+    }
+
+    public boolean isReliable() {
+        return status == TokenStatus.RELIABLE;
+    }
+}
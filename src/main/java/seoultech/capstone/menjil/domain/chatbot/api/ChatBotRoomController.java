@@ -11,6 +11,7 @@ import seoultech.capstone.menjil.domain.chatbot.api.dto.request.DeleteChatBotRoo
 import seoultech.capstone.menjil.domain.chatbot.application.ChatBotRoomService;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomIdResponse;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomResponse;
+import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatMessageHistoryResponse;
 import seoultech.capstone.menjil.global.common.dto.ApiResponse;
 import seoultech.capstone.menjil.global.exception.CustomException;
 import seoultech.capstone.menjil.global.exception.ErrorCode;
@@ -51,6 +52,20 @@ public class ChatBotRoomController {
         }
     }
 
+    /**
+     * 챗봇 대화방의 채팅 내역을 최신 메시지부터 불러온다.
+     * 응답의 nextCursor 를 cursor 로 전달하면, 그 이전의 내역을 이어서 불러온다.
+     */
+    @GetMapping("/room/messages")
+    public ResponseEntity<ApiResponse<ChatMessageHistoryResponse>> getChatMessageHistory(
+            @RequestParam("roomId") String roomId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "30") int size) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(SuccessCode.MESSAGE_LOAD_SUCCESS,
+                        chatBotRoomService.getChatMessageHistory(roomId, cursor, size)));
+    }
+
     @PostMapping("/room/quit")
     public ResponseEntity<ApiResponse<?>> quitRoom(@RequestBody DeleteChatBotRoomRequest request) {
         boolean result = chatBotRoomService.quitRoom(request.toServiceRequest());
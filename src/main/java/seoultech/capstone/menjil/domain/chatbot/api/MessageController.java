@@ -2,11 +2,13 @@ package seoultech.capstone.menjil.domain.chatbot.api;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import seoultech.capstone.menjil.domain.chatbot.application.ChatMessageSaveFailedEvent;
 import seoultech.capstone.menjil.domain.chatbot.application.MessageService;
 import seoultech.capstone.menjil.domain.chatbot.dto.request.MessageRequest;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageResponse;
@@ -16,8 +18,6 @@ import seoultech.capstone.menjil.global.exception.SuccessCode;
 
 import javax.validation.Valid;
 
-import static seoultech.capstone.menjil.global.exception.ErrorIntValue.TIME_INPUT_INVALID;
-
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -33,8 +33,8 @@ public class MessageController {
         // 1. Save Client's chat message and return MessageRespones DTO
         Object result = messageService.saveAndSendClientChatMessage(messageRequest);
         if (result instanceof Integer) {
-            // 1-1. error handling
-            handleSaveErrorResult((Integer) result, roomId);
+            // 1-1. error handling: 시간 형식이 잘못된 경우
+            handleSaveErrorResult(roomId);
             return;
         }
 
@@ -44,10 +44,9 @@ public class MessageController {
                 sendSuccessResponse(roomId, SuccessCode.MESSAGE_SEND_SUCCESS, (MessageResponse) result);
 
                 // 3. Send AI initial message
-                // TODO: 이 부분은 추후 비동기 처리 고려
-                if (handleAIMessage(roomId, messageRequest)) return;
+                handleAIMessage(roomId, messageRequest);
 
-                // 4. Send the answer of Client's Question
+                // 4. Send the answer of Client's Question (non-blocking)
                 handleClientQuestion(roomId, messageRequest);
                 break;
             case AI_SELECT:
@@ -65,28 +64,42 @@ public class MessageController {
         }
     }
 
-    protected void handleSaveErrorResult(int saveResult, String roomId) {
-        ErrorCode code = (saveResult == TIME_INPUT_INVALID.getValue()) ? ErrorCode.TIME_INPUT_INVALID : ErrorCode.INTERNAL_SERVER_ERROR;
-        sendErrorResponse(roomId, code);
+    /**
+     * saveAndSendClientChatMessage 는 저장을 기다리지 않으므로, 오류 값은 시간 형식이 잘못된 경우(TIME_INPUT_INVALID)뿐이다.
+     */
+    protected void handleSaveErrorResult(String roomId) {
+        sendErrorResponse(roomId, ErrorCode.TIME_INPUT_INVALID);
     }
 
-    protected boolean handleAIMessage(String roomId, MessageRequest messageRequest) {
+    /**
+     * 안내 메시지는 ChatMessageWriter 에 맡기고 바로 전송한다. 저장 실패는 handleChatMessageSaveFailure 에서 알린다.
+     */
+    protected void handleAIMessage(String roomId, MessageRequest messageRequest) {
         MessageResponse response = messageService.sendAIMessage(roomId, messageRequest);
-        if (response == null) {
-            sendErrorResponse(roomId, ErrorCode.INTERNAL_SERVER_ERROR);
-            return true;
-        }
         sendSuccessResponse(roomId, SuccessCode.AI_QUESTION_RESPONSE, response);
-        return false;
     }
 
+    /**
+     * 질문 처리 파이프라인을 구독만 하고 바로 반환한다.
+     * 결과는 callback 에서 전송되므로, clientInboundChannel 의 스레드가 GPT, Lambda 응답을 기다리지 않는다.
+     * 스트리밍 모드에서는 GPT 요약의 부분 응답(AI_SUMMARY_STREAM)도 같은 방식으로 전송된다.
+     */
     protected void handleClientQuestion(String roomId, MessageRequest messageRequest) {
-        MessageResponse resultResponse = messageService.handleQuestion(roomId, messageRequest);
-        if (resultResponse == null) {
-            sendErrorResponse(roomId, ErrorCode.INTERNAL_SERVER_ERROR);
-        } else {
-            sendSuccessResponse(roomId, SuccessCode.AI_QUESTION_RESPONSE, resultResponse);
-        }
+        messageService.handleQuestion(roomId, messageRequest)
+                .subscribe(resultResponse -> sendSuccessResponse(roomId, SuccessCode.AI_QUESTION_RESPONSE, resultResponse),
+                        e -> {
+                            log.error(">> An error occurred while handling the question of room {}", roomId, e);
+                            sendErrorResponse(roomId, ErrorCode.INTERNAL_SERVER_ERROR);
+                        });
+    }
+
+    /**
+     * 메시지는 저장이 끝나기 전에 전송되므로, 저장에 실패한 경우 채팅방에 따로 알린다.
+     * 사용자의 메시지, AI 안내 메시지, 질문 응답의 저장 실패는 모두 이 이벤트로만 전달된다.
+     */
+    @EventListener
+    public void handleChatMessageSaveFailure(ChatMessageSaveFailedEvent event) {
+        sendErrorResponse(event.getRoomId(), ErrorCode.CHAT_MESSAGE_SAVE_FAILED);
     }
 
     protected void sendErrorResponse(String roomId, ErrorCode code) {
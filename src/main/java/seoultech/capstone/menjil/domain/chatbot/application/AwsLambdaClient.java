@@ -3,44 +3,56 @@ package seoultech.capstone.menjil.domain.chatbot.application;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 import seoultech.capstone.menjil.domain.chatbot.dto.request.AwsLambdaRequest;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
+import seoultech.capstone.menjil.global.resilience.UpstreamGuard;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Service
-public class AwsLambdaClient {
+@ConditionalOnProperty(name = "chatbot.similarity-search.engine", havingValue = "lambda", matchIfMissing = true)
+public class AwsLambdaClient implements SimilaritySearch {
 
     private final WebClient apiGatewayClient;
+    private final UpstreamGuard lambdaGuard;
 
     @Autowired
-    public AwsLambdaClient(@Qualifier("apiGatewayClient") WebClient apiGatewayClient) {
+    public AwsLambdaClient(@Qualifier("apiGatewayClient") WebClient apiGatewayClient,
+                           @Qualifier("lambdaGuard") UpstreamGuard lambdaGuard) {
         this.apiGatewayClient = apiGatewayClient;
+        this.lambdaGuard = lambdaGuard;
     }
 
-    public List<AwsLambdaResponse> sendRequestToLambda(AwsLambdaRequest awsLambdaRequest) {
-        try {
-            return apiGatewayClient.post()
-                    .uri("/api/lambda/question")
-                    .body(BodyInserters.fromValue(awsLambdaRequest))
-                    .retrieve()
-                    .bodyToFlux(AwsLambdaResponse.class)
-                    .timeout(Duration.ofSeconds(180))
-                    .onErrorResume(e -> {
-                        log.error("An error occurred while fetching from Lambda", e);
-                        return Mono.empty();
-                    })
-                    .collectList()
-                    .block();
-        } catch (Exception e) {
-            log.error(">> An exception occurred while making the AWS Lambda request", e);
-            return null;
-        }
+    @Override
+    public Mono<List<AwsLambdaResponse>> findSimilarQuestions(AwsLambdaRequest request) {
+        return sendRequestToLambda(request);
+    }
+
+    /**
+     * 응답을 block() 으로 기다리지 않고 Mono 로 돌려준다.
+     * 요청이 실패하거나 timeout 이 발생하면, 유사 질문이 없는 것과 동일하게 빈 리스트를 전달한다.
+     * timeout 은 고정값(180초) 대신 lambdaGuard 가 최근 응답 시간으로 정하며,
+     * Lambda 가 응답하지 않는 동안에는 요청을 보내지 않고 바로 빈 리스트를 전달한다.
+     */
+    public Mono<List<AwsLambdaResponse>> sendRequestToLambda(AwsLambdaRequest awsLambdaRequest) {
+        Mono<List<AwsLambdaResponse>> request = apiGatewayClient.post()
+                .uri("/api/lambda/question")
+                .body(BodyInserters.fromValue(awsLambdaRequest))
+                .retrieve()
+                .bodyToFlux(AwsLambdaResponse.class)
+                .collectList();
+
+        return lambdaGuard.protect(request)
+                .onErrorResume(e -> {
+                    log.error("An error occurred while fetching from Lambda", e);
+                    return Mono.just(new ArrayList<>());
+                });
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package seoultech.capstone.menjil.domain.chatbot.application;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,20 +13,24 @@ import seoultech.capstone.menjil.domain.chatbot.application.dto.request.ChatBotR
 import seoultech.capstone.menjil.domain.chatbot.application.dto.request.DeleteChatBotRoomServiceRequest;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomIdResponse;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomResponse;
+import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatMessageHistoryResponse;
 import seoultech.capstone.menjil.domain.chatbot.dao.ChatBotRoomRepository;
 import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatBotRoom;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
 import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageOrderResponse;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.RoomLatestQuestion;
 import seoultech.capstone.menjil.global.exception.CustomException;
 import seoultech.capstone.menjil.global.exception.ErrorCode;
 import seoultech.capstone.menjil.global.handler.AwsS3Handler;
 
+import java.net.URL;
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -43,6 +46,9 @@ public class ChatBotRoomService {
     @Value("${cloud.aws.s3.bucket}")
     private String BUCKET_NAME;
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final Sort HISTORY_SORT = Sort.by(Sort.Order.desc("time"), Sort.Order.desc("_id"));
+
     public ChatBotRoomIdResponse enterChatBotRoom(ChatBotRoomServiceRequest serviceRequest) {
 
         // case 0: 사용자 닉네임이 DB에 존재하지 않을 경우 예외발생
@@ -115,10 +121,11 @@ public class ChatBotRoomService {
 
     /**
      * 사용자의 챗봇 대화방 목록을 불러온다.
+     * 마지막 질문은 ChatBotRoom 에 함께 저장되어 있으므로, 하나의 쿼리로 마지막 질문 시간 순으로 정렬하여 가져온다.
      */
-    // TODO: 이 메서드는 추후 개별 함수로 분리 및, 성능 테스트를 시도해볼 것.
     public List<ChatBotRoomResponse> getAllChatBotRooms(String initiatorNickname) {
-        List<ChatBotRoom> chatBotRooms = chatBotRoomRepository.findAllByInitiatorNickname(initiatorNickname);
+        List<ChatBotRoom> chatBotRooms = chatBotRoomRepository
+                .findAllByInitiatorNicknameOrderByLastQuestionTimeDesc(initiatorNickname);
 
         if (chatBotRooms.isEmpty()) {
             return Collections.emptyList();
@@ -135,45 +142,103 @@ public class ChatBotRoomService {
         Map<String, User> nicknameToUser = users.stream()
                 .collect(Collectors.toMap(User::getNickname, Function.identity()));
 
-        return chatBotRooms.stream().map(room -> {
+        Map<String, URL> imgUrls = generatePresignedUrlsForUserImages(users);
+        Map<String, RoomLatestQuestion> backfilledQuestions = backfillLastQuestions(chatBotRooms);
+
+        List<ChatBotRoomResponse> responses = chatBotRooms.stream().map(room -> {
             User user = nicknameToUser.get(room.getRecipientNickname());
             if (user == null) {
                 // 적절한 예외 처리 또는 대체 로직
                 throw new CustomException(ErrorCode.USER_NOT_EXISTED);
             }
 
-            Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "time"));
-            Page<ChatMessage> chatMessagePage = messageRepository
-                    .findByRoomIdAndMessageTypeSortedByTimeDesc(room.getRoomId(), MessageType.C_QUESTION, pageable);
-
-            ChatMessage latestChatMessage = null;
-            LocalDateTime latestMessageTime = null;
-            if (!chatMessagePage.isEmpty()) {
-                latestChatMessage = chatMessagePage.getContent().get(0);
-                latestMessageTime = latestChatMessage.getTime();
-            }
+            RoomLatestQuestion backfilled = backfilledQuestions.get(room.getRoomId());
 
             return ChatBotRoomResponse.builder()
                     .roomId(room.getRoomId())
                     .recipientNickname(room.getRecipientNickname())
-                    .imgUrl(generatePreSignedUrlForUserImage(user))
+                    .imgUrl(String.valueOf(imgUrls.get(user.getImgUrl())))
                     .createdDateTime(room.getCreatedDate())
-                    .questionMessage(latestChatMessage != null ? latestChatMessage.getMessage() : null)
-                    .questionMessageDateTime(latestMessageTime)
+                    .questionMessage(backfilled != null ? backfilled.getMessage() : room.getLastQuestion())
+                    .questionMessageDateTime(backfilled != null ? backfilled.getTime() : room.getLastQuestionTime())
                     .build();
             })
-            .sorted(Comparator.comparing(ChatBotRoomResponse::getQuestionMessageDateTime,
-                    Comparator.nullsLast(Comparator.reverseOrder())))
             .collect(Collectors.toList());
+
+        // 채워 넣은 대화방이 있는 경우에만, 정렬 순서가 달라질 수 있으므로 다시 정렬한다.
+        if (!backfilledQuestions.isEmpty()) {
+            responses.sort(Comparator.comparing(ChatBotRoomResponse::getQuestionMessageDateTime,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        return responses;
+    }
+
+    /**
+     * 마지막 질문 컬럼이 추가되기 전에 만들어진 대화방은 값이 비어 있으므로, MongoDB 에서 한 번의 aggregation 으로 가져와 채워 넣는다.
+     * 채워 넣은 대화방은 질문이 없더라도 lastQuestionBackfilled 를 true 로 바꾸어, 다음부터는 MongoDB 를 조회하지 않는다.
+     */
+    private Map<String, RoomLatestQuestion> backfillLastQuestions(List<ChatBotRoom> chatBotRooms) {
+        List<String> roomIds = chatBotRooms.stream()
+                .filter(room -> !room.isLastQuestionBackfilled())
+                .map(ChatBotRoom::getRoomId)
+                .collect(Collectors.toList());
+        if (roomIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<RoomLatestQuestion> latestQuestions = messageRepository
+                .findLatestMessagesByRoomIds(roomIds, MessageType.C_QUESTION);
+        latestQuestions.forEach(question -> chatBotRoomRepository.updateLastQuestion(
+                question.getRoomId(), question.getMessage(), question.getTime()));
+        chatBotRoomRepository.markLastQuestionBackfilled(roomIds);
+        return latestQuestions.stream()
+                .collect(Collectors.toMap(RoomLatestQuestion::getRoomId, Function.identity()));
     }
 
-    private String generatePreSignedUrlForUserImage(User mentor) {
+    /**
+     * 채팅 내역을 최신 메시지부터 size 개씩 불러온다. (keyset pagination)
+     * cursor 가 없으면 가장 최근 내역을, 있으면 cursor 보다 이전의 내역을 불러온다.
+     * offset 을 사용하지 않으므로, 대화가 길어져도 오래된 내역을 불러오는 속도가 일정하다.
+     */
+    public ChatMessageHistoryResponse getChatMessageHistory(String roomId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 조회한다.
+        Pageable pageable = PageRequest.of(0, pageSize + 1, HISTORY_SORT);
+
+        List<ChatMessage> chatMessages;
+        if (cursor == null || cursor.isBlank()) {
+            chatMessages = messageRepository.findChatMessageByRoomId(roomId, pageable);
+        } else {
+            MessageHistoryCursor historyCursor = MessageHistoryCursor.decode(cursor);
+            chatMessages = messageRepository.findChatMessagesBefore(roomId, historyCursor.getTime(),
+                    historyCursor.getId(), pageable);
+        }
+
+        boolean hasNext = chatMessages.size() > pageSize;
+        List<ChatMessage> page = new ArrayList<>(hasNext ? chatMessages.subList(0, pageSize) : chatMessages);
+        String nextCursor = hasNext ? MessageHistoryCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        // 화면에는 오래된 메시지부터 표시하므로, 시간순으로 뒤집는다.
+        Collections.reverse(page);
+        List<MessageOrderResponse> messages = IntStream.range(0, page.size())
+                .mapToObj(i -> MessageOrderResponse.fromChatMessageEntity(page.get(i), i + 1))
+                .collect(Collectors.toList());
+
+        return ChatMessageHistoryResponse.builder()
+                .messages(messages)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private Map<String, URL> generatePresignedUrlsForUserImages(List<User> mentors) {
         // 주의! 만료 기간은 최대 7일까지 설정 가능하다.
         int AWS_URL_DURATION = 7;
 
-        return String.valueOf(awsS3Handler.generatePresignedUrl(
-                BUCKET_NAME, mentor.getImgUrl(), Duration.ofDays(AWS_URL_DURATION)
-        ));
+        List<String> imgUrls = mentors.stream()
+                .map(User::getImgUrl)
+                .collect(Collectors.toList());
+        return awsS3Handler.generatePresignedUrls(BUCKET_NAME, imgUrls, Duration.ofDays(AWS_URL_DURATION));
     }
 
     public boolean quitRoom(DeleteChatBotRoomServiceRequest request) {
@@ -1,59 +1,163 @@
 package seoultech.capstone.menjil.domain.chatbot.application;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import seoultech.capstone.menjil.domain.chatbot.dto.Message;
 import seoultech.capstone.menjil.domain.chatbot.dto.request.ChatGptRequest;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.ChatGptResponse;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.ChatGptStreamResponse;
 import seoultech.capstone.menjil.global.exception.CustomException;
 import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.resilience.UpstreamGuard;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
 public class ChatGptService {
 
     private final WebClient chatGptWebClient;
+    private final UpstreamGuard openAiGuard;
 
-    public ChatGptService(@Qualifier("chatGptWebClient") WebClient chatGptWebClient) {
+    public ChatGptService(@Qualifier("chatGptWebClient") WebClient chatGptWebClient,
+                          @Qualifier("openAiGuard") UpstreamGuard openAiGuard) {
         this.chatGptWebClient = chatGptWebClient;
+        this.openAiGuard = openAiGuard;
     }
 
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SERVER_SENT_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final String STREAM_DONE = "[DONE]";
+    private static final long SUMMARY_COMPLETION_TOKENS = 200;
+
     @Value("${openai.model}")
     private String OPEN_AI_MODEL;
 
     /**
      * 질문 데이터를 받아서 세 줄 요약을 수행
+     * 응답을 기다리며 스레드를 점유하지 않으므로, MessageService 의 질문 처리 파이프라인에서 사용한다.
+     * OpenAI 가 응답하지 않는 동안에는 openAiGuard 가 요청을 바로 거절한다. (UPSTREAM_UNAVAILABLE)
+     */
+    public Mono<Message> getMessageFromGptAsync(String question) {
+        ChatGptRequest chatGptRequest = createSummaryRequest(question, null);
+
+        return openAiGuard.protect(sendRequestToGpt(chatGptRequest))
+                .map(response -> Message.builder()
+                        .role(response.getChoices().get(0).getMessage().getRole())
+                        .content(response.getChoices().get(0).getMessage().getContent())
+                        .build())
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * 세 줄 요약 결과를 한 번에 받지 않고, 생성되는 대로 나누어 받는다.
+     * 각 원소는 이전 원소에 이어지는 부분 문자열(delta)이다.
+     */
+    public Flux<String> streamMessageFromGpt(String question) {
+        return openAiGuard.protect(sendStreamRequestToGpt(createSummaryRequest(question, true)));
+    }
+
+    /**
+     * 여러 질문을 하나의 요청으로 세 줄 요약한다. (GptSummaryBatcher 에서 사용)
+     * 결과는 questions 와 같은 순서이며, 응답에서 찾을 수 없는 질문의 자리는 null 이다.
+     * 응답 형식이 올바르지 않으면 모든 자리가 null 이므로, 호출하는 쪽에서 질문별 요청으로 다시 보내야 한다.
+     */
+    public Mono<List<Message>> getBatchSummariesFromGptAsync(List<String> questions) {
+        ChatGptRequest chatGptRequest = createBatchSummaryRequest(questions);
+
+        return openAiGuard.protect(sendRequestToGpt(chatGptRequest))
+                .map(response -> parseBatchSummaries(
+                        response.getChoices().get(0).getMessage().getContent(), questions.size()))
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.INTERNAL_SERVER_ERROR)));
+    }
+
+    /**
+     * 세 줄 요약 요청 하나가 사용할 토큰 수의 추정치 (분당 토큰 수 제한에 사용)
+     * 한국어는 대략 한 글자가 한 토큰 이상이므로 글자 수를 그대로 사용하고, 응답으로 사용할 토큰 수를 더한다.
      */
-    public Message getMessageFromGpt(String question) {
-        String msg = "내 질문은 \"" + question + "\" 이야. " + "이 문장을 세 줄로 요약해줘";
+    public long estimateSummaryTokens(String question) {
+        return createSummaryPrompt(question).length() + SUMMARY_COMPLETION_TOKENS;
+    }
 
-        ChatGptRequest chatGptRequest = ChatGptRequest
+    private String createSummaryPrompt(String question) {
+        return "내 질문은 \"" + question + "\" 이야. " + "이 문장을 세 줄로 요약해줘";
+    }
+
+    private ChatGptRequest createSummaryRequest(String question, Boolean stream) {
+        String msg = createSummaryPrompt(question);
+
+        return ChatGptRequest
                 .builder()
                 .model(OPEN_AI_MODEL)
                 .messages(List.of(Message.builder()
                         .role("user")
                         .content(msg)
                         .build()))
+                .stream(stream)
                 .build();
+    }
 
-        ChatGptResponse response = sendRequestToGpt(chatGptRequest).block();
+    private ChatGptRequest createBatchSummaryRequest(List<String> questions) {
+        // 질문에 따옴표, 줄바꿈이 포함되어도 구분되도록 JSON 으로 전달한다.
+        List<BatchQuestion> batchQuestions = IntStream.range(0, questions.size())
+                .mapToObj(i -> new BatchQuestion(i + 1, questions.get(i)))
+                .collect(Collectors.toList());
+        String msg = "다음 JSON 배열의 각 question 을 세 줄로 요약해줘. "
+                + "다른 설명 없이 [{\"id\": 번호, \"summary\": \"요약\"}] 형식의 JSON 배열로만 답해줘.\n"
+                + new Gson().toJson(batchQuestions);
+
+        return ChatGptRequest
+                .builder()
+                .model(OPEN_AI_MODEL)
+                .messages(List.of(Message.builder()
+                        .role("user")
+                        .content(msg)
+                        .build()))
+                .build();
+    }
 
-        if (response != null) {
-            return Message.builder()
-                    .role(response.getChoices().get(0).getMessage().getRole())
-                    .content(response.getChoices().get(0).getMessage().getContent())
-                    .build();
-        } else {
-            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    List<Message> parseBatchSummaries(String content, int size) {
+        List<Message> summaries = new ArrayList<>(Collections.nCopies(size, null));
+        if (content == null) {
+            return summaries;
+        }
+        // 응답을 ```json ... ``` 으로 감싸는 경우가 있으므로, 배열 부분만 사용한다.
+        int start = content.indexOf('[');
+        int end = content.lastIndexOf(']');
+        if (start < 0 || end < start) {
+            log.warn(">> batch summary response is not a JSON array");
+            return summaries;
+        }
+        try {
+            BatchSummary[] parsed = new Gson().fromJson(content.substring(start, end + 1), BatchSummary[].class);
+            Arrays.stream(parsed)
+                    .filter(summary -> summary != null && summary.id >= 1 && summary.id <= size)
+                    .filter(summary -> summary.summary != null && !summary.summary.isBlank())
+                    .forEach(summary -> summaries.set(summary.id - 1, Message.builder()
+                            .role("assistant")
+                            .content(summary.summary.trim())
+                            .build()));
+        } catch (JsonParseException e) {
+            log.warn(">> failed to parse batch summary response", e);
         }
+        return summaries;
     }
 
     // to use baseUrl in parameter because of test code.
@@ -78,4 +182,37 @@ public class ChatGptService {
                 .bodyToMono(ChatGptResponse.class);*/
     }
 
+    public Flux<String> sendStreamRequestToGpt(ChatGptRequest gptRequest) {
+        Gson gson = new Gson();
+        String jsonToStr = gson.toJson(gptRequest);
+
+        return chatGptWebClient.post()
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(BodyInserters.fromValue(jsonToStr))
+                .retrieve()
+                .bodyToFlux(SERVER_SENT_EVENT_TYPE)
+                .map(event -> Objects.requireNonNullElse(event.data(), ""))
+                .filter(data -> !data.isBlank())
+                .takeWhile(data -> !STREAM_DONE.equals(data))  // OpenAI 는 마지막에 data: [DONE] 을 보낸다
+                .map(data -> gson.fromJson(data, ChatGptStreamResponse.class))
+                .filter(response -> response.getChoices() != null && !response.getChoices().isEmpty())
+                .map(response -> response.getChoices().get(0).getDelta())
+                .filter(delta -> delta != null && delta.getContent() != null)
+                .map(Message::getContent);
+    }
+
+    private static class BatchQuestion {
+        private final int id;
+        private final String question;
+
+        private BatchQuestion(int id, String question) {
+            this.id = id;
+            this.question = question;
+        }
+    }
+
+    private static class BatchSummary {
+        private int id;
+        private String summary;
+    }
 }
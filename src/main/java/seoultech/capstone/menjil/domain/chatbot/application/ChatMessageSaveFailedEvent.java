@@ -0,0 +1,20 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import lombok.Getter;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+
+/**
+ * ChatMessageWriter 가 메시지를 저장하지 못한 경우 발행한다.
+ * 메시지는 이미 채팅방에 전송된 뒤이므로, MessageController 에서 채팅방에 오류를 알린다.
+ */
+@Getter
+public class ChatMessageSaveFailedEvent {
+
+    private final String roomId;
+    private final ChatMessage chatMessage;
+
+    public ChatMessageSaveFailedEvent(ChatMessage chatMessage) {
+        this.roomId = chatMessage.getRoomId();
+        this.chatMessage = chatMessage;
+    }
+}
@@ -0,0 +1,163 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지를 write-behind 방식으로 저장한다.
+ * 호출한 스레드는 저장을 기다리지 않고, 하나의 writer 스레드가 대기열의 메시지를 들어온 순서대로 모아
+ * insertMany(ordered) 로 저장한다. 저장하는 동안 들어온 메시지는 다음 묶음에 포함되므로,
+ * 부하가 높을수록 한 번에 저장하는 개수가 늘어난다.
+ * 묶음 저장에 실패하면 메시지를 하나씩 다시 저장하고, 그래도 실패한 메시지는 ChatMessageSaveFailedEvent 로 알린다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter implements DisposableBean {
+
+    private final MessageRepository messageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+    private final int queueCapacity;
+    private final Scheduler scheduler;
+
+    private final Queue<PendingWrite> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    @Autowired
+    public ChatMessageWriter(MessageRepository messageRepository, ApplicationEventPublisher eventPublisher,
+                             @Value("${chatbot.message-write.max-batch-size:100}") int maxBatchSize,
+                             @Value("${chatbot.message-write.queue-capacity:10000}") int queueCapacity) {
+        this(messageRepository, eventPublisher, maxBatchSize, queueCapacity,
+                Schedulers.newSingle("chat-message-writer"));
+    }
+
+    // 테스트 코드 작성을 위해, scheduler 를 파라미터로 받도록 작성.
+    ChatMessageWriter(MessageRepository messageRepository, ApplicationEventPublisher eventPublisher,
+                      int maxBatchSize, int queueCapacity, Scheduler scheduler) {
+        this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.queueCapacity = queueCapacity;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 메시지의 id 를 정하고 대기열에 넣은 뒤 바로 반환한다.
+     * 돌려주는 Mono 는 저장이 끝나면 완료되며, 구독하지 않아도 메시지는 저장된다.
+     */
+    public Mono<Void> write(ChatMessage message) {
+        message.assignIdIfAbsent();
+        PendingWrite pendingWrite = new PendingWrite(message);
+
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            log.error(">> chat message write queue is full. room id: {}", message.getRoomId());
+            fail(pendingWrite, new CustomException(ErrorCode.CHAT_MESSAGE_SAVE_FAILED));
+            return pendingWrite.sink.asMono();
+        }
+        queue.offer(pendingWrite);
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::drain);
+        }
+        return pendingWrite.sink.asMono();
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    @Override
+    public void destroy() {
+        // 종료하기 전에, 남아 있는 메시지를 저장한다.
+        drainQueue();
+        scheduler.dispose();
+    }
+
+    private void drain() {
+        do {
+            drainQueue();
+            drainScheduled.set(false);
+            // flag 를 내리는 사이에 들어온 메시지가 있으면, 이어서 처리한다.
+        } while (!queue.isEmpty() && drainScheduled.compareAndSet(false, true));
+    }
+
+    // writer 스레드와 종료 시점의 destroy() 가 동시에 저장하지 않도록(순서가 바뀌지 않도록) 한다.
+    private synchronized void drainQueue() {
+        List<PendingWrite> batch = new ArrayList<>(maxBatchSize);
+        PendingWrite pendingWrite;
+        while ((pendingWrite = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            batch.add(pendingWrite);
+            if (batch.size() >= maxBatchSize) {
+                flush(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        try {
+            messageRepository.insert(batch.stream()
+                    .map(pendingWrite -> pendingWrite.message)
+                    .collect(Collectors.toList()));
+            batch.forEach(pendingWrite -> pendingWrite.sink.tryEmitEmpty());
+        } catch (RuntimeException e) {
+            // 일부만 저장되었을 수 있으므로, id 를 기준으로 덮어쓰는 save 로 하나씩 다시 저장한다.
+            log.warn(">> messageRepository.insert() error occurred, retry one by one. batch size: {}", batch.size(), e);
+            batch.forEach(this::saveOne);
+        }
+    }
+
+    private void saveOne(PendingWrite pendingWrite) {
+        try {
+            messageRepository.save(pendingWrite.message);
+            pendingWrite.sink.tryEmitEmpty();
+        } catch (RuntimeException e) {
+            log.error(">> messageRepository.save() error occurred ", e);
+            fail(pendingWrite, e);
+        }
+    }
+
+    private void fail(PendingWrite pendingWrite, RuntimeException e) {
+        pendingWrite.sink.tryEmitError(e);
+        try {
+            eventPublisher.publishEvent(new ChatMessageSaveFailedEvent(pendingWrite.message));
+        } catch (RuntimeException listenerError) {
+            log.error(">> failed to notify chat message save failure", listenerError);
+        }
+    }
+
+    private static final class PendingWrite {
+        private final ChatMessage message;
+        // 결과를 보관하므로, 저장이 끝난 뒤에 구독해도 결과를 받을 수 있다.
+        private final Sinks.Empty<Void> sink = Sinks.empty();
+
+        private PendingWrite(ChatMessage message) {
+            this.message = message;
+        }
+    }
+}
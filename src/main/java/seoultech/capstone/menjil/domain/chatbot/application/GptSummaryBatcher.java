@@ -0,0 +1,174 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dto.Message;
+import seoultech.capstone.menjil.global.ratelimit.QueuedRateLimiter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 동시에 들어온 세 줄 요약 요청들을 모아, 하나의 ChatGPT 요청으로 보낸다.
+ * 진행 중인 요청이 없으면(부하가 낮으면) 기다리지 않고 바로 보내고,
+ * 진행 중인 요청이 있는 동안 들어온 질문은 최대 maxWait 동안, 최대 maxBatchSize 개까지 모아서 보낸다.
+ * 묶음 응답에서 찾을 수 없는 질문은 질문별 요청으로 다시 보낸다.
+ * OpenAI 의 분당 요청 수는 실제로 보내는 요청마다 한 번 차감한다. 사용자별 한도와 토큰 수는 질문을 넘기기 전에 MessageService 에서 차감한다.
+ */
+@Slf4j
+@Component
+public class GptSummaryBatcher {
+
+    private final ChatGptService chatGptService;
+    private final QueuedRateLimiter openAiRateLimiter;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Scheduler scheduler;
+
+    private final Object lock = new Object();
+    private List<PendingSummary> pending = new ArrayList<>();     // lock 으로 보호
+    private Disposable scheduledFlush;                            // lock 으로 보호
+    private int inFlightRequests;                                 // lock 으로 보호
+
+    private final AtomicLong batchRequestCount = new AtomicLong();
+    private final AtomicLong batchedQuestionCount = new AtomicLong();
+
+    @Autowired
+    public GptSummaryBatcher(ChatGptService chatGptService,
+                             @Qualifier("openAiRateLimiter") QueuedRateLimiter openAiRateLimiter,
+                             @Value("${chatbot.gpt-batch.max-batch-size:8}") int maxBatchSize,
+                             @Value("${chatbot.gpt-batch.max-wait-millis:50}") long maxWaitMillis) {
+        this(chatGptService, openAiRateLimiter, maxBatchSize, Duration.ofMillis(maxWaitMillis), Schedulers.parallel());
+    }
+
+    // 테스트 코드 작성을 위해, scheduler 를 파라미터로 받도록 작성.
+    GptSummaryBatcher(ChatGptService chatGptService, QueuedRateLimiter openAiRateLimiter, int maxBatchSize,
+                      Duration maxWait, Scheduler scheduler) {
+        this.chatGptService = chatGptService;
+        this.openAiRateLimiter = openAiRateLimiter;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWait = maxWait;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<Message> summarize(String question) {
+        return Mono.defer(() -> {
+            PendingSummary summary = new PendingSummary(question);
+            List<PendingSummary> batch = null;
+            synchronized (lock) {
+                pending.add(summary);
+                if (inFlightRequests == 0 || pending.size() >= maxBatchSize) {
+                    batch = takePending();
+                } else if (scheduledFlush == null) {
+                    scheduledFlush = scheduler.schedule(this::flush, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+                }
+            }
+            if (batch != null) {
+                dispatch(batch);
+            }
+            return summary.sink.asMono();
+        });
+    }
+
+    public long getBatchRequestCount() {
+        return batchRequestCount.get();
+    }
+
+    public long getBatchedQuestionCount() {
+        return batchedQuestionCount.get();
+    }
+
+    private void flush() {
+        List<PendingSummary> batch;
+        synchronized (lock) {
+            scheduledFlush = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        dispatch(batch);
+    }
+
+    // lock 을 잡은 상태에서 호출한다.
+    private List<PendingSummary> takePending() {
+        List<PendingSummary> batch = pending;
+        pending = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.dispose();
+            scheduledFlush = null;
+        }
+        inFlightRequests++;
+        return batch;
+    }
+
+    private void dispatch(List<PendingSummary> batch) {
+        Mono<Void> request = batch.size() == 1
+                ? sendSingle(batch.get(0))
+                : sendBatch(batch);
+        request.doFinally(signal -> {
+                    synchronized (lock) {
+                        inFlightRequests--;
+                    }
+                })
+                .subscribe();
+    }
+
+    private Mono<Void> sendSingle(PendingSummary summary) {
+        return openAiRateLimiter.acquireRequest()
+                .then(Mono.defer(() -> chatGptService.getMessageFromGptAsync(summary.question)))
+                .doOnNext(summary.sink::tryEmitValue)
+                .doOnError(summary.sink::tryEmitError)
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private Mono<Void> sendBatch(List<PendingSummary> batch) {
+        batchRequestCount.incrementAndGet();
+        batchedQuestionCount.addAndGet(batch.size());
+        List<String> questions = batch.stream()
+                .map(summary -> summary.question)
+                .collect(Collectors.toList());
+
+        return openAiRateLimiter.acquireRequest()
+                .then(Mono.defer(() -> chatGptService.getBatchSummariesFromGptAsync(questions)))
+                .flatMap(messages -> {
+                    List<PendingSummary> missing = new ArrayList<>();
+                    for (int i = 0; i < batch.size(); i++) {
+                        if (messages.get(i) == null) {
+                            missing.add(batch.get(i));
+                        } else {
+                            batch.get(i).sink.tryEmitValue(messages.get(i));
+                        }
+                    }
+                    if (!missing.isEmpty()) {
+                        log.warn(">> {} of {} questions are missing in batch summary response, retry one by one",
+                                missing.size(), batch.size());
+                    }
+                    return Mono.when(missing.stream().map(this::sendSingle).collect(Collectors.toList()));
+                })
+                .doOnError(e -> batch.forEach(summary -> summary.sink.tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private static final class PendingSummary {
+        private final String question;
+        private final Sinks.One<Message> sink = Sinks.one();
+
+        private PendingSummary(String question) {
+            this.question = question;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+/**
+ * 외부 모델 없이 문장을 고정 길이 벡터로 변환한다. (feature hashing)
+ * 정규화된 문장의 단어와 글자 2-gram, 3-gram 을 hash 하여 dimension 크기의 float 배열에 누적한 뒤,
+ * 길이가 1이 되도록 정규화한다. 따라서 두 벡터의 내적이 곧 cosine 유사도가 된다.
+ * 한국어는 조사, 어미 때문에 단어 단위로는 잘 일치하지 않으므로 글자 n-gram 을 함께 사용한다.
+ */
+public final class HashingTextEmbedder {
+
+    private final int dimension;
+
+    public HashingTextEmbedder(int dimension) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("dimension must be positive");
+        }
+        this.dimension = dimension;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        String normalized = QuestionNormalizer.normalize(text);
+        if (normalized.isEmpty()) {
+            return vector;
+        }
+
+        for (String word : normalized.split(" ")) {
+            addFeature(vector, "w:" + word);
+        }
+        // 단어 경계도 n-gram 에 포함되도록 앞뒤에 공백을 붙인다.
+        String padded = " " + normalized + " ";
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                addFeature(vector, padded.substring(i, i + n));
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    /**
+     * 두 벡터가 embed() 로 만들어졌다면, 내적이 cosine 유사도이다.
+     */
+    public static float dot(float[] vectors, int offset, float[] query) {
+        float sum = 0f;
+        for (int i = 0; i < query.length; i++) {
+            sum += vectors[offset + i] * query[i];
+        }
+        return sum;
+    }
+
+    private void addFeature(float[] vector, String feature) {
+        int hash = feature.hashCode();
+        // hash 충돌로 인한 편향을 줄이기 위해, 다른 bit 로 부호를 정한다.
+        float sign = ((hash >>> 31) == 0) ? 1f : -1f;
+        vector[Math.floorMod(hash * 31 + 17, dimension)] += sign;
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0.0;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        if (norm == 0.0) {
+            return;
+        }
+        float inverse = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= inverse;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
+import seoultech.capstone.menjil.domain.chatbot.dto.request.AwsLambdaRequest;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lambda 를 호출하지 않고, 서버 메모리의 임베딩 인덱스로 유사 질문을 찾는다.
+ * 멘토별로 답변 완료된 QaList 의 question_summary, question_summary_en 을 벡터로 변환하여 float 배열 하나에 저장하고,
+ * 요청이 들어오면 cosine 유사도 상위 k 개를 AwsLambdaResponse 로 돌려준다.
+ * 멘토의 답변 완료 QaList 개수가 달라지면 인덱스를 다시 만든다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "chatbot.similarity-search.engine", havingValue = "local")
+public class LocalSimilaritySearch implements SimilaritySearch {
+
+    private static final int EMBEDDING_DIMENSION = 1024;
+
+    private final QaListRepository qaListRepository;
+    private final HashingTextEmbedder embedder = new HashingTextEmbedder(EMBEDDING_DIMENSION);
+    private final Map<String, MentorIndex> indexes = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    @Value("${chatbot.similarity-search.top-k:3}")
+    private int TOP_K;
+
+    /**
+     * 인덱스가 최신인지(답변 완료 QaList 개수) 확인하는 주기
+     * 이 시간 동안은 MongoDB 조회 없이 메모리에서만 검색한다.
+     */
+    @Value("${chatbot.similarity-search.refresh-seconds:30}")
+    private long REFRESH_SECONDS;
+
+    @Autowired
+    public LocalSimilaritySearch(QaListRepository qaListRepository) {
+        this(qaListRepository, Clock.systemUTC());
+    }
+
+    // 테스트 코드 작성을 위해, Clock 을 파라미터로 받도록 작성.
+    LocalSimilaritySearch(QaListRepository qaListRepository, Clock clock) {
+        this.qaListRepository = qaListRepository;
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<List<AwsLambdaResponse>> findSimilarQuestions(AwsLambdaRequest request) {
+        // 인덱스를 새로 만드는 경우 MongoDB 조회가 필요하므로 boundedElastic 에서 수행한다.
+        return Mono.fromCallable(() -> search(request.getMentorNickname(), request.getQuestion_summary()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.error("An error occurred while searching similar questions in local index", e);
+                    return Mono.just(new ArrayList<>());
+                });
+    }
+
+    List<AwsLambdaResponse> search(String mentorNickname, String questionSummary) {
+        MentorIndex index = getIndex(mentorNickname);
+        return index.findTopK(embedder.embed(questionSummary), TOP_K);
+    }
+
+    private MentorIndex getIndex(String mentorNickname) {
+        Instant now = clock.instant();
+        MentorIndex index = indexes.get(mentorNickname);
+        if (index != null && now.isBefore(index.checkedAt.plus(Duration.ofSeconds(REFRESH_SECONDS)))) {
+            return index;
+        }
+
+        long answeredCount = qaListRepository.countByMentorNicknameAndAnswerIsNotNull(mentorNickname);
+        if (index != null && index.answeredCount == answeredCount) {
+            index.checkedAt = now;
+            return index;
+        }
+
+        MentorIndex newIndex = buildIndex(
+                qaListRepository.findAnsweredQuestionSummariesByMentor(mentorNickname), answeredCount, now);
+        indexes.put(mentorNickname, newIndex);
+        log.info(">> similarity index of mentor {} is rebuilt: {} questions", mentorNickname, answeredCount);
+        return newIndex;
+    }
+
+    private MentorIndex buildIndex(List<QaList> qaLists, long answeredCount, Instant now) {
+        int dimension = embedder.getDimension();
+        // 한 질문에 대해 한국어, 영어 요약을 각각 하나의 행으로 저장한다.
+        float[] vectors = new float[qaLists.size() * 2 * dimension];
+        int[] rowToQuestion = new int[qaLists.size() * 2];
+        int rows = 0;
+        for (int q = 0; q < qaLists.size(); q++) {
+            QaList qaList = qaLists.get(q);
+            for (String text : new String[]{qaList.getQuestionSummary(), qaList.getQuestionSummaryEn()}) {
+                if (text == null || text.isBlank()) {
+                    continue;
+                }
+                System.arraycopy(embedder.embed(text), 0, vectors, rows * dimension, dimension);
+                rowToQuestion[rows++] = q;
+            }
+        }
+        return new MentorIndex(qaLists, Arrays.copyOf(vectors, rows * dimension),
+                Arrays.copyOf(rowToQuestion, rows), dimension, answeredCount, now);
+    }
+
+    static class MentorIndex {
+        private final String[] questionIds;
+        private final String[] questionSummaries;
+        private final String[] answers;
+        private final float[] vectors;          // rows * dimension, 행 단위로 이어서 저장
+        private final int[] rowToQuestion;
+        private final int dimension;
+        private final long answeredCount;
+        private volatile Instant checkedAt;
+
+        private MentorIndex(List<QaList> qaLists, float[] vectors, int[] rowToQuestion,
+                            int dimension, long answeredCount, Instant checkedAt) {
+            int size = qaLists.size();
+            this.questionIds = new String[size];
+            this.questionSummaries = new String[size];
+            this.answers = new String[size];
+            for (int i = 0; i < size; i++) {
+                QaList qaList = qaLists.get(i);
+                questionIds[i] = qaList.get_id();
+                questionSummaries[i] = qaList.getQuestionSummary();
+                answers[i] = qaList.getAnswer();
+            }
+            this.vectors = vectors;
+            this.rowToQuestion = rowToQuestion;
+            this.dimension = dimension;
+            this.answeredCount = answeredCount;
+            this.checkedAt = checkedAt;
+        }
+
+        List<AwsLambdaResponse> findTopK(float[] query, int k) {
+            // 한국어, 영어 요약 중 더 높은 유사도를 질문의 유사도로 사용한다.
+            float[] scores = new float[questionIds.length];
+            Arrays.fill(scores, Float.NEGATIVE_INFINITY);
+            for (int row = 0; row < rowToQuestion.length; row++) {
+                float score = HashingTextEmbedder.dot(vectors, row * dimension, query);
+                int q = rowToQuestion[row];
+                if (score > scores[q]) {
+                    scores[q] = score;
+                }
+            }
+
+            // k 가 작으므로, 정렬하지 않고 상위 k 개만 유지한다.
+            int[] top = new int[Math.min(k, scores.length)];
+            int count = 0;
+            for (int q = 0; q < scores.length; q++) {
+                if (!(scores[q] > 0f)) {
+                    continue;
+                }
+                int pos = count < top.length ? count++ : top.length;
+                while (pos > 0 && scores[top[pos - 1]] < scores[q]) {
+                    if (pos < top.length) {
+                        top[pos] = top[pos - 1];
+                    }
+                    pos--;
+                }
+                if (pos < top.length) {
+                    top[pos] = q;
+                }
+            }
+
+            List<AwsLambdaResponse> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int q = top[i];
+                double percent = Math.round(scores[q] * 10000.0) / 100.0;
+                result.add(AwsLambdaResponse.of(questionIds[q], questionSummaries[q], answers[q], percent));
+            }
+            return result;
+        }
+    }
+}
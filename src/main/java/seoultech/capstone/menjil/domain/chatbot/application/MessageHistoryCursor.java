@@ -0,0 +1,51 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import lombok.Getter;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 채팅 내역 keyset pagination 의 cursor.
+ * 마지막으로 전달한(가장 오래된) 메시지의 (time, _id) 를 담으며, 클라이언트에는 내부 구조를 알 수 없는 문자열로 전달한다.
+ */
+@Getter
+public class MessageHistoryCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime time;
+    private final String id;
+
+    private MessageHistoryCursor(LocalDateTime time, String id) {
+        this.time = time;
+        this.id = id;
+    }
+
+    public static MessageHistoryCursor of(ChatMessage chatMessage) {
+        return new MessageHistoryCursor(chatMessage.getTime(), chatMessage.get_id());
+    }
+
+    public String encode() {
+        String raw = time + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MessageHistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index <= 0 || index == raw.length() - 1) {
+                throw new CustomException(ErrorCode.MESSAGE_CURSOR_INVALID);
+            }
+            return new MessageHistoryCursor(LocalDateTime.parse(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.MESSAGE_CURSOR_INVALID);
+        }
+    }
+}
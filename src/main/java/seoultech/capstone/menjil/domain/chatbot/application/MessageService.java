@@ -2,45 +2,125 @@ package seoultech.capstone.menjil.domain.chatbot.application;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dao.ChatBotRoomRepository;
 import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
 import seoultech.capstone.menjil.domain.chatbot.dao.RoomRepository;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
 import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
 import seoultech.capstone.menjil.domain.chatbot.domain.Room;
 import seoultech.capstone.menjil.domain.chatbot.domain.SenderType;
+import seoultech.capstone.menjil.domain.chatbot.dto.MentorLambdaResponses;
 import seoultech.capstone.menjil.domain.chatbot.dto.Message;
 import seoultech.capstone.menjil.domain.chatbot.dto.request.AwsLambdaRequest;
 import seoultech.capstone.menjil.domain.chatbot.dto.request.MessageRequest;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageOrderResponse;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageResponse;
-
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+import seoultech.capstone.menjil.global.cache.SingleFlight;
+import seoultech.capstone.menjil.global.common.util.Sha256;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.ratelimit.QueuedRateLimiter;
+
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
-import static seoultech.capstone.menjil.global.exception.ErrorIntValue.INTERNAL_SERVER_ERROR;
 import static seoultech.capstone.menjil.global.exception.ErrorIntValue.TIME_INPUT_INVALID;
 
 @Slf4j
 @Service
 public class MessageService {
 
-    private final AwsLambdaClient awsLambdaClient;
+    private static final String WAIT_FOR_MENTOR_MESSAGE = "AI 챗봇을 종료하고 멘토 답변 기다리기";
+
+    private final SimilaritySearch similaritySearch;
     private final ChatGptService chatGptService;
+    private final GptSummaryBatcher gptSummaryBatcher;
     private final MessageRepository messageRepository;
+    private final ChatMessageWriter chatMessageWriter;
     private final RoomRepository roomRepository;
+    private final ChatBotRoomRepository chatBotRoomRepository;
+    private final QaListRepository qaListRepository;
+    private final ExpiringLruCache<String, Message> gptSummaryCache;
+    private final ExpiringLruCache<String, MentorLambdaResponses> lambdaResponseCache;
+    private final ExpiringLruCache<String, Long> mentorAnsweredCountCache;
+    private final QueuedRateLimiter openAiRateLimiter;
+
+    /**
+     * 여러 멘티가 같은 질문을 동시에 보내는 경우, 진행 중인 GPT, Lambda 요청을 공유한다.
+     */
+    private final SingleFlight<String> gptSummaryFlight = new SingleFlight<>("gpt-summary");
+    private final SingleFlight<String> gptStreamFlight = new SingleFlight<>("gpt-stream");
+    private final SingleFlight<String> lambdaResponseFlight = new SingleFlight<>("lambda-response");
+
+    /**
+     * 정규화된 질문 -> 해당 GPT 요청에 합류한 채팅방들의 대기 안내(AI_QUEUE_WAIT) 전달 함수
+     */
+    private final Map<String, QueueWaitListeners> queueWaitListeners = new ConcurrentHashMap<>();
+
+    /**
+     * GPT 요약을 기다리는 동안, 원문 질문으로 Lambda 유사 질문 검색을 미리 수행할지 여부
+     * 미리 받은 결과의 similarity_percent 가 threshold 이상이면, 요약 기반 결과를 기다리지 않고 바로 사용한다.
+     */
+    @Value("${chatbot.speculative-lookup.enabled:false}")
+    private boolean speculativeLookupEnabled;
+
+    @Value("${chatbot.speculative-lookup.similarity-threshold:80.0}")
+    private double speculativeSimilarityThreshold;
+
+    /**
+     * 멘토 한 명에 대해 보관할 Lambda 유사 질문 검색 결과의 최대 개수
+     */
+    @Value("${cache.lambda-response.max-size-per-mentor:20}")
+    private int lambdaResponseMaxSizePerMentor;
+
+    /**
+     * GPT 세 줄 요약을 스트리밍으로 받아, 생성되는 대로 채팅방에 전달할지 여부
+     */
+    @Value("${chatbot.gpt-stream.enabled:false}")
+    private boolean gptStreamEnabled;
 
     @Autowired
-    public MessageService(AwsLambdaClient awsLambdaClient, ChatGptService chatGptService,
-                          MessageRepository messageRepository, RoomRepository roomRepository) {
-        this.awsLambdaClient = awsLambdaClient;
+    public MessageService(SimilaritySearch similaritySearch, ChatGptService chatGptService,
+                          GptSummaryBatcher gptSummaryBatcher, MessageRepository messageRepository,
+                          ChatMessageWriter chatMessageWriter, RoomRepository roomRepository,
+                          ChatBotRoomRepository chatBotRoomRepository, QaListRepository qaListRepository,
+                          @Qualifier("gptSummaryCache") ExpiringLruCache<String, Message> gptSummaryCache,
+                          @Qualifier("lambdaResponseCache") ExpiringLruCache<String, MentorLambdaResponses> lambdaResponseCache,
+                          @Qualifier("mentorAnsweredCountCache") ExpiringLruCache<String, Long> mentorAnsweredCountCache,
+                          @Qualifier("openAiRateLimiter") QueuedRateLimiter openAiRateLimiter) {
+        this.similaritySearch = similaritySearch;
         this.chatGptService = chatGptService;
+        this.gptSummaryBatcher = gptSummaryBatcher;
         this.messageRepository = messageRepository;
+        this.chatMessageWriter = chatMessageWriter;
         this.roomRepository = roomRepository;
+        this.chatBotRoomRepository = chatBotRoomRepository;
+        this.qaListRepository = qaListRepository;
+        this.gptSummaryCache = gptSummaryCache;
+        this.lambdaResponseCache = lambdaResponseCache;
+        this.mentorAnsweredCountCache = mentorAnsweredCountCache;
+        this.openAiRateLimiter = openAiRateLimiter;
     }
 
     public boolean createWelcomeMessage(String roomId, String initiatorNickname, String recipientNickname) {
@@ -72,14 +152,27 @@ public class MessageService {
         // MessageRequest -> ChatMessage(Entity) 변환
         ChatMessage clientChatMessage = convertMessageRequestToChatMessageEntity(messageRequest, dateTime);
 
-        // save entity to mongoDB
-        if (!saveChatMessageInDb(clientChatMessage)) {
-            return INTERNAL_SERVER_ERROR.getValue();  // handle the failure case appropriately
+        // save entity to mongoDB: 저장을 기다리지 않고 바로 전송한다. 저장에 실패하면 채팅방에 따로 알린다.
+        Mono<Void> saved = chatMessageWriter.write(clientChatMessage);
+        if (clientChatMessage.getMessageType() == MessageType.C_QUESTION) {
+            updateLastQuestionOfChatBotRoom(clientChatMessage, saved);
         }
 
         return MessageResponse.fromChatMessageEntity(clientChatMessage);
     }
 
+    /**
+     * 질문이 저장되면, 대화방 목록에 표시할 마지막 질문을 갱신한다.
+     * writer 스레드가 기다리지 않도록, 갱신은 별도의 스레드에서 수행한다.
+     */
+    private void updateLastQuestionOfChatBotRoom(ChatMessage question, Mono<Void> saved) {
+        saved.publishOn(Schedulers.boundedElastic())
+                .then(Mono.fromRunnable(() -> chatBotRoomRepository.updateLastQuestion(
+                        question.getRoomId(), question.getMessage(), question.getTime())))
+                .subscribe(null, e -> log.error(">> failed to update last question of chatbot room. room id: {}",
+                        question.getRoomId(), e));
+    }
+
     private ChatMessage convertMessageRequestToChatMessageEntity(MessageRequest messageRequest, LocalDateTime dateTime) {
         return MessageRequest.toChatMessageEntity(messageRequest, dateTime);
     }
@@ -99,33 +192,104 @@ public class MessageService {
                 .time(now)
                 .build();
 
-        if (!saveChatMessageInDb(message)) {
-            return null;  // DB save error: server error
-        }
+        chatMessageWriter.write(message);
         return MessageResponse.fromChatMessageEntity(message);
     }
 
-    public MessageResponse handleQuestion(String roomId, MessageRequest messageRequest) {
-        String mentorNickname = findMentorNickname(roomId, messageRequest.getSenderNickname());
-
-        // 1. ChatGPT에게 질문 데이터 전달하여 세줄 요약 결과를 받아온다.
-        Message message = fetchGptMessage(messageRequest.getMessage());
+    /**
+     * 질문에 대한 응답(GPT 세 줄 요약 -> Lambda 유사 질문 검색 -> DB 저장)을 하나의 Reactor 파이프라인으로 구성한다.
+     * 외부 API 응답을 기다리는 동안 스레드를 점유하지 않으며, blocking 방식인 JPA, MongoRepository 호출은
+     * boundedElastic 스케줄러에서 수행한다. 메시지 저장은 ChatMessageWriter 가 모아서 수행하므로 기다리지 않는다.
+     * 채팅방에 전송해야 할 메시지를 순서대로 전달하며, 스트리밍 모드가 아니라면 AI_SUMMARY_LIST 응답 하나만 전달한다.
+     */
+    public Flux<MessageResponse> handleQuestion(String roomId, MessageRequest messageRequest) {
+        return Mono.fromCallable(() -> findMentorNickname(roomId, messageRequest.getSenderNickname()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(mentorNickname -> {
+                    // GPT 요청이 대기열에 들어가면, 예상 대기 시간을 먼저 전달한다.
+                    Sinks.Many<MessageResponse> waitNotices = Sinks.many().unicast().onBackpressureBuffer();
+                    Consumer<Duration> onQueued = estimatedWait -> waitNotices.tryEmitNext(
+                            createQueueWaitResponse(roomId, mentorNickname, estimatedWait));
+
+                    Flux<MessageResponse> responses;
+                    if (!gptStreamEnabled) {
+                        // 1. ChatGPT에게 질문 데이터 전달하여 세줄 요약 결과를 받아온다.
+                        Mono<Message> gptMessage = fetchGptMessage(messageRequest, onQueued);
+                        responses = answerWithSimilarQuestions(roomId, mentorNickname, messageRequest, gptMessage).flux();
+                    } else {
+                        responses = streamGptSummaryAndAnswer(roomId, mentorNickname, messageRequest, onQueued);
+                    }
+                    // 외부 API 가 응답하지 않는 경우, 오류 대신 멘토 답변을 기다리도록 안내하는 메시지를 바로 전달한다.
+                    responses = responses.onErrorResume(this::isUpstreamUnavailable,
+                            e -> answerWithFallback(roomId, mentorNickname, messageRequest).flux());
+                    return Flux.merge(waitNotices.asFlux(),
+                            responses.doFinally(signal -> waitNotices.tryEmitComplete()));
+                });
+    }
 
-        // 2. Lambda로 요청을 보내 결과를 받아온다.
-        List<AwsLambdaResponse> awsLambdaResponses = fetchLambdaResponses(messageRequest, mentorNickname, message);
-        if (awsLambdaResponses == null) {
-            return null; // Handle appropriately
+    private boolean isUpstreamUnavailable(Throwable e) {
+        if (e instanceof CustomException) {
+            ErrorCode errorCode = ((CustomException) e).getErrorCode();
+            return errorCode == ErrorCode.UPSTREAM_UNAVAILABLE || errorCode == ErrorCode.RATE_LIMIT_EXCEEDED;
         }
+        return e instanceof TimeoutException;
+    }
+
+    private MessageResponse createQueueWaitResponse(String roomId, String mentorNickname, Duration estimatedWait) {
+        long seconds = Math.max(1, (estimatedWait.toMillis() + 999) / 1000);
+        return MessageResponse.builder()
+                .roomId(roomId)
+                .senderType(SenderType.AI)
+                .senderNickname(mentorNickname)
+                .message("지금은 질문이 많아 답변까지 약 " + seconds + "초 정도 걸릴 것 같아요. 잠시만 기다려 주세요!")
+                .messageType(MessageType.AI_QUEUE_WAIT)
+                .time(getCurrentTimeWithNanos())
+                .build();
+    }
 
-        // 3. create Lambda ChatMessage Entity
-        ChatMessage lambdaResponseChatMessage = createLambdaChatMessage(roomId, mentorNickname,
-                messageRequest, awsLambdaResponses);
+    private Mono<MessageResponse> answerWithFallback(String roomId, String mentorNickname,
+                                                     MessageRequest messageRequest) {
+        log.warn(">> AI answer is replaced with fallback message in room {}", roomId);
+        return saveChatMessageInDbAsync(createFallbackChatMessage(roomId, mentorNickname, messageRequest))
+                .map(MessageResponse::fromChatMessageEntity);
+    }
 
-        // 4. 응답 메시지 db에 저장
-        if (!saveChatMessageInDb(lambdaResponseChatMessage)) {
-            return null;  // handle the failure case appropriately
-        }
-        return MessageResponse.fromChatMessageEntity(lambdaResponseChatMessage);
+    /**
+     * GPT 요약 결과를 생성되는 대로 AI_SUMMARY_STREAM 부분 응답으로 전달하고,
+     * 요약이 끝나면 전체 요약을 한 번만 저장한다.
+     */
+    private Flux<MessageResponse> streamGptSummaryAndAnswer(String roomId, String mentorNickname,
+                                                            MessageRequest messageRequest, Consumer<Duration> onQueued) {
+        // 부분 응답 전송, 전체 요약 조합, Lambda 요청이 하나의 GPT 요청을 공유하도록 cache 한다.
+        Flux<String> summaryChunks = streamGptMessage(messageRequest, onQueued).cache();
+        Mono<Message> gptMessage = summaryChunks
+                .collect(Collectors.joining())
+                .map(content -> Message.builder().role("assistant").content(content).build())
+                .doOnNext(message -> gptSummaryCache.put(QuestionNormalizer.normalize(messageRequest.getMessage()), message))
+                .cache();
+
+        Flux<MessageResponse> partialResponses = summaryChunks
+                .map(chunk -> createSummaryStreamResponse(roomId, mentorNickname, chunk));
+        Mono<MessageResponse> savedSummary = gptMessage
+                .map(message -> createSummaryChatMessage(roomId, mentorNickname, message.getContent()))
+                .flatMap(this::saveChatMessageInDbAsync)
+                .map(MessageResponse::fromChatMessageEntity);
+
+        // 두 작업은 동시에 수행하되, 전체 요약 -> AI_SUMMARY_LIST 순서로 전달한다.
+        return Flux.mergeSequential(Flux.concat(partialResponses, savedSummary),
+                answerWithSimilarQuestions(roomId, mentorNickname, messageRequest, gptMessage));
+    }
+
+    private Mono<MessageResponse> answerWithSimilarQuestions(String roomId, String mentorNickname,
+                                                             MessageRequest messageRequest, Mono<Message> gptMessage) {
+        // 2. Lambda로 요청을 보내 결과를 받아온다.
+        return fetchSimilarQuestions(messageRequest, mentorNickname, gptMessage)
+                // 3. create Lambda ChatMessage Entity
+                .map(awsLambdaResponses -> createLambdaChatMessage(roomId, mentorNickname,
+                        messageRequest, awsLambdaResponses))
+                // 4. 응답 메시지 db에 저장
+                .flatMap(this::saveChatMessageInDbAsync)
+                .map(MessageResponse::fromChatMessageEntity);
     }
 
     /**
@@ -141,21 +305,226 @@ public class MessageService {
     }
 
 
-    private Message fetchGptMessage(String userMessage) {
-        return chatGptService.getMessageFromGpt(userMessage);
+    /**
+     * 같은 질문이 반복되는 경우가 많으므로, 정규화된 질문으로 요약 결과를 캐싱해두고 재사용한다.
+     * 사용자별 한도는 요청에 합류하기 전에 채팅방마다 확인하고, 전체 한도는 실제로 보내는 요청에서 한 번만 차감한다.
+     */
+    private Mono<Message> fetchGptMessage(MessageRequest messageRequest, Consumer<Duration> onQueued) {
+        String cacheKey = QuestionNormalizer.normalize(messageRequest.getMessage());
+        return Mono.defer(() -> gptSummaryCache.get(cacheKey)
+                .map(Mono::just)
+                .orElseGet(() -> acquireOpenAiUserPermit(messageRequest, onQueued)
+                        .then(Mono.defer(() -> joinGptSummaryFlight(cacheKey, messageRequest.getMessage(), onQueued)))));
+    }
+
+    private Mono<Message> joinGptSummaryFlight(String cacheKey, String userMessage, Consumer<Duration> onQueued) {
+        // 사용자별 한도로 기다리는 동안, 다른 채팅방의 요청으로 요약이 캐싱되었을 수 있다.
+        Optional<Message> cached = gptSummaryCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+        Mono<Message> shared = gptSummaryFlight.execute(cacheKey, () -> openAiRateLimiter
+                // 동시에 들어온 다른 질문들과 하나의 요청으로 묶일 수 있으므로, 요청 수는 batcher 가 요청마다 차감한다.
+                .acquireTokens(chatGptService.estimateSummaryTokens(userMessage), broadcastQueueWait(cacheKey))
+                .then(gptSummaryBatcher.summarize(userMessage))
+                .doOnNext(message -> gptSummaryCache.put(cacheKey, message)));
+        return listenQueueWait(cacheKey, onQueued, shared.flux()).next();
+    }
+
+    private Flux<String> streamGptMessage(MessageRequest messageRequest, Consumer<Duration> onQueued) {
+        // 캐싱된 요약이 있으면, 하나의 부분 응답으로 바로 전달한다.
+        String cacheKey = QuestionNormalizer.normalize(messageRequest.getMessage());
+        return Flux.defer(() -> gptSummaryCache.get(cacheKey)
+                .map(message -> Flux.just(message.getContent()))
+                .orElseGet(() -> acquireOpenAiUserPermit(messageRequest, onQueued)
+                        .thenMany(Flux.defer(() -> joinGptStreamFlight(cacheKey, messageRequest.getMessage(), onQueued)))));
+    }
+
+    private Flux<String> joinGptStreamFlight(String cacheKey, String userMessage, Consumer<Duration> onQueued) {
+        Optional<Message> cached = gptSummaryCache.get(cacheKey);
+        if (cached.isPresent()) {
+            return Flux.just(cached.get().getContent());
+        }
+        Flux<String> shared = gptStreamFlight.executeMany(cacheKey, () -> openAiRateLimiter
+                .acquireRequest(chatGptService.estimateSummaryTokens(userMessage), broadcastQueueWait(cacheKey))
+                .thenMany(Flux.defer(() -> chatGptService.streamMessageFromGpt(userMessage))));
+        return listenQueueWait(cacheKey, onQueued, shared);
+    }
+
+    /**
+     * OpenAI 의 사용자별 한도. 진행 중인 같은 질문의 요청에 합류하더라도, 채팅방마다 자신의 한도로 확인한다.
+     */
+    private Mono<Void> acquireOpenAiUserPermit(MessageRequest messageRequest, Consumer<Duration> onQueued) {
+        return openAiRateLimiter.acquireUser(messageRequest.getSenderNickname(), onQueued);
+    }
+
+    /**
+     * 요청에 합류한 동안 onQueued 를 등록해두고, 공유하는 요청이 전체 한도로 대기열에 들어가면 합류한 모든 채팅방에 알린다.
+     * 이미 대기 중인 요청에 늦게 합류한 채팅방에는 마지막으로 전달된 예상 대기 시간을 바로 전달한다.
+     */
+    private <T> Flux<T> listenQueueWait(String cacheKey, Consumer<Duration> onQueued, Flux<T> shared) {
+        return Flux.defer(() -> {
+            QueueWaitListeners registered = queueWaitListeners.compute(cacheKey, (key, listeners) -> {
+                QueueWaitListeners group = listeners != null ? listeners : new QueueWaitListeners();
+                group.listeners.add(onQueued);
+                return group;
+            });
+            Duration lastWait = registered.lastWait;
+            if (lastWait != null) {
+                onQueued.accept(lastWait);
+            }
+            return shared.doFinally(signal -> queueWaitListeners.computeIfPresent(cacheKey, (key, group) -> {
+                group.listeners.remove(onQueued);
+                return group.listeners.isEmpty() ? null : group;
+            }));
+        });
+    }
+
+    private Consumer<Duration> broadcastQueueWait(String cacheKey) {
+        return estimatedWait -> {
+            QueueWaitListeners group = queueWaitListeners.get(cacheKey);
+            if (group != null) {
+                group.lastWait = estimatedWait;
+                group.listeners.forEach(listener -> listener.accept(estimatedWait));
+            }
+        };
+    }
+
+    private Mono<List<AwsLambdaResponse>> fetchSimilarQuestions(MessageRequest messageRequest, String mentorNickname,
+                                                                Mono<Message> gptMessage) {
+        Mono<List<AwsLambdaResponse>> summaryBasedResponses = gptMessage
+                .flatMap(message -> fetchLambdaResponses(messageRequest, mentorNickname, message.getContent()));
+        if (!speculativeLookupEnabled) {
+            return summaryBasedResponses;
+        }
+
+        // 요약을 기다리지 않고 원문 질문으로 먼저 검색한다. 유사도가 충분히 높은 경우에만 결과로 사용한다.
+        Mono<List<AwsLambdaResponse>> speculativeResponses =
+                fetchLambdaResponses(messageRequest, mentorNickname, messageRequest.getMessage())
+                        .filter(this::isSimilarEnough);
+
+        // 두 요청을 동시에 수행하고, 먼저 도착한 사용 가능한 결과를 선택한다. 나머지 요청은 취소된다.
+        // 요약 요청이 먼저 실패하더라도, 미리 받은 결과를 사용할 수 있도록 error 는 마지막에 전달한다.
+        return Flux.mergeDelayError(2, speculativeResponses, summaryBasedResponses)
+                .next();
+    }
+
+    private boolean isSimilarEnough(List<AwsLambdaResponse> awsLambdaResponses) {
+        return awsLambdaResponses.stream()
+                .map(AwsLambdaResponse::getSimilarity_percent)
+                .anyMatch(percent -> percent != null && percent >= speculativeSimilarityThreshold);
+    }
+
+    /**
+     * 같은 멘토에게 같은 요약으로 들어온 질문은 Lambda 를 다시 호출하지 않고 캐싱된 결과를 사용한다.
+     * 답변은 이 서버 밖에서 qa_list 에 기록되므로, 멘토의 답변 완료 QaList 개수를 함께 저장해두고
+     * 개수가 달라졌다면 해당 멘토의 캐시를 모두 제거한 뒤 다시 요청한다. 새로 추가된 답변이 검색 결과에서 누락되지 않도록 하기 위함이다.
+     */
+    private Mono<List<AwsLambdaResponse>> fetchLambdaResponses(MessageRequest messageRequest,
+                                                               String mentorNickname, String questionSummary) {
+        String summaryKey = Sha256.base64Url(QuestionNormalizer.normalize(questionSummary));
+        return findMentorLambdaResponses(mentorNickname)
+                .flatMap(mentorResponses -> mentorResponses.get(summaryKey)
+                        .map(Mono::just)
+                        .orElseGet(() -> {
+                            // summaryKey 에는 ':' 이 포함되지 않으므로, 멘토 닉네임과 합쳐도 key 가 겹치지 않는다.
+                            Mono<List<AwsLambdaResponse>> sharedResponses = lambdaResponseFlight.execute(
+                                    mentorNickname + ":" + summaryKey,
+                                    () -> requestLambdaResponses(messageRequest, mentorNickname, questionSummary)
+                                            .<List<AwsLambdaResponse>>map(List::copyOf)
+                                            .doOnNext(responses -> {
+                                                // 요청 실패, timeout 의 경우에도 빈 리스트가 전달되므로 빈 결과는 저장하지 않는다.
+                                                if (!responses.isEmpty()) {
+                                                    mentorResponses.put(summaryKey, responses);
+                                                }
+                                            }));
+                            // 결과를 여러 채팅방이 공유하므로, 각자 복사본을 사용한다.
+                            return sharedResponses.map(ArrayList::new);
+                        }));
+    }
+
+    /**
+     * 멘토의 답변 완료 개수는 mentorAnsweredCountCache 의 ttl 동안 재사용하므로, 캐시 hit 에는 db 조회가 없다.
+     * 개수가 달라졌을 때만 해당 멘토의 결과를 새 MentorLambdaResponses 로 교체한다.
+     */
+    private Mono<MentorLambdaResponses> findMentorLambdaResponses(String mentorNickname) {
+        return Mono.defer(() -> mentorAnsweredCountCache.get(mentorNickname)
+                        .map(Mono::just)
+                        .orElseGet(() -> Mono.fromCallable(() ->
+                                        qaListRepository.countByMentorNicknameAndAnswerIsNotNull(mentorNickname))
+                                .subscribeOn(Schedulers.boundedElastic())
+                                .doOnNext(answeredCount -> mentorAnsweredCountCache.put(mentorNickname, answeredCount))))
+                .map(answeredCount -> findMentorLambdaResponses(mentorNickname, answeredCount));
+    }
+
+    private MentorLambdaResponses findMentorLambdaResponses(String mentorNickname, long answeredCount) {
+        MentorLambdaResponses cached = lambdaResponseCache.computeIfAbsent(mentorNickname,
+                key -> MentorLambdaResponses.of(answeredCount, lambdaResponseMaxSizePerMentor));
+        if (cached.getAnsweredCount() == answeredCount) {
+            return cached;
+        }
+        MentorLambdaResponses renewed = MentorLambdaResponses.of(answeredCount, lambdaResponseMaxSizePerMentor);
+        lambdaResponseCache.put(mentorNickname, renewed);
+        log.info(">> {} lambda responses of mentor {} are invalidated", cached.size(), mentorNickname);
+        return renewed;
     }
 
-    private List<AwsLambdaResponse> fetchLambdaResponses(MessageRequest messageRequest, String mentorNickname, Message message) {
+    private Mono<List<AwsLambdaResponse>> requestLambdaResponses(MessageRequest messageRequest,
+                                                                 String mentorNickname, String questionSummary) {
         // 2. Create Request
         AwsLambdaRequest awsLambdaRequest = AwsLambdaRequest.of(
                 messageRequest.getSenderNickname(),
                 mentorNickname,
                 messageRequest.getMessage(),
-                message.getContent()
+                questionSummary
         );
 
-        // 3. Send Request using the dedicated client
-        return awsLambdaClient.sendRequestToLambda(awsLambdaRequest);
+        // 3. Send Request using the configured similarity search engine
+        return similaritySearch.findSimilarQuestions(awsLambdaRequest);
+    }
+
+    private MessageResponse createSummaryStreamResponse(String roomId, String mentorNickname, String chunk) {
+        // 부분 응답은 저장하지 않으므로 _id가 존재하지 않는다.
+        return MessageResponse.builder()
+                .roomId(roomId)
+                .senderType(SenderType.AI)
+                .senderNickname(mentorNickname)
+                .message(chunk)
+                .messageType(MessageType.AI_SUMMARY_STREAM)
+                .time(getCurrentTimeWithNanos())
+                .build();
+    }
+
+    private ChatMessage createSummaryChatMessage(String roomId, String mentorNickname, String summary) {
+        return ChatMessage.builder()
+                .roomId(roomId)
+                .senderType(SenderType.AI)
+                .senderNickname(mentorNickname)
+                .message(summary)
+                .messageType(MessageType.AI_SUMMARY_STREAM)
+                .time(getCurrentTimeWithNanos())
+                .build();
+    }
+
+    /**
+     * 유사 질문 목록 없이, 공통 응답(멘토 답변 기다리기)만 담은 AI_SUMMARY_LIST 메시지
+     * 프론트에서는 일반 응답과 동일하게 처리할 수 있다.
+     */
+    private ChatMessage createFallbackChatMessage(String roomId, String mentorNickname, MessageRequest messageRequest) {
+        String fallbackMessage = "지금은 AI 챗봇의 응답이 지연되고 있어요.\n"
+                + messageRequest.getSenderNickname() + "님의 질문은 멘토에게 전달되었으니, 멘토의 답변을 기다려 주세요!";
+        List<AwsLambdaResponse> messageList = new ArrayList<>();
+        messageList.add(AwsLambdaResponse.of(null, WAIT_FOR_MENTOR_MESSAGE, null, null));
+
+        return ChatMessage.builder()
+                .roomId(roomId)
+                .senderType(SenderType.AI)
+                .senderNickname(mentorNickname)
+                .message(fallbackMessage)
+                .messageList(messageList)
+                .messageType(MessageType.AI_SUMMARY_LIST)
+                .time(getCurrentTimeWithNanos())
+                .build();
     }
 
     private ChatMessage createLambdaChatMessage(String roomId,
@@ -167,7 +536,6 @@ public class MessageService {
                 + "더 신속하게, 다양한 해답을 얻을 수 있을거에요!\n"
                 + messageRequest.getSenderNickname() + "님이 입력한 질문과 유사한 질문의 개수는 " + awsLambdaResponses.size() +
                 "개 입니다.";
-        String message4th = "AI 챗봇을 종료하고 멘토 답변 기다리기";
         LocalDateTime now = getCurrentTimeWithNanos();
 
         // TODO: 프론트 요청에 따라 이 부분 사용하지 않기로 결정됨. 추후 이견이 없을 경우 아래 주석 삭제
@@ -185,7 +553,7 @@ public class MessageService {
 //                .mapToObj(i -> AwsLambdaResponse.of(null, null, null, null))
 //                .forEach(awsLambdaResponses::add);
         // 4번째 응답 추가(공통)
-        awsLambdaResponses.add(AwsLambdaResponse.of(null, message4th, null, null));
+        awsLambdaResponses.add(AwsLambdaResponse.of(null, WAIT_FOR_MENTOR_MESSAGE, null, null));
 
         ChatMessage awsLambdaResponseMessage = ChatMessage.builder()
                 .roomId(roomId)
@@ -270,7 +638,22 @@ public class MessageService {
         }
     }
 
+    /**
+     * 저장을 기다리지 않고, ChatMessageWriter 의 대기열에 넣은 뒤 바로 다음 단계로 넘어간다.
+     */
+    private Mono<ChatMessage> saveChatMessageInDbAsync(ChatMessage message) {
+        return Mono.fromSupplier(() -> {
+            chatMessageWriter.write(message);
+            return message;
+        });
+    }
+
     private LocalDateTime getCurrentTimeWithNanos() {
         return LocalDateTime.now(); // not ignore milliseconds
     }
+
+    private static final class QueueWaitListeners {
+        private final Set<Consumer<Duration>> listeners = ConcurrentHashMap.newKeySet();
+        private volatile Duration lastWait;
+    }
 }
@@ -0,0 +1,68 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * 같은 의미의 질문이 같은 key 를 갖도록 질문 문자열을 정규화한다.
+ * 1. NFKC: 자모가 분리된 한글(NFD), 호환용 한글 자모(ㄱ, ㅏ), 전각 문자를 하나의 표현으로 통일
+ * 2. 대소문자 통일
+ * 3. 공백으로 나눈 단어의 앞뒤에 붙은 문장 부호, 기호만 제거하고, 연속된 공백을 하나로 합친다.
+ * 단어 안의 기호(node.js)와 단어 뒤의 +, #(c++, c#), 단어 앞의 .(.net)은 의미가 있으므로 남긴다.
+ * 그렇지 않으면 "C++ 공부 방법", "C# 공부 방법", "C 공부 방법" 이 모두 같은 key 가 된다.
+ */
+public final class QuestionNormalizer {
+
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private QuestionNormalizer() {
+    }
+
+    public static String normalize(String question) {
+        if (question == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String word : WHITESPACES.split(normalized)) {
+            String stripped = stripEdges(word);
+            if (!stripped.isEmpty()) {
+                joiner.add(stripped);
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 단어의 첫 글자(문자, 숫자) 앞과 마지막 글자 뒤의 문장 부호, 기호를 제거한다.
+     * 문자나 숫자가 하나도 없는 단어는 빈 문자열이 된다.
+     */
+    private static String stripEdges(String word) {
+        int begin = 0;
+        while (begin < word.length() && !Character.isLetterOrDigit(word.charAt(begin))) {
+            begin++;
+        }
+        if (begin == word.length()) {
+            return "";
+        }
+        if (begin > 0 && word.charAt(begin - 1) == '.') {
+            begin--;
+        }
+
+        int end = word.length();
+        while (!Character.isLetterOrDigit(word.charAt(end - 1))) {
+            end--;
+        }
+        while (end < word.length() && isLanguageSuffix(word.charAt(end))) {
+            end++;
+        }
+        return word.substring(begin, end);
+    }
+
+    private static boolean isLanguageSuffix(char c) {
+        return c == '+' || c == '#';
+    }
+}
@@ -0,0 +1,19 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import reactor.core.publisher.Mono;
+import seoultech.capstone.menjil.domain.chatbot.dto.request.AwsLambdaRequest;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
+
+import java.util.List;
+
+/**
+ * 멘토의 답변 완료된 질문 중, 요청한 질문 요약과 유사한 질문을 찾는다.
+ * chatbot.similarity-search.engine 값에 따라 구현체가 결정된다.
+ * - lambda(default): API Gateway 를 통해 AWS Lambda 에 요청 (AwsLambdaClient)
+ * - local: 서버 메모리에 임베딩 인덱스를 두고 직접 계산 (LocalSimilaritySearch)
+ * 요청이 실패하는 경우에는 error 대신 빈 리스트를 전달한다.
+ */
+public interface SimilaritySearch {
+
+    Mono<List<AwsLambdaResponse>> findSimilarQuestions(AwsLambdaRequest request);
+}
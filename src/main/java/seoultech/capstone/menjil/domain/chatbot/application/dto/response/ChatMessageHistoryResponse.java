@@ -0,0 +1,32 @@
+package seoultech.capstone.menjil.domain.chatbot.application.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageOrderResponse;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ChatMessageHistoryResponse {
+
+    /**
+     * 오래된 메시지부터 시간순으로 정렬되어 있으며, order 는 1부터 시작한다.
+     */
+    private List<MessageOrderResponse> messages;
+
+    /**
+     * 더 이전의 내역을 불러올 때 전달하는 값. 더 불러올 내역이 없으면 null 이다.
+     */
+    private String nextCursor;
+
+    private boolean hasNext;
+
+    @Builder
+    private ChatMessageHistoryResponse(List<MessageOrderResponse> messages, String nextCursor, boolean hasNext) {
+        this.messages = messages;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
@@ -1,8 +1,13 @@
 package seoultech.capstone.menjil.domain.chatbot.dao;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatBotRoom;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +17,26 @@ public interface ChatBotRoomRepository extends JpaRepository<ChatBotRoom, Long>
 
     List<ChatBotRoom> findAllByInitiatorNickname(String initiatorNickname);
 
+    /*
+    MySQL 은 내림차순 정렬 시 NULL 을 마지막에 둔다. 질문이 없는 대화방은 목록의 마지막에 위치한다.
+     */
+    List<ChatBotRoom> findAllByInitiatorNicknameOrderByLastQuestionTimeDesc(String initiatorNickname);
+
+    /*
+    질문 저장 순서가 바뀌더라도 더 오래된 질문으로 덮어쓰지 않도록, 마지막 질문 시간보다 늦은 경우에만 갱신한다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChatBotRoom r SET r.lastQuestion = :question, r.lastQuestionTime = :time " +
+            "WHERE r.roomId = :roomId AND (r.lastQuestionTime IS NULL OR r.lastQuestionTime <= :time)")
+    int updateLastQuestion(@Param("roomId") String roomId, @Param("question") String question,
+                           @Param("time") LocalDateTime time);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ChatBotRoom r SET r.lastQuestionBackfilled = true WHERE r.roomId IN :roomIds")
+    int markLastQuestionBackfilled(@Param("roomIds") List<String> roomIds);
+
     void deleteChatBotRoomByRoomId(String roomId);
 
 }
@@ -1,13 +1,15 @@
 package seoultech.capstone.menjil.domain.chatbot.dao;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
 import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.RoomLatestQuestion;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,8 +21,24 @@ public interface MessageRepository extends MongoRepository<ChatMessage, String>
     // totalCount 등의 정보는 필요 없고, 단지 ChatMessage 엔티티 데이터만 가져오면 되므로 Page가 아닌 List로 받도록 작성
     List<ChatMessage> findChatMessageByRoomId(String roomId, Pageable pageable);
 
-    @Query("{ 'roomId' : ?0, 'messageType' : ?1 }")
-    Page<ChatMessage> findByRoomIdAndMessageTypeSortedByTimeDesc(String roomId, MessageType messageType, Pageable pageable);
+    /**
+     * keyset pagination: cursor 의 (time, _id) 보다 이전에 작성된 메시지를 가져온다.
+     * offset 을 건너뛰지 않고 (room_id, time, _id) 인덱스에서 cursor 위치부터 읽으므로, 오래된 내역일수록 느려지지 않는다.
+     * pageable 에는 time, _id 역순 정렬을 지정한다.
+     */
+    @Query("{ 'room_id' : ?0, '$or' : [ { 'time' : { '$lt' : ?1 } }, { 'time' : ?1, '_id' : { '$lt' : ?2 } } ] }")
+    List<ChatMessage> findChatMessagesBefore(String roomId, LocalDateTime time, String id, Pageable pageable);
+
+    /**
+     * 여러 대화방의 가장 최근 messageType 메시지를 한 번의 aggregation 으로 가져온다. 메시지가 없는 대화방은 결과에 포함되지 않는다.
+     * $sort 를 (room_id, message_type, time) 인덱스 순서와 맞추어, 정렬 없이 인덱스에서 대화방별 첫 번째 메시지를 읽도록 한다.
+     */
+    @Aggregation(pipeline = {
+            "{ '$match' : { 'room_id' : { '$in' : ?0 }, 'message_type' : ?1 } }",
+            "{ '$sort' : { 'room_id' : 1, 'message_type' : 1, 'time' : -1 } }",
+            "{ '$group' : { '_id' : '$room_id', 'message' : { '$first' : '$message' }, 'time' : { '$first' : '$time' } } }"
+    })
+    List<RoomLatestQuestion> findLatestMessagesByRoomIds(List<String> roomIds, MessageType messageType);
 
     Optional<ChatMessage> findByRoomId(String roomId); // 테스트를 위한 메서드
 
@@ -2,10 +2,12 @@ package seoultech.capstone.menjil.domain.chatbot.dao;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MentorAnsweredSummaries;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,11 +27,31 @@ public interface QaListRepository extends MongoRepository<QaList, String> {
             fields = "{ 'question_summary' : 1 }")
     List<QaList> findAnsweredQuestionsByMentor(String mentorNickname, Pageable pageable);
 
+    /*
+    여러 멘토의 최근 답변 완료 질문 요약을 멘토별로 limit 개씩, 한 번의 aggregation 으로 가져온다.
+    답변한 질문이 없는 멘토는 결과에 포함되지 않는다. 멘토별 답변 개수(answers_count)도 같은 $group 에서 센다.
+    $sort 를 (mentor_nickname, question_time, _id) 인덱스 순서와 맞추어, 정렬 없이 인덱스 순서대로 $push 한다.
+     */
+    @Aggregation(pipeline = {
+            "{ '$match' : { 'mentor_nickname' : { '$in' : ?0 }, 'answer' : { '$ne' : null } } }",
+            "{ '$sort' : { 'mentor_nickname' : 1, 'question_time' : -1, '_id' : -1 } }",
+            "{ '$group' : { '_id' : '$mentor_nickname', 'question_summaries' : { '$push' : '$question_summary' }, 'answers_count' : { '$sum' : 1 } } }",
+            "{ '$project' : { 'question_summaries' : { '$slice' : [ '$question_summaries', ?1 ] }, 'answers_count' : 1 } }"
+    })
+    List<MentorAnsweredSummaries> findLastAnsweredSummariesByMentors(List<String> mentorNicknames, int limit);
+
     @Query(value = "{'mentor_nickname' : ?0, 'answer' : { '$ne' : null } }",
             fields = "{ 'question_origin' : 1, 'question_summary' : 1, " +
                     "'answer' :  1, 'answer_time': 1, 'views': 1, 'likes': 1 }")
     List<QaList> findQuestionAndAnswerWithMentorNickname(String mentorNickname, Sort sort);
 
+    /*
+    LocalSimilaritySearch 의 임베딩 인덱스를 만들 때 사용한다.
+     */
+    @Query(value = "{'mentor_nickname' : ?0, 'answer' : { '$ne' : null } }",
+            fields = "{ 'question_summary' : 1, 'question_summary_en' : 1, 'answer' : 1 }")
+    List<QaList> findAnsweredQuestionSummariesByMentor(String mentorNickname);
+
     Long countByMentorNicknameAndAnswerIsNotNull(String mentorNickname);
 
 }
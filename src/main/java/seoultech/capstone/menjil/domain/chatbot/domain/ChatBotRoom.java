@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 인자 없는 기본 생성자 필요
-@Table(name = "chatbot_room")
+@Table(name = "chatbot_room", indexes = {
+        // 대화방 목록: 사용자의 대화방을 마지막 질문 시간 순으로 조회한다.
+        @Index(name = "idx_chatbot_room_initiator_last_question", columnList = "initiator_nickname, last_question_time")
+})
 public class ChatBotRoom {
 
     @Id
@@ -31,10 +34,29 @@ public class ChatBotRoom {
     @Column(name = "created_at")
     private LocalDateTime createdDate;
 
+    /**
+     * 대화방 목록에 표시할 마지막 질문(C_QUESTION)
+     * 질문을 저장할 때 함께 갱신하여, 목록을 불러올 때 MongoDB 를 조회하지 않도록 한다.
+     */
+    @Column(name = "last_question", columnDefinition = "TEXT")
+    private String lastQuestion;
+
+    @Column(name = "last_question_time")
+    private LocalDateTime lastQuestionTime;
+
+    /**
+     * 마지막 질문 컬럼이 추가되기 전에 만들어진 대화방은 false 로 추가되며, MongoDB 에서 한 번 채워 넣은 뒤 true 가 된다.
+     * 질문이 없는 대화방도 true 가 되므로, 목록을 불러올 때마다 MongoDB 를 다시 조회하지 않는다.
+     */
+    @Column(name = "last_question_backfilled", nullable = false)
+    private boolean lastQuestionBackfilled;
+
     @Builder
     private ChatBotRoom(String roomId, String initiatorNickname, String recipientNickname) {
         this.roomId = roomId;
         this.initiatorNickname = initiatorNickname;
         this.recipientNickname = recipientNickname;
+        // 새로 만든 대화방의 마지막 질문은 질문을 저장할 때 갱신되므로, 채워 넣을 필요가 없다.
+        this.lastQuestionBackfilled = true;
     }
 }
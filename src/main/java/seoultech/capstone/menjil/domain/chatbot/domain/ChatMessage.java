@@ -3,7 +3,10 @@ package seoultech.capstone.menjil.domain.chatbot.domain;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -12,6 +15,12 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Document(collection = "chat_message")
+@CompoundIndexes({
+        // 채팅 내역 keyset pagination: room_id 로 범위를 좁힌 뒤 (time, _id) 역순으로 이어서 읽는다.
+        @CompoundIndex(name = "room_id_time_id", def = "{'room_id': 1, 'time': -1, '_id': -1}"),
+        // 채팅방의 가장 최근 질문(C_QUESTION) 조회
+        @CompoundIndex(name = "room_id_message_type_time", def = "{'room_id': 1, 'message_type': 1, 'time': -1}")
+})
 public class ChatMessage {
 
     @Id
@@ -50,6 +59,16 @@ public class ChatMessage {
         this.time = time;
     }
 
+    /**
+     * 저장하기 전에 id 를 미리 정한다.
+     * 저장이 끝나기 전에도 응답에 id 를 포함할 수 있고, 저장을 재시도해도 중복으로 저장되지 않는다.
+     */
+    public void assignIdIfAbsent() {
+        if (this._id == null) {
+            this._id = new ObjectId().toHexString();
+        }
+    }
+
     public void setLambdaMessage(String message) {
         this.message = message;
     }
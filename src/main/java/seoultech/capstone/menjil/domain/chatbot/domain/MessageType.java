@@ -9,12 +9,14 @@ public enum MessageType {
      * ENTER: 채팅방 생성 시 맨 처음으로 보내지는 대화(Welcome Message)
      * C_QUESTION: 사용자의 질문
      * AI_* : AI와 관련된 기능
+     * AI_SUMMARY_STREAM : GPT 세 줄 요약을 스트리밍으로 전달. _id가 없으면 부분 응답, _id가 있으면 저장된 최종 응답
+     * AI_QUEUE_WAIT : 질문이 많아 GPT 요청이 대기열에 들어간 경우, 예상 대기 시간을 안내. 저장하지 않는다.
      * TYPE_NOT_EXISTS : enum에 정의되어 있지 않은 타입이 들어올 경우, MessageController에서 예외 처리를 위해 생성
      */
     ENTER,
     C_QUESTION,
     AI_QUESTION_RESPONSE, AI_SUMMARY_LIST, AI_SELECT, AI_SUMMARY, AI_SUMMARY_ANSWER, AI_SUMMARY_RATING,
-    AI_C_RATING,
+    AI_C_RATING, AI_SUMMARY_STREAM, AI_QUEUE_WAIT,
     TALK,
     TYPE_NOT_EXISTS;
 
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -12,6 +13,12 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @Document(collection = "qa_list")
+/*
+멘토의 답변 완료 질문 조회, 개수 조회에 사용한다.
+answer 조건은 범위 조건($ne)이므로, 일치 조건 -> 정렬 -> 범위 조건 순서로 두어야 question_time 정렬에도 인덱스를 사용할 수 있다.
+ */
+@CompoundIndex(name = "mentor_nickname_question_time_answer",
+        def = "{'mentor_nickname': 1, 'question_time': -1, '_id': -1, 'answer': 1}")
 public class QaList {
 
     @Id
@@ -0,0 +1,60 @@
+package seoultech.capstone.menjil.domain.chatbot.dto;
+
+import lombok.Getter;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class MentorLambdaResponses {
+    /**
+     * Lambda 유사 질문 검색 결과 캐시에 멘토 한 명 단위로 저장되는 값
+     * answeredCount: 결과를 받을 당시 멘토의 답변 완료된 QaList 개수. 이 값이 달라지면 새 답변이 추가된 것이므로,
+     * 멘토의 결과를 모두 버리고 새 MentorLambdaResponses 로 교체한다. 다른 멘토의 결과는 확인하지 않는다.
+     * responses: 정규화된 요약의 hash -> 검색 결과. 멘토마다 maxSize 개까지 보관하며, 가장 오래 사용되지 않은 결과부터 제거한다.
+     */
+    @Getter
+    private final long answeredCount;
+    private final int maxSize;
+    private final Map<String, List<AwsLambdaResponse>> responses;
+
+    private MentorLambdaResponses(long answeredCount, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.answeredCount = answeredCount;
+        this.maxSize = maxSize;
+        this.responses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<AwsLambdaResponse>> eldest) {
+                return size() > MentorLambdaResponses.this.maxSize;
+            }
+        };
+    }
+
+    public static MentorLambdaResponses of(long answeredCount, int maxSize) {
+        return new MentorLambdaResponses(answeredCount, maxSize);
+    }
+
+    // 응답 메시지를 만들 때 리스트에 공통 응답을 추가하므로, 복사본을 돌려준다.
+    public Optional<List<AwsLambdaResponse>> get(String summaryKey) {
+        synchronized (responses) {
+            return Optional.ofNullable(responses.get(summaryKey)).map(ArrayList::new);
+        }
+    }
+
+    public void put(String summaryKey, List<AwsLambdaResponse> lambdaResponses) {
+        synchronized (responses) {
+            responses.put(summaryKey, List.copyOf(lambdaResponses));
+        }
+    }
+
+    public int size() {
+        synchronized (responses) {
+            return responses.size();
+        }
+    }
+}
@@ -15,9 +15,12 @@ public class ChatGptRequest {
 
     private List<Message> messages;
 
+    private Boolean stream;     // true 인 경우 server-sent event 로 응답을 나누어 받는다. null 이면 요청에 포함되지 않는다.
+
     @Builder
-    private ChatGptRequest(String model, List<Message> messages) {
+    private ChatGptRequest(String model, List<Message> messages, Boolean stream) {
         this.model = model;
         this.messages = messages;
+        this.stream = stream;
     }
 }
@@ -0,0 +1,28 @@
+package seoultech.capstone.menjil.domain.chatbot.dto.response;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import seoultech.capstone.menjil.domain.chatbot.dto.Message;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class ChatGptStreamResponse {
+    /**
+     * stream: true 로 요청한 경우, server-sent event 의 data 에 담겨오는 chunk 객체
+     * 전체 응답의 message 대신, 이번 chunk 에서 추가된 내용만 delta 에 담겨온다.
+     */
+    private String id;
+    private String object;
+    private Long created;
+    private List<Choice> choices;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Choice {
+        private int index;
+
+        private Message delta;
+    }
+}
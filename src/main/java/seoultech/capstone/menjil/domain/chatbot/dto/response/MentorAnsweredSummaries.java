@@ -0,0 +1,34 @@
+package seoultech.capstone.menjil.domain.chatbot.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class MentorAnsweredSummaries {
+    /**
+     * 멘토별 최근 답변 완료 질문의 요약을 조회하는 aggregation 의 결과
+     * $group 의 _id 가 mentor_nickname 이며, 요약은 question_time 역순이다.
+     * answersCount 는 잘라내기 전의 답변 완료 질문 개수이다.
+     */
+    @Id
+    private String mentorNickname;
+
+    @Field(name = "question_summaries")
+    private List<String> questionSummaries;
+
+    @Field(name = "answers_count")
+    private Long answersCount;
+
+    @Builder
+    private MentorAnsweredSummaries(String mentorNickname, List<String> questionSummaries, Long answersCount) {
+        this.mentorNickname = mentorNickname;
+        this.questionSummaries = questionSummaries;
+        this.answersCount = answersCount;
+    }
+}
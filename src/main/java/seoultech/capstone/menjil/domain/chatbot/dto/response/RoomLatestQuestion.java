@@ -0,0 +1,28 @@
+package seoultech.capstone.menjil.domain.chatbot.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class RoomLatestQuestion {
+    /**
+     * 대화방별 가장 최근 질문(C_QUESTION)을 조회하는 aggregation 의 결과
+     * $group 의 _id 가 room_id 이다.
+     */
+    @Id
+    private String roomId;
+    private String message;
+    private LocalDateTime time;
+
+    @Builder
+    private RoomLatestQuestion(String roomId, String message, LocalDateTime time) {
+        this.roomId = roomId;
+        this.message = message;
+        this.time = time;
+    }
+}
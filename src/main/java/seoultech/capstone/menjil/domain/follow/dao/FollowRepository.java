@@ -3,7 +3,10 @@ package seoultech.capstone.menjil.domain.follow.dao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import seoultech.capstone.menjil.domain.follow.domain.Follow;
+import seoultech.capstone.menjil.domain.main.application.dto.response.FollowUserResponse;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,8 +17,26 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     List<Follow> findFollowsByUserNicknameOrderByCreatedDateAsc(String userNickname);
 
+    /*
+    사용자가 팔로우한 사용자들을 User 와 join 하여, FollowUserResponse 에 필요한 컬럼만 한 번의 쿼리로 가져온다.
+    팔로우를 가장 최근에 한 사용자가 먼저 오며, 존재하지 않는 사용자는 결과에 포함되지 않는다.
+     */
+    @Query("SELECT new seoultech.capstone.menjil.domain.main.application.dto.response.FollowUserResponse(" +
+            "u.nickname, u.company, u.techStack, u.imgUrl) " +
+            "FROM Follow f JOIN User u ON u.nickname = f.followNickname " +
+            "WHERE f.userNickname = :userNickname ORDER BY f.createdDate DESC, f.id DESC")
+    List<FollowUserResponse> findFollowUsersByUserNickname(@Param("userNickname") String userNickname);
+
     Page<Follow> findFollowsByUserNickname(String userNickname, Pageable pageable);
 
     Long countByFollowNickname(String followNickname);
 
+    /*
+    여러 사용자의 팔로워 수를 GROUP BY 한 번으로 가져온다.
+    팔로워가 없는 사용자는 결과에 포함되지 않는다.
+     */
+    @Query("SELECT f.followNickname AS followNickname, COUNT(f) AS followersCount FROM Follow f " +
+            "WHERE f.followNickname IN :followNicknames GROUP BY f.followNickname")
+    List<FollowerCount> countFollowersByFollowNicknameIn(@Param("followNicknames") List<String> followNicknames);
+
 }
@@ -0,0 +1,11 @@
+package seoultech.capstone.menjil.domain.follow.dao;
+
+/**
+ * FollowRepository.countFollowersByFollowNicknameIn 의 결과(interface projection)
+ */
+public interface FollowerCount {
+
+    String getFollowNickname();
+
+    Long getFollowersCount();
+}
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 @Entity
 @EntityListeners(AuditingEntityListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)  // 인자 없는 기본 생성자 필요
-@Table(name = "follows")
+@Table(name = "follows", indexes = @Index(name = "idx_follows_user_nickname_created_at",
+        columnList = "user_nickname, created_at"))
 public class Follow {
 
     @Id
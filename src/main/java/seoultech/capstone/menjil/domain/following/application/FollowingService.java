@@ -4,7 +4,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
@@ -12,11 +11,9 @@ import org.springframework.transaction.annotation.Transactional;
 import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
 import seoultech.capstone.menjil.domain.auth.domain.User;
 import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
-import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
 import seoultech.capstone.menjil.domain.follow.dao.FollowRepository;
 import seoultech.capstone.menjil.domain.follow.domain.Follow;
 import seoultech.capstone.menjil.domain.following.application.dto.FollowingQaDto;
-import seoultech.capstone.menjil.domain.following.application.dto.FollowingUserDto;
 import seoultech.capstone.menjil.domain.following.application.dto.FollowingUserInfoDto;
 import seoultech.capstone.menjil.domain.following.application.dto.response.FollowingUserInfoResponse;
 import seoultech.capstone.menjil.domain.following.application.dto.response.FollowingUserResponse;
@@ -26,6 +23,7 @@ import seoultech.capstone.menjil.global.handler.AwsS3Handler;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,6 +35,7 @@ public class FollowingService {
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final QaListRepository qaListRepository;
+    private final FollowingUserLoader followingUserLoader;
 
     private final int AWS_URL_DURATION = 7;
 
@@ -49,31 +48,14 @@ public class FollowingService {
         // get follows
         // TODO: 여기도 User랑 Follow 사이에 연관관계 설정해야 하는 거 아닌가?
         Page<Follow> page = followRepository.findFollowsByUserNickname(nickname, pageable);
-        Page<FollowingUserResponse> followMentorInfoResponse = page.map(follow -> {
-            String followNickname = follow.getFollowNickname();
 
-            // 1. get follows
-            User user = userRepository.findUserByNickname(followNickname)
-                    .orElseThrow(() -> new CustomException(ErrorCode.INTERNAL_SERVER_ERROR));
-            FollowingUserDto followingUserDto = FollowingUserDto.fromUserEntity(user);
+        // 페이지에 포함된 사용자들의 정보, 팔로워 수, 답변 개수, 최근 답변을 한 번에 가져온다.
+        Map<String, FollowingUserResponse> followingUsers = followingUserLoader.load(page.getContent().stream()
+                .map(Follow::getFollowNickname)
+                .collect(Collectors.toList()));
 
-            // set AWS S3 presigned url
-            followingUserDto.setImgUrl(String.valueOf(awsS3Handler.generatePresignedUrl(
-                    BUCKET_NAME, user.getImgUrl(), Duration.ofDays(AWS_URL_DURATION))));
-
-            // 2. get last answered messages
-            List<String> lastAnsweredMessages = getLastAnsweredMessages(followNickname);
-
-            // 3. get followers count
-            // TODO: user와 follow를 join하면 쿼리를 두 번 날리지 않아도 될 것으로 생각됨. 추후 JPA 공부한 뒤 적용해볼 것
-            Long followersCount = followRepository.countByFollowNickname(followNickname);
-
-            // 4. get answers count
-            Long answersCount = qaListRepository.countByMentorNicknameAndAnswerIsNotNull(followNickname);
-
-            return FollowingUserResponse.of(followingUserDto, lastAnsweredMessages, followersCount, answersCount);
-
-        });
+        Page<FollowingUserResponse> followMentorInfoResponse = page.map(follow ->
+                followingUsers.get(follow.getFollowNickname()));
         return followMentorInfoResponse;
     }
 
@@ -104,22 +86,4 @@ public class FollowingService {
 
         return FollowingUserInfoResponse.of(followingUserInfoDto, answersCount, followingQaDtos);
     }
-
-    protected List<String> getLastAnsweredMessages(String mentorNickname) {
-        int page = 0;
-        int size = 2;
-        // Get only the first 2 documents and sort them by 'question_time' and 'id' in descending order
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "question_time", "id"));
-        List<QaList> qaLists = qaListRepository.findAnsweredQuestionsByMentor(mentorNickname, pageable);
-
-        /*
-         At first, I checked if qaLists is empty(), or size == 1, or else. But
-         The stream() and map() method calls will produce an empty list if qaLists is empty,
-         and will otherwise produce a list of question summaries,
-         making the explicit checks for qaLists.isEmpty() and qaLists.size() == 1 unnecessary.
-         */
-        return qaLists.stream()
-                .map(QaList::getQuestionSummary)
-                .collect(Collectors.toList());
-    }
 }
@@ -0,0 +1,100 @@
+package seoultech.capstone.menjil.domain.following.application;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
+import seoultech.capstone.menjil.domain.auth.domain.User;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MentorAnsweredSummaries;
+import seoultech.capstone.menjil.domain.follow.dao.FollowRepository;
+import seoultech.capstone.menjil.domain.follow.dao.FollowerCount;
+import seoultech.capstone.menjil.domain.following.application.dto.FollowingUserDto;
+import seoultech.capstone.menjil.domain.following.application.dto.response.FollowingUserResponse;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.handler.AwsS3Handler;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로우 목록 한 페이지에 필요한 사용자 정보, 팔로워 수, 답변 개수, 최근 답변을 한꺼번에 가져온다.
+ * 페이지 크기와 관계없이 User 조회, 팔로워 수 GROUP BY 쿼리, QaList aggregation, presign 을 한 번씩만 수행하고
+ * 결과는 메모리에서 조합한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FollowingUserLoader {
+
+    private final AwsS3Handler awsS3Handler;
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final QaListRepository qaListRepository;
+
+    private final int AWS_URL_DURATION = 7;
+    private final int LAST_ANSWERED_MESSAGES_SIZE = 2;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String BUCKET_NAME;
+
+    /**
+     * followNicknames 의 순서를 유지한 Map(닉네임 -> 응답)을 돌려준다.
+     * 존재하지 않는 사용자가 있으면 INTERNAL_SERVER_ERROR 를 던진다.
+     */
+    public Map<String, FollowingUserResponse> load(List<String> followNicknames) {
+        if (followNicknames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // 1. users
+        Map<String, User> nicknameToUser = userRepository.findAllByNicknameIn(followNicknames)
+                .stream()
+                .collect(Collectors.toMap(User::getNickname, Function.identity(), (first, second) -> first));
+
+        // 2. presigned urls
+        List<String> imgKeys = nicknameToUser.values().stream()
+                .map(User::getImgUrl)
+                .collect(Collectors.toList());
+        Map<String, URL> imgUrls = awsS3Handler.generatePresignedUrls(BUCKET_NAME, imgKeys,
+                Duration.ofDays(AWS_URL_DURATION));
+
+        // 3. followers count
+        Map<String, Long> followersCounts = followRepository.countFollowersByFollowNicknameIn(followNicknames)
+                .stream()
+                .collect(Collectors.toMap(FollowerCount::getFollowNickname, FollowerCount::getFollowersCount));
+
+        // 4. answers count, last answered messages
+        Map<String, MentorAnsweredSummaries> answeredSummaries = qaListRepository
+                .findLastAnsweredSummariesByMentors(followNicknames, LAST_ANSWERED_MESSAGES_SIZE)
+                .stream()
+                .collect(Collectors.toMap(MentorAnsweredSummaries::getMentorNickname, Function.identity()));
+
+        Map<String, FollowingUserResponse> responses = new LinkedHashMap<>();
+        for (String followNickname : followNicknames) {
+            User user = nicknameToUser.get(followNickname);
+            if (user == null) {
+                throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+            }
+            FollowingUserDto followingUserDto = FollowingUserDto.fromUserEntity(user);
+            followingUserDto.setImgUrl(String.valueOf(imgUrls.get(user.getImgUrl())));
+
+            MentorAnsweredSummaries summaries = answeredSummaries.get(followNickname);
+            List<String> lastAnsweredMessages = summaries == null
+                    ? new ArrayList<>() : summaries.getQuestionSummaries();
+            Long answersCount = summaries == null ? 0L : summaries.getAnswersCount();
+            Long followersCount = followersCounts.getOrDefault(followNickname, 0L);
+
+            responses.put(followNickname,
+                    FollowingUserResponse.of(followingUserDto, lastAnsweredMessages, followersCount, answersCount));
+        }
+        return responses;
+    }
+}
@@ -4,24 +4,23 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
 import seoultech.capstone.menjil.domain.auth.domain.User;
 import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
-import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MentorAnsweredSummaries;
 import seoultech.capstone.menjil.domain.follow.dao.FollowRepository;
-import seoultech.capstone.menjil.domain.follow.domain.Follow;
 import seoultech.capstone.menjil.domain.main.application.dto.response.FollowUserResponse;
 import seoultech.capstone.menjil.domain.main.application.dto.response.UserInfoResponse;
 import seoultech.capstone.menjil.global.handler.AwsS3Handler;
 
+import java.net.URL;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,6 +34,7 @@ public class MainPageService {
     private final QaListRepository qaListRepository;
 
     private final int AWS_URL_DURATION = 7;
+    private final int LAST_ANSWERED_MESSAGES_SIZE = 2;
 
     @Value("${cloud.aws.s3.bucket}")
     private String BUCKET_NAME;
@@ -45,58 +45,56 @@ public class MainPageService {
      */
     public Page<UserInfoResponse> getMentors(String nickname, Pageable pageable) {
         Page<User> page = userRepository.findAll(pageable);
+        // 페이지에 포함된 사용자들의 presigned url 을 한 번에 만든다.
+        Map<String, URL> imgUrls = generatePresignedUrls(page.getContent());
+        // 페이지에 포함된 멘토들의 최근 답변 질문을 한 번의 aggregation 으로 가져온다.
+        Map<String, List<String>> lastAnsweredMessages = getLastAnsweredMessagesOfMentors(page.getContent().stream()
+                .map(User::getNickname)
+                .collect(Collectors.toList()));
         Page<UserInfoResponse> mentorInfoResponse = page.map(user -> {
             UserInfoResponse dto = UserInfoResponse.fromUserEntity(user);
 
             // set AWS S3 presigned url
-            dto.setImgUrl(String.valueOf(awsS3Handler.generatePresignedUrl(
-                    BUCKET_NAME, user.getImgUrl(), Duration.ofDays(AWS_URL_DURATION))));
+            dto.setImgUrl(String.valueOf(imgUrls.get(user.getImgUrl())));
 
             // set lastAnsweredMessage
-            dto.setLastAnsweredMessage(getLastAnsweredMessages(user.getNickname()));
+            dto.setLastAnsweredMessage(lastAnsweredMessages.getOrDefault(user.getNickname(), new ArrayList<>()));
             return dto;
         });
         return mentorInfoResponse;
     }
 
     public List<FollowUserResponse> getFollowersOfUser(String nickname) {
-        // TODO: 이 부분도 join을 사용하거나 혹은 User & Follow 엔티티 사이에 연관 관계를 설정한다면, query 성능을 조금 더 최적화가 가능할 것으로 보임.
-        List<User> followUsers = followRepository.findFollowsByUserNicknameOrderByCreatedDateAsc(nickname)
-                .stream()
-                .map(Follow::getFollowNickname)
-                .map(userRepository::findUserByNickname)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
-
-        // 팔로우를 가장 최근에 한 사용자, 즉 createdDate가 가장 나중인 사용자가 리스트 인덱스 0에 오도록 변경
-        Collections.reverse(followUsers);
+        // Follow 와 User 를 join 하여, 팔로우를 가장 최근에 한 사용자부터 필요한 컬럼만 한 번에 조회한다.
+        List<FollowUserResponse> followUsers = followRepository.findFollowUsersByUserNickname(nickname);
 
-        return followUsers.stream()
-                .map(user -> {
-                    FollowUserResponse response = FollowUserResponse.fromUserEntity(user);
-                    response.setImgUrl(String.valueOf(awsS3Handler.generatePresignedUrl(
-                            BUCKET_NAME, response.getImgUrl(), Duration.ofDays(AWS_URL_DURATION))));
-                    return response;
-                })
+        List<String> imgKeys = followUsers.stream()
+                .map(FollowUserResponse::getImgUrl)
                 .collect(Collectors.toList());
+        Map<String, URL> imgUrls = awsS3Handler.generatePresignedUrls(BUCKET_NAME, imgKeys,
+                Duration.ofDays(AWS_URL_DURATION));
+        followUsers.forEach(response -> response.setImgUrl(String.valueOf(imgUrls.get(response.getImgUrl()))));
+        return followUsers;
     }
 
-    protected List<String> getLastAnsweredMessages(String mentorNickname) {
-        int page = 0;
-        int size = 2;
-        // Get only the first 2 documents and sort them by 'question_time' and 'id' in descending order
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "question_time", "id"));
-        List<QaList> qaLists = qaListRepository.findAnsweredQuestionsByMentor(mentorNickname, pageable);
-
-        /*
-         At first, checked if qaLists is empty(), or size == 1, or else.
-         But the stream() and map() method calls will produce an empty list if qaLists is empty,
-         and will otherwise produce a list of question summaries,
-         making the explicit checks for qaLists.isEmpty() and qaLists.size() == 1 unnecessary.
-         */
-        return qaLists.stream()
-                .map(QaList::getQuestionSummary)
+    private Map<String, URL> generatePresignedUrls(List<User> users) {
+        List<String> imgUrls = users.stream()
+                .map(User::getImgUrl)
                 .collect(Collectors.toList());
+        return awsS3Handler.generatePresignedUrls(BUCKET_NAME, imgUrls, Duration.ofDays(AWS_URL_DURATION));
+    }
+
+    /**
+     * 멘토별로 가장 최근에 답변한 질문의 요약을 LAST_ANSWERED_MESSAGES_SIZE 개씩 가져온다.
+     * question_time, id 역순이며, 답변한 질문이 없는 멘토는 결과에 포함되지 않는다.
+     */
+    protected Map<String, List<String>> getLastAnsweredMessagesOfMentors(List<String> mentorNicknames) {
+        if (mentorNicknames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return qaListRepository.findLastAnsweredSummariesByMentors(mentorNicknames, LAST_ANSWERED_MESSAGES_SIZE)
+                .stream()
+                .collect(Collectors.toMap(MentorAnsweredSummaries::getMentorNickname,
+                        MentorAnsweredSummaries::getQuestionSummaries));
     }
 }
@@ -0,0 +1,26 @@
+package seoultech.capstone.menjil.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;     // 최대 크기 초과, 혹은 만료로 제거된 항목의 수
+    private double hitRate;
+
+    public static CacheStats of(String name, int size, int maxSize,
+                                long hitCount, long missCount, long evictionCount) {
+        long requestCount = hitCount + missCount;
+        double hitRate = (requestCount == 0) ? 0.0 : (double) hitCount / requestCount;
+        return new CacheStats(name, size, maxSize, hitCount, missCount, evictionCount, hitRate);
+    }
+}
@@ -0,0 +1,181 @@
+package seoultech.capstone.menjil.global.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 최대 크기와 만료 시간이 있는 in-memory LRU 캐시
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 만료된 항목은 조회 시점에 제거한다.
+ * 외부 라이브러리 없이 사용하기 위해 작성하였으며, 접근 순서를 유지하는 LinkedHashMap 을 lock 으로 보호한다.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, CacheEntry<V>> entries;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public ExpiringLruCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, Clock.systemUTC());
+    }
+
+    // 테스트 코드 작성을 위해, Clock 을 파라미터로 받도록 작성.
+    public ExpiringLruCache(String name, int maxSize, Duration ttl, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public Optional<V> get(K key) {
+        Instant now = clock.instant();
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(key);
+                evictionCount.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                missCount.increment();
+                return Optional.empty();
+            }
+            hitCount.increment();
+            return Optional.of(entry.value);
+        }
+    }
+
+    /**
+     * 값이 없거나 만료되었으면 mappingFunction 으로 만들어 저장한다. 조회와 저장을 원자적으로 수행한다.
+     */
+    public V computeIfAbsent(K key, Function<K, V> mappingFunction) {
+        return compute(key, mappingFunction, false);
+    }
+
+    /**
+     * computeIfAbsent 와 같지만, 값이 있으면 만료 시각을 지금부터 ttl 뒤로 늦춘다.
+     * 마지막으로 사용한 시점을 기준으로 만료되어야 하는 항목에 사용한다. (ex. 사용자별 rate limit bucket)
+     */
+    public V computeIfAbsentAndRefresh(K key, Function<K, V> mappingFunction) {
+        return compute(key, mappingFunction, true);
+    }
+
+    private V compute(K key, Function<K, V> mappingFunction, boolean refreshOnHit) {
+        Instant now = clock.instant();
+        synchronized (entries) {
+            CacheEntry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                hitCount.increment();
+                if (refreshOnHit) {
+                    entries.put(key, new CacheEntry<>(entry.value, now.plus(ttl)));
+                }
+                return entry.value;
+            }
+            if (entry != null) {
+                evictionCount.increment();
+            }
+            missCount.increment();
+            V value = mappingFunction.apply(key);
+            entries.put(key, new CacheEntry<>(value, now.plus(ttl)));
+            return value;
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, clock.instant().plus(ttl));
+    }
+
+    /**
+     * 항목마다 만료 시각이 다른 경우 사용한다. (ex. 만료 시각이 정해져 있는 token, presigned url)
+     */
+    public void put(K key, V value, Instant expiresAt) {
+        synchronized (entries) {
+            entries.put(key, new CacheEntry<>(value, expiresAt));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * 조건을 만족하는 항목을 모두 제거하고, 제거된 개수를 돌려준다.
+     */
+    public int invalidateIf(BiPredicate<K, V> predicate) {
+        int removed = 0;
+        synchronized (entries) {
+            Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<K, CacheEntry<V>> entry = iterator.next();
+                if (predicate.test(entry.getKey(), entry.getValue().value)) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CacheStats stats() {
+        return CacheStats.of(name, size(), maxSize,
+                hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final Instant expiresAt;
+
+        private CacheEntry(V value, Instant expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package seoultech.capstone.menjil.global.cache;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 로 동시에 들어온 요청이 하나의 외부 API 호출을 공유하도록 한다. (single-flight)
+ * 처음 요청한 쪽이 호출을 시작하고, 호출이 끝나기 전에 같은 key 로 들어온 요청은 그 결과를 함께 받는다.
+ * 호출이 끝나면(성공, 실패 모두) key 를 제거하므로, 결과를 오래 보관하려면 ExpiringLruCache 를 함께 사용한다.
+ * 하나의 인스턴스는 한 종류의 결과 타입에만 사용한다.
+ */
+public class SingleFlight<K> {
+
+    private final String name;
+    private final Map<K, Publisher<?>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalescedCount = new LongAdder();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            AtomicReference<Mono<V>> created = new AtomicReference<>();
+            Mono<V> shared = (Mono<V>) inFlight.computeIfAbsent(key, k -> {
+                // 결과를 전달하기 전에 key 를 제거해야, 결과를 받은 뒤에 들어온 요청이 끝난 호출에 합류하지 않는다.
+                Mono<V> mono = Mono.defer(call)
+                        .doOnEach(signal -> inFlight.remove(k, created.get()))
+                        .cache();
+                created.set(mono);
+                return mono;
+            });
+            if (shared != created.get()) {
+                coalescedCount.increment();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 스트리밍 응답의 경우, 나중에 합류한 요청도 이미 전달된 원소부터 모두 받는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Flux<V> executeMany(K key, Supplier<Flux<V>> call) {
+        return Flux.defer(() -> {
+            AtomicReference<Flux<V>> created = new AtomicReference<>();
+            Flux<V> shared = (Flux<V>) inFlight.computeIfAbsent(key, k -> {
+                Flux<V> flux = Flux.defer(call)
+                        .doOnTerminate(() -> inFlight.remove(k, created.get()))
+                        .cache();
+                created.set(flux);
+                return flux;
+            });
+            if (shared != created.get()) {
+                coalescedCount.increment();
+            }
+            return shared;
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 외부 API 를 호출하지 않고, 진행 중인 호출에 합류한 요청 수
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+}
@@ -0,0 +1,40 @@
+package seoultech.capstone.menjil.global.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 원문 대신 저장하거나 캐시 key 로 사용할 SHA-256 digest 를 만든다.
+ * hex: db 의 CHAR(64) 컬럼처럼 MySQL 의 SHA2(value, 256) 과 같은 형식이 필요한 경우
+ * base64Url: 메모리 캐시 key 처럼 짧은 문자열이 필요한 경우(43자)
+ */
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    public static String hex(String value) {
+        byte[] hash = hash(value);
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    public static String base64Url(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash(value));
+    }
+
+    private static byte[] hash(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에서 지원하므로 발생하지 않는다.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,12 +1,9 @@
 package seoultech.capstone.menjil.global.config;
 
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import seoultech.capstone.menjil.global.handler.SigV4Presigner;
 
 @Configuration
 public class AwsS3Config {
@@ -18,14 +15,12 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String REGION;
 
+    /**
+     * 프로필 이미지 등 S3 presigned url 을 여러 개 서명할 때 사용한다. (AwsS3Handler)
+     */
     @Bean
-    public AmazonS3Client amazonS3Client() {
-        BasicAWSCredentials awsCredentials = new BasicAWSCredentials(ACCESS_KEY, SECRET_KEY);
-
-        return (AmazonS3Client) AmazonS3ClientBuilder.standard()
-                .withRegion(REGION)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+    public SigV4Presigner sigV4Presigner() {
+        return new SigV4Presigner(ACCESS_KEY, SECRET_KEY, REGION);
     }
 
 }
@@ -0,0 +1,102 @@
+package seoultech.capstone.menjil.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import seoultech.capstone.menjil.domain.chatbot.dto.Message;
+import seoultech.capstone.menjil.domain.chatbot.dto.MentorLambdaResponses;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+
+import java.net.URL;
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    @Value("${cache.gpt-summary.max-size:1000}")
+    private int GPT_SUMMARY_MAX_SIZE;
+
+    @Value("${cache.gpt-summary.ttl-minutes:360}")
+    private long GPT_SUMMARY_TTL_MINUTES;
+
+    @Value("${cache.lambda-response.max-mentors:100}")
+    private int LAMBDA_RESPONSE_MAX_MENTORS;
+
+    @Value("${cache.lambda-response.ttl-minutes:60}")
+    private long LAMBDA_RESPONSE_TTL_MINUTES;
+
+    @Value("${cache.mentor-answered-count.max-size:1000}")
+    private int MENTOR_ANSWERED_COUNT_MAX_SIZE;
+
+    @Value("${cache.mentor-answered-count.ttl-seconds:30}")
+    private long MENTOR_ANSWERED_COUNT_TTL_SECONDS;
+
+    @Value("${cache.presigned-url.max-size:5000}")
+    private int PRESIGNED_URL_MAX_SIZE;
+
+    @Value("${cache.verified-access-token.max-size:10000}")
+    private int VERIFIED_ACCESS_TOKEN_MAX_SIZE;
+
+    @Value("${cache.validated-refresh-token.max-size:10000}")
+    private int VALIDATED_REFRESH_TOKEN_MAX_SIZE;
+
+    @Value("${cache.validated-refresh-token.ttl-minutes:10}")
+    private long VALIDATED_REFRESH_TOKEN_TTL_MINUTES;
+
+    /**
+     * 정규화된 질문 -> ChatGPT 세 줄 요약 결과
+     */
+    @Bean(name = "gptSummaryCache")
+    public ExpiringLruCache<String, Message> gptSummaryCache() {
+        return new ExpiringLruCache<>("gpt-summary", GPT_SUMMARY_MAX_SIZE,
+                Duration.ofMinutes(GPT_SUMMARY_TTL_MINUTES));
+    }
+
+    /**
+     * 멘토 닉네임 -> 해당 멘토의 (요약 hash -> Lambda 유사 질문 검색 결과)
+     * 멘토 단위로 묶어두므로, 한 멘토의 결과를 버릴 때 다른 멘토의 결과를 확인하지 않는다.
+     */
+    @Bean(name = "lambdaResponseCache")
+    public ExpiringLruCache<String, MentorLambdaResponses> lambdaResponseCache() {
+        return new ExpiringLruCache<>("lambda-response", LAMBDA_RESPONSE_MAX_MENTORS,
+                Duration.ofMinutes(LAMBDA_RESPONSE_TTL_MINUTES));
+    }
+
+    /**
+     * 멘토 닉네임 -> 답변 완료된 QaList 개수
+     * 답변은 이 서버 밖에서 qa_list 에 기록되므로, 짧은 ttl 동안만 재사용한다.
+     */
+    @Bean(name = "mentorAnsweredCountCache")
+    public ExpiringLruCache<String, Long> mentorAnsweredCountCache() {
+        return new ExpiringLruCache<>("mentor-answered-count", MENTOR_ANSWERED_COUNT_MAX_SIZE,
+                Duration.ofSeconds(MENTOR_ANSWERED_COUNT_TTL_SECONDS));
+    }
+
+    /**
+     * (bucket, object key, 유효 기간) -> S3 presigned url
+     * 항목마다 만료 시각이 다르므로, AwsS3Handler 에서 만료 시각을 지정하여 저장한다.
+     */
+    @Bean(name = "presignedUrlCache")
+    public ExpiringLruCache<String, URL> presignedUrlCache() {
+        return new ExpiringLruCache<>("presigned-url", PRESIGNED_URL_MAX_SIZE, Duration.ZERO);
+    }
+
+    /**
+     * Access Token 의 SHA-256 digest -> 검증이 끝난 user id
+     * 항목마다 Access Token 의 만료 시각(exp)까지만 유효하므로, JwtTokenProvider 에서 만료 시각을 지정하여 저장한다.
+     */
+    @Bean(name = "verifiedAccessTokenCache")
+    public ExpiringLruCache<String, String> verifiedAccessTokenCache() {
+        return new ExpiringLruCache<>("verified-access-token", VERIFIED_ACCESS_TOKEN_MAX_SIZE, Duration.ZERO);
+    }
+
+    /**
+     * Refresh Token 의 SHA-256 digest -> db 에서 존재를 확인한 user id
+     * 다른 서버에서 로그인하여 Refresh Token 이 바뀐 경우를 고려해, 짧은 ttl 동안만 보관한다.
+     */
+    @Bean(name = "validatedRefreshTokenCache")
+    public ExpiringLruCache<String, String> validatedRefreshTokenCache() {
+        return new ExpiringLruCache<>("validated-refresh-token", VALIDATED_REFRESH_TOKEN_MAX_SIZE,
+                Duration.ofMinutes(VALIDATED_REFRESH_TOKEN_TTL_MINUTES));
+    }
+}
@@ -0,0 +1,94 @@
+package seoultech.capstone.menjil.global.config;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
+import seoultech.capstone.menjil.global.mongo.MongoIndexBootstrap;
+import seoultech.capstone.menjil.global.mongo.MongoPlanCheckMode;
+import seoultech.capstone.menjil.global.mongo.QueryShape;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+@Configuration
+public class MongoIndexConfig {
+
+    private static final String SAMPLE_ID = "000000000000000000000000";
+    private static final String SAMPLE_NICKNAME = "plan-check";
+
+    /**
+     * warn: collection scan 이 있으면 로그만 남긴다. fail: 서버 시작을 중단한다. off: 확인하지 않는다.
+     */
+    @Value("${mongo.index.plan-check:warn}")
+    private String PLAN_CHECK_MODE;
+
+    @Bean
+    public MongoIndexBootstrap mongoIndexBootstrap(MongoTemplate mongoTemplate, MongoMappingContext mappingContext) {
+        return new MongoIndexBootstrap(mongoTemplate, mappingContext,
+                Arrays.asList(ChatMessage.class, QaList.class),
+                Arrays.asList(MessageRepository.class, QaListRepository.class),
+                queryShapes(),
+                MongoPlanCheckMode.valueOf(PLAN_CHECK_MODE.toUpperCase()));
+    }
+
+    /**
+     * 요청을 받기 전에(ApplicationReadyEvent 이전에) 인덱스를 만들고 실행 계획을 확인한다.
+     * fail 모드에서 예외가 발생하면 서버 시작이 중단된다.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void bootstrapMongoIndexes(ApplicationStartedEvent event) {
+        event.getApplicationContext().getBean(MongoIndexBootstrap.class).run();
+    }
+
+    /**
+     * MessageRepository, QaListRepository 의 쿼리 메서드가 보내는 filter, sort.
+     * @Query, @Aggregation 메서드는 annotation 의 쿼리를 그대로 읽고, 메서드 이름으로 만들어지는 쿼리만 직접 적는다.
+     * 쿼리 메서드를 추가하면 여기에도 추가해야 한다. (누락되면 plan check 에서 알려준다)
+     */
+    public static List<QueryShape> queryShapes() {
+        Document roomId = new Document("room_id", SAMPLE_ID);
+        Document timeIdDesc = new Document("time", -1).append("_id", -1);
+        Document answeredByMentor = new Document("mentor_nickname", SAMPLE_NICKNAME)
+                .append("answer", new Document("$ne", null));
+        List<String> sampleIds = Collections.singletonList(SAMPLE_ID);
+        List<String> sampleNicknames = Collections.singletonList(SAMPLE_NICKNAME);
+
+        return Arrays.asList(
+                QueryShape.of(MessageRepository.class, "findBy_idAndMessageType", ChatMessage.class,
+                        new Document("_id", SAMPLE_ID).append("message_type", MessageType.TALK.name())),
+                QueryShape.of(MessageRepository.class, "findChatMessageByRoomId", ChatMessage.class,
+                        roomId, timeIdDesc),
+                QueryShape.fromQuery(MessageRepository.class, "findChatMessagesBefore", ChatMessage.class,
+                        timeIdDesc, SAMPLE_ID, new Date(), SAMPLE_ID),
+                QueryShape.fromAggregation(MessageRepository.class, "findLatestMessagesByRoomIds", ChatMessage.class,
+                        sampleIds, MessageType.C_QUESTION.name()),
+                QueryShape.of(MessageRepository.class, "findByRoomId", ChatMessage.class, roomId),
+                QueryShape.of(MessageRepository.class, "deleteChatMessagesByRoomId", ChatMessage.class, roomId),
+
+                QueryShape.of(QaListRepository.class, "findBy_id", QaList.class,
+                        new Document("_id", SAMPLE_ID)),
+                QueryShape.fromQuery(QaListRepository.class, "findAnsweredQuestionsByMentor", QaList.class,
+                        new Document("question_time", -1).append("_id", -1), SAMPLE_NICKNAME),
+                QueryShape.fromAggregation(QaListRepository.class, "findLastAnsweredSummariesByMentors", QaList.class,
+                        sampleNicknames, 2),
+                QueryShape.fromQuery(QaListRepository.class, "findQuestionAndAnswerWithMentorNickname", QaList.class,
+                        new Document("answer_time", 1), SAMPLE_NICKNAME),
+                QueryShape.fromQuery(QaListRepository.class, "findAnsweredQuestionSummariesByMentor", QaList.class,
+                        new Document(), SAMPLE_NICKNAME),
+                QueryShape.of(QaListRepository.class, "countByMentorNicknameAndAnswerIsNotNull", QaList.class,
+                        answeredByMentor)
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package seoultech.capstone.menjil.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.global.ratelimit.QueuedRateLimiter;
+
+import java.time.Duration;
+
+@Configuration
+public class RateLimitConfig {
+
+    /**
+     * OpenAI 계정의 분당 요청 수(RPM), 분당 토큰 수(TPM) 한도보다 조금 낮게 설정한다.
+     */
+    @Value("${ratelimit.openai.requests-per-minute:500}")
+    private long OPEN_AI_REQUESTS_PER_MINUTE;
+
+    @Value("${ratelimit.openai.tokens-per-minute:60000}")
+    private long OPEN_AI_TOKENS_PER_MINUTE;
+
+    @Value("${ratelimit.openai.user-requests-per-minute:5}")
+    private long OPEN_AI_USER_REQUESTS_PER_MINUTE;
+
+    @Value("${ratelimit.openai.queue-capacity:200}")
+    private int OPEN_AI_QUEUE_CAPACITY;
+
+    @Value("${ratelimit.openai.max-wait-seconds:30}")
+    private long OPEN_AI_MAX_WAIT_SECONDS;
+
+    @Bean(name = "openAiRateLimiter")
+    public QueuedRateLimiter openAiRateLimiter() {
+        return new QueuedRateLimiter("openai", OPEN_AI_REQUESTS_PER_MINUTE, OPEN_AI_TOKENS_PER_MINUTE,
+                OPEN_AI_USER_REQUESTS_PER_MINUTE, OPEN_AI_QUEUE_CAPACITY,
+                Duration.ofSeconds(OPEN_AI_MAX_WAIT_SECONDS), Schedulers.parallel());
+    }
+}
@@ -0,0 +1,67 @@
+package seoultech.capstone.menjil.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import seoultech.capstone.menjil.global.resilience.UpstreamGuard;
+import seoultech.capstone.menjil.global.resilience.UpstreamGuardSettings;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    // OpenAI
+    @Value("${resilience.openai.max-concurrent-calls:50}")
+    private int OPEN_AI_MAX_CONCURRENT_CALLS;
+
+    @Value("${resilience.openai.failure-rate-threshold:50}")
+    private double OPEN_AI_FAILURE_RATE_THRESHOLD;
+
+    @Value("${resilience.openai.open-duration-seconds:30}")
+    private long OPEN_AI_OPEN_DURATION_SECONDS;
+
+    @Value("${resilience.openai.timeout-min-ms:5000}")
+    private long OPEN_AI_TIMEOUT_MIN_MS;
+
+    @Value("${resilience.openai.timeout-max-ms:60000}")
+    private long OPEN_AI_TIMEOUT_MAX_MS;
+
+    // AWS Lambda(API Gateway)
+    @Value("${resilience.lambda.max-concurrent-calls:50}")
+    private int LAMBDA_MAX_CONCURRENT_CALLS;
+
+    @Value("${resilience.lambda.failure-rate-threshold:50}")
+    private double LAMBDA_FAILURE_RATE_THRESHOLD;
+
+    @Value("${resilience.lambda.open-duration-seconds:30}")
+    private long LAMBDA_OPEN_DURATION_SECONDS;
+
+    @Value("${resilience.lambda.timeout-min-ms:3000}")
+    private long LAMBDA_TIMEOUT_MIN_MS;
+
+    @Value("${resilience.lambda.timeout-max-ms:60000}")
+    private long LAMBDA_TIMEOUT_MAX_MS;
+
+    @Bean(name = "openAiGuard")
+    public UpstreamGuard openAiGuard() {
+        return new UpstreamGuard("openai", UpstreamGuardSettings.builder()
+                .maxConcurrentCalls(OPEN_AI_MAX_CONCURRENT_CALLS)
+                .failureRateThreshold(OPEN_AI_FAILURE_RATE_THRESHOLD)
+                .openDuration(Duration.ofSeconds(OPEN_AI_OPEN_DURATION_SECONDS))
+                .minTimeout(Duration.ofMillis(OPEN_AI_TIMEOUT_MIN_MS))
+                .maxTimeout(Duration.ofMillis(OPEN_AI_TIMEOUT_MAX_MS))
+                .build());
+    }
+
+    @Bean(name = "lambdaGuard")
+    public UpstreamGuard lambdaGuard() {
+        return new UpstreamGuard("lambda", UpstreamGuardSettings.builder()
+                .maxConcurrentCalls(LAMBDA_MAX_CONCURRENT_CALLS)
+                .failureRateThreshold(LAMBDA_FAILURE_RATE_THRESHOLD)
+                .openDuration(Duration.ofSeconds(LAMBDA_OPEN_DURATION_SECONDS))
+                .minTimeout(Duration.ofMillis(LAMBDA_TIMEOUT_MIN_MS))
+                .maxTimeout(Duration.ofMillis(LAMBDA_TIMEOUT_MAX_MS))
+                .build());
+    }
+}
@@ -1,12 +1,19 @@
 package seoultech.capstone.menjil.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.WebClient;
+import seoultech.capstone.menjil.global.http.UpstreamClientRegistry;
+import seoultech.capstone.menjil.global.http.UpstreamClientSettings;
 
+@Slf4j
 @Configuration
 public class WebClientConfig {
 
@@ -19,20 +26,77 @@ public class WebClientConfig {
     @Value("${openai.api.secret-key}")
     private String OPEN_AI_SECRET_KEY;
 
+    // AWS Lambda(API Gateway)
+    @Value("${upstream.lambda.max-connections:50}")
+    private int LAMBDA_MAX_CONNECTIONS;
+
+    @Value("${upstream.lambda.pending-acquire-max-count:100}")
+    private int LAMBDA_PENDING_ACQUIRE_MAX_COUNT;
+
+    @Value("${upstream.lambda.max-in-memory-size-kb:1024}")
+    private int LAMBDA_MAX_IN_MEMORY_SIZE_KB;
+
+    @Value("${upstream.lambda.warmup-connections:2}")
+    private int LAMBDA_WARMUP_CONNECTIONS;
+
+    // OpenAI
+    @Value("${upstream.openai.max-connections:50}")
+    private int OPEN_AI_MAX_CONNECTIONS;
+
+    @Value("${upstream.openai.pending-acquire-max-count:100}")
+    private int OPEN_AI_PENDING_ACQUIRE_MAX_COUNT;
+
+    @Value("${upstream.openai.max-in-memory-size-kb:1024}")
+    private int OPEN_AI_MAX_IN_MEMORY_SIZE_KB;
+
+    @Value("${upstream.openai.warmup-connections:2}")
+    private int OPEN_AI_WARMUP_CONNECTIONS;
+
+    @Bean
+    public UpstreamClientRegistry upstreamClientRegistry(MeterRegistry meterRegistry) {
+        UpstreamClientRegistry registry = new UpstreamClientRegistry(meterRegistry);
+        registry.register(UpstreamClientSettings.builder()
+                        .name("lambda")
+                        .baseUrl(AWS_API_GATEWAY_URL)
+                        .maxConnections(LAMBDA_MAX_CONNECTIONS)
+                        .pendingAcquireMaxCount(LAMBDA_PENDING_ACQUIRE_MAX_COUNT)
+                        .maxInMemorySize(LAMBDA_MAX_IN_MEMORY_SIZE_KB * 1024)
+                        .warmupConnections(LAMBDA_WARMUP_CONNECTIONS)
+                        .build(),
+                builder -> builder
+                        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        registry.register(UpstreamClientSettings.builder()
+                        .name("openai")
+                        .baseUrl(OPEN_AI_URL)
+                        .maxConnections(OPEN_AI_MAX_CONNECTIONS)
+                        .pendingAcquireMaxCount(OPEN_AI_PENDING_ACQUIRE_MAX_COUNT)
+                        .maxInMemorySize(OPEN_AI_MAX_IN_MEMORY_SIZE_KB * 1024)
+                        .warmupConnections(OPEN_AI_WARMUP_CONNECTIONS)
+                        .build(),
+                builder -> builder
+                        .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + OPEN_AI_SECRET_KEY)
+                        .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE));
+        return registry;
+    }
+
     @Bean(name = "apiGatewayClient")
-    public WebClient apiGatewayClient() {
-        return WebClient.builder()
-                .baseUrl(AWS_API_GATEWAY_URL)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+    public WebClient apiGatewayClient(UpstreamClientRegistry upstreamClientRegistry) {
+        return upstreamClientRegistry.get("lambda").getWebClient();
     }
 
     @Bean(name = "chatGptWebClient")
-    public WebClient chatGptWebClient() {
-        return WebClient.builder()
-                .baseUrl(OPEN_AI_URL)
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + OPEN_AI_SECRET_KEY)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+    public WebClient chatGptWebClient(UpstreamClientRegistry upstreamClientRegistry) {
+        return upstreamClientRegistry.get("openai").getWebClient();
+    }
+
+    /**
+     * 서버가 요청을 받기 시작할 때, 외부 API 연결을 미리 맺어둔다.
+     * 시작을 지연시키지 않도록 기다리지 않으며, 실패하더라도 첫 요청에서 연결하면 되므로 로그만 남긴다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpUpstreamClients(ApplicationReadyEvent event) {
+        event.getApplicationContext().getBean(UpstreamClientRegistry.class)
+                .warmUpAll()
+                .subscribe(null, e -> log.warn(">> upstream warm-up failed", e));
     }
 }
@@ -1,15 +1,19 @@
 package seoultech.capstone.menjil.global.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import seoultech.capstone.menjil.domain.auth.jwt.JwtTokenProvider;
+import seoultech.capstone.menjil.global.filter.AdminAuthorizationFilter;
 import seoultech.capstone.menjil.global.filter.CustomCorsFilter;
 import seoultech.capstone.menjil.global.filter.JwtAuthenticationFilter;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -29,12 +33,27 @@ public class WebConfig implements WebMvcConfigurer {
         FilterRegistrationBean<JwtAuthenticationFilter> registrationBean
                 = new FilterRegistrationBean<>();
         registrationBean.setFilter(new JwtAuthenticationFilter(jwtTokenProvider, objectMapper));
-        registrationBean.addUrlPatterns("/api/user/*");
+        registrationBean.addUrlPatterns("/api/user/*", "/api/admin/*");
         registrationBean.setOrder(2);
         registrationBean.setName("Second-JwtAuthenticationFilter");
         return registrationBean;
     }
 
+    /**
+     * 캐시, connection pool 등 운영용 API 는 admin.user-ids 에 등록된 사용자만 호출할 수 있다.
+     */
+    @Bean
+    public FilterRegistrationBean<AdminAuthorizationFilter> adminAuthorizationFilter(
+            @Value("${admin.user-ids:}") List<String> ADMIN_USER_IDS, ObjectMapper objectMapper) {
+        FilterRegistrationBean<AdminAuthorizationFilter> registrationBean
+                = new FilterRegistrationBean<>();
+        registrationBean.setFilter(new AdminAuthorizationFilter(ADMIN_USER_IDS, objectMapper));
+        registrationBean.addUrlPatterns("/api/admin/*");
+        registrationBean.setOrder(3);
+        registrationBean.setName("Third-AdminAuthorizationFilter");
+        return registrationBean;
+    }
+
     /**
      * /docs/index.html 접근이 가능하도록 하는 설정이다.
      */
@@ -12,6 +12,8 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", " Invalid Input Value"),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C002", "Method not allowed"),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 내부 오류"),
+    UPSTREAM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C004", "외부 API 의 응답이 지연되어 요청을 처리할 수 없습니다"),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "C005", "요청이 많아 잠시 후 다시 시도해 주세요"),
 
     // auth
     NICKNAME_ALREADY_EXISTED(HttpStatus.CONFLICT, "A001", "이미 존재하는 닉네임입니다"),
@@ -32,7 +34,12 @@ public enum ErrorCode {
     INITIATOR_USER_NOT_EXISTED(HttpStatus.BAD_REQUEST, "CH05", "사용자의 닉네임이 존재하지 않습니다"),
     RECEPIENT_USER_NOT_EXISTED(HttpStatus.BAD_REQUEST, "CH06", "사용자의 닉네임이 존재하지 않습니다"),
     CHAT_MESSAGE_NOT_EXISTED(HttpStatus.BAD_REQUEST, "CH07", "채팅 메시지 id가 유효하지 않습니다"),
-    QALIST_NOT_EXISTED(HttpStatus.BAD_REQUEST, "CH07", "질문답변 메시지 객체 id가 유효하지 않습니다");
+    QALIST_NOT_EXISTED(HttpStatus.BAD_REQUEST, "CH07", "질문답변 메시지 객체 id가 유효하지 않습니다"),
+    CHAT_MESSAGE_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CH08", "메시지를 저장하지 못했습니다. 다시 전송해 주세요"),
+    MESSAGE_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "CH09", "채팅 내역 cursor 가 유효하지 않습니다"),
+
+    // admin
+    CACHE_NOT_EXISTED(HttpStatus.BAD_REQUEST, "AD01", "존재하지 않는 캐시 이름입니다");
 
     private final HttpStatus httpStatus;
     private final String type;
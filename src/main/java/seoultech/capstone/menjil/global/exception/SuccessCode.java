@@ -38,6 +38,10 @@ public enum SuccessCode {
     GET_ALL_FOLLOW_USERS_SUCCESS(HttpStatus.OK.value(), "팔로우 목록을 불러오는데 성공하였습니다"),
     GET_FOLLOW_USER_INFO_SUCCESS(HttpStatus.OK.value(), "팔로우한 사용자 정보를 불러오는데 성공하였습니다"),
 
+    // admin
+    GET_CACHE_STATS_SUCCESS(HttpStatus.OK.value(), "캐시 통계를 불러오는데 성공하였습니다"),
+    GET_UPSTREAM_STATS_SUCCESS(HttpStatus.OK.value(), "외부 API 연결 상태를 불러오는데 성공하였습니다"),
+
     /**
      * 201 CREATED
      */
@@ -55,6 +59,9 @@ public enum SuccessCode {
     FOLLOW_CREATED(HttpStatus.CREATED.value(), "팔로우가 정상적으로 생성되었습니다"),
     FOLLOW_DELETED(HttpStatus.CREATED.value(), "팔로우가 정상적으로 제거되었습니다"),
 
+    // admin
+    CACHE_FLUSH_SUCCESS(HttpStatus.CREATED.value(), "캐시가 정상적으로 비워졌습니다"),
+
     /**
      * 202 ACCEPTED
      * 아래 응답은 202 코드와 맞지 않지만, 프로젝트에서 단순 구분을 위해 수정하였음
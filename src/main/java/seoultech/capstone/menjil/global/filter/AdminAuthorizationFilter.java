@@ -0,0 +1,57 @@
+package seoultech.capstone.menjil.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import seoultech.capstone.menjil.domain.auth.jwt.AuthenticatedUser;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * /api/admin 하위의 운영용 API 는 admin.user-ids 에 등록된 사용자만 호출할 수 있다.
+ * JwtAuthenticationFilter 가 요청에 담아 준 AuthenticatedUser 를 사용하므로, 반드시 그 뒤에 등록해야 한다.
+ * admin.user-ids 가 비어 있으면 모든 요청을 거절한다.
+ */
+@Slf4j
+public class AdminAuthorizationFilter extends OncePerRequestFilter {
+    private final Set<String> adminUserIds;
+    private final ObjectMapper objectMapper;
+    private final String HEADER_DATA_VALUE = "None";
+
+    public AdminAuthorizationFilter(Collection<String> adminUserIds, ObjectMapper objectMapper) {
+        this.adminUserIds = Set.copyOf(adminUserIds);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Object authenticatedUser = request.getAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE);
+        if (authenticatedUser instanceof AuthenticatedUser
+                && adminUserIds.contains(((AuthenticatedUser) authenticatedUser).getUserId())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn(">> admin API 접근 거부: {}", request.getRequestURI());
+        ConcurrentHashMap<String, Object> detailsMap = new ConcurrentHashMap<>();
+        detailsMap.put("code", 403);
+        detailsMap.put("message", "관리자만 접근할 수 있습니다");
+        detailsMap.put("data", HEADER_DATA_VALUE);
+
+        response.setCharacterEncoding("UTF-8");
+        response.setStatus(HttpStatus.FORBIDDEN.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getWriter(), detailsMap);
+    }
+}
@@ -6,14 +6,17 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import seoultech.capstone.menjil.domain.auth.jwt.AuthenticatedUser;
 import seoultech.capstone.menjil.domain.auth.jwt.JwtTokenProvider;
-import seoultech.capstone.menjil.domain.auth.jwt.TokenStatus;
+import seoultech.capstone.menjil.domain.auth.jwt.TokenValidationResult;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -69,11 +72,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         /* case 3: Access Token 과 함께 요청이 들어오는 경우 */
         else if (jwtTokenArr.length == 1) {
             accessToken = jwtTokenArr[0];
-            TokenStatus accessTokenIsAvailable = jwtTokenProvider.validateAccessToken(accessToken);
+            TokenValidationResult accessTokenResult = jwtTokenProvider.authenticateAccessToken(accessToken);
 
-            if (accessTokenIsAvailable == TokenStatus.RELIABLE) {
-                /* 정상 요청 */
-                filterChain.doFilter(request, response);
+            if (accessTokenResult.isReliable()) {
+                /* 정상 요청: 검증한 사용자 정보를 요청에 담아, Controller 에서 토큰을 다시 파싱하지 않도록 한다. */
+                AuthenticatedUser authenticatedUser = new AuthenticatedUser(accessTokenResult.getUserId());
+                request.setAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE, authenticatedUser);
+                filterChain.doFilter(new AuthenticatedRequest(request, authenticatedUser), response);
             } else {
                 /* Refresh Token을 담아서 보내도록 클라이언트에게 요청 */
                 ConcurrentHashMap<String, Object> detailsMap = responseJson(403,
@@ -90,10 +95,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             accessToken = jwtTokenArr[0];
             refreshToken = jwtTokenArr[1];
 
-            TokenStatus refreshTokenIsAvailable = jwtTokenProvider.validateRefreshToken(refreshToken);
-            if (refreshTokenIsAvailable == TokenStatus.RELIABLE) {
-                /* Access Token 재발급 */
-                String userId = jwtTokenProvider.getUserId(refreshToken);
+            TokenValidationResult refreshTokenResult = jwtTokenProvider.authenticateRefreshToken(refreshToken);
+            if (refreshTokenResult.isReliable()) {
+                /* Access Token 재발급: 검증할 때 얻은 user id 를 사용하므로, Refresh Token 을 다시 파싱하지 않는다. */
+                String userId = refreshTokenResult.getUserId();
                 String newAccessToken = jwtTokenProvider.generateAccessToken(userId, LocalDateTime.now());
 
                 Map<String, String> map = new ConcurrentHashMap<>();
@@ -135,4 +140,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         return errorDetails;
     }
+
+    /**
+     * request.getUserPrincipal() 로 검증한 사용자 정보를 돌려준다. (Controller 의 Principal 파라미터)
+     */
+    private static class AuthenticatedRequest extends HttpServletRequestWrapper {
+        private final AuthenticatedUser authenticatedUser;
+
+        private AuthenticatedRequest(HttpServletRequest request, AuthenticatedUser authenticatedUser) {
+            super(request);
+            this.authenticatedUser = authenticatedUser;
+        }
+
+        @Override
+        public Principal getUserPrincipal() {
+            return authenticatedUser;
+        }
+    }
 }
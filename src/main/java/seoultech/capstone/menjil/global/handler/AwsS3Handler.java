@@ -1,32 +1,101 @@
 package seoultech.capstone.menjil.global.handler;
 
 
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
 
 import java.net.URL;
+import java.time.Clock;
 import java.time.Duration;
-import java.util.Date;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
-@RequiredArgsConstructor
 @Component
 public class AwsS3Handler {
 
-    private final AmazonS3Client amazonS3Client;
+    private final SigV4Presigner sigV4Presigner;
+    private final ExpiringLruCache<String, URL> presignedUrlCache;
+    private final Duration refreshBefore;
+    private final Clock clock;
+
+    /**
+     * presigned url 은 서명할 때마다 CPU 를 사용하므로, 같은 객체에 대해서는 만료가 가까워지기 전까지 같은 url 을 재사용한다.
+     * 만료까지 refreshBefore 보다 적게 남은 url 은 다시 서명한다. (클라이언트가 받은 url 을 한동안 사용할 수 있도록)
+     */
+    @Autowired
+    public AwsS3Handler(SigV4Presigner sigV4Presigner,
+                        @Qualifier("presignedUrlCache") ExpiringLruCache<String, URL> presignedUrlCache,
+                        @Value("${cache.presigned-url.refresh-before-hours:24}") long refreshBeforeHours) {
+        this(sigV4Presigner, presignedUrlCache, Duration.ofHours(refreshBeforeHours), Clock.systemUTC());
+    }
+
+    // 테스트 코드 작성을 위해, Clock 을 파라미터로 받도록 작성.
+    AwsS3Handler(SigV4Presigner sigV4Presigner, ExpiringLruCache<String, URL> presignedUrlCache,
+                 Duration refreshBefore, Clock clock) {
+        this.sigV4Presigner = sigV4Presigner;
+        this.presignedUrlCache = presignedUrlCache;
+        this.refreshBefore = refreshBefore;
+        this.clock = clock;
+    }
 
     public URL generatePresignedUrl(String bucketName, String objectKey, Duration duration) {
-        GeneratePresignedUrlRequest generatePresignedUrlRequest =
-                new GeneratePresignedUrlRequest(bucketName, objectKey)
-                        .withMethod(com.amazonaws.HttpMethod.GET);
+        if (objectKey == null) {
+            throw new IllegalArgumentException("The key parameter must be specified when generating a pre-signed URL");
+        }
+        return generatePresignedUrls(bucketName, Collections.singletonList(objectKey), duration).get(objectKey);
+    }
+
+    /**
+     * 여러 객체의 presigned url 을 한 번에 만든다. 목록 화면처럼 여러 사용자의 이미지가 필요한 경우에 사용한다.
+     * 캐싱되지 않은 객체만 같은 signing key 로 한 번에 서명한다.
+     *
+     * @return object key -> presigned url (objectKeys 의 순서를 유지하며, null 인 key 는 제외한다)
+     */
+    public Map<String, URL> generatePresignedUrls(String bucketName, Collection<String> objectKeys, Duration duration) {
+        Map<String, URL> urls = new LinkedHashMap<>();
+        List<String> missingKeys = new ArrayList<>();
+        objectKeys.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(objectKey -> {
+                    Optional<URL> cached = presignedUrlCache.get(cacheKey(bucketName, objectKey, duration));
+                    urls.put(objectKey, cached.orElse(null));
+                    if (cached.isEmpty()) {
+                        missingKeys.add(objectKey);
+                    }
+                });
+        if (missingKeys.isEmpty()) {
+            return urls;
+        }
 
-        // Set expiration
-        Date expiration = new Date();
-        expiration.setTime(System.currentTimeMillis() + duration.toMillis());
-        generatePresignedUrlRequest.setExpiration(expiration);
+        // 동시에 같은 url 을 서명할 수 있지만, 결과는 모두 유효하므로 lock 을 잡고 서명하지 않는다.
+        Instant now = clock.instant();
+        List<URL> signedUrls = sigV4Presigner.presign(bucketName, missingKeys, now, duration);
+
+        // 유효 기간이 refreshBefore 보다 짧으면 재사용할 수 없으므로 저장하지 않는다.
+        Instant reusableUntil = now.plus(duration).minus(refreshBefore);
+        boolean reusable = reusableUntil.isAfter(now);
+        for (int i = 0; i < missingKeys.size(); i++) {
+            urls.put(missingKeys.get(i), signedUrls.get(i));
+            if (reusable) {
+                presignedUrlCache.put(cacheKey(bucketName, missingKeys.get(i), duration), signedUrls.get(i), reusableUntil);
+            }
+        }
+        return urls;
+    }
 
-        return amazonS3Client.generatePresignedUrl(generatePresignedUrlRequest);
+    private String cacheKey(String bucketName, String objectKey, Duration duration) {
+        return bucketName + "/" + objectKey + "@" + duration;
     }
 
 }
@@ -0,0 +1,194 @@
+package seoultech.capstone.menjil.global.handler;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * S3 GET presigned url 을 AWS Signature Version 4(query string) 로 직접 서명한다.
+ * AmazonS3Client.generatePresignedUrl 은 호출할 때마다 요청 객체를 만들고 signing key 를 다시 계산하므로,
+ * 여러 객체를 한 번에 서명할 때는
+ * 1. signing key 는 날짜(UTC)가 바뀔 때만 계산하여 재사용하고,
+ * 2. 객체마다 달라지지 않는 query string, credential scope 는 한 번만 만들고,
+ * 3. Mac, MessageDigest 는 묶음마다 한 번만 생성한다.
+ * 정적 자격 증명(access key, secret key)만 지원한다. (session token 을 사용하지 않음)
+ */
+public class SigV4Presigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final String TERMINATOR = "aws4_request";
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final long MAX_EXPIRES_SECONDS = Duration.ofDays(7).getSeconds();   // SigV4 presigned url 의 최대 유효 기간
+
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String accessKey;
+    private final String secretKey;
+    private final String region;
+    private final AtomicReference<SigningKey> signingKey = new AtomicReference<>();
+
+    public SigV4Presigner(String accessKey, String secretKey, String region) {
+        this.accessKey = accessKey;
+        this.secretKey = secretKey;
+        this.region = region;
+    }
+
+    /**
+     * objectKeys 를 같은 서명 시각, 같은 유효 기간으로 서명하여, 같은 순서로 돌려준다.
+     */
+    public List<URL> presign(String bucketName, List<String> objectKeys, Instant signedAt, Duration expires) {
+        long expiresSeconds = expires.getSeconds();
+        if (expiresSeconds <= 0 || expiresSeconds > MAX_EXPIRES_SECONDS) {
+            throw new IllegalArgumentException("presigned url expiration must be between 1 second and 7 days");
+        }
+
+        String date = DATE_FORMAT.format(signedAt);
+        String dateTime = DATE_TIME_FORMAT.format(signedAt);
+        String scope = date + "/" + region + "/" + SERVICE + "/" + TERMINATOR;
+        String canonicalQuery = "X-Amz-Algorithm=" + ALGORITHM
+                + "&X-Amz-Credential=" + uriEncode(accessKey + "/" + scope, true)
+                + "&X-Amz-Date=" + dateTime
+                + "&X-Amz-Expires=" + expiresSeconds
+                + "&X-Amz-SignedHeaders=host";
+
+        // dot 이 포함된 bucket 은 인증서의 host 와 맞지 않으므로 path-style 을 사용한다.
+        boolean pathStyle = bucketName.indexOf('.') >= 0;
+        String regionalHost = "us-east-1".equals(region) ? "s3.amazonaws.com" : "s3." + region + ".amazonaws.com";
+        String host = pathStyle ? regionalHost : bucketName + "." + regionalHost;
+        String pathPrefix = pathStyle ? "/" + uriEncode(bucketName, false) + "/" : "/";
+
+        Mac mac = createMac(signingKeyFor(date));
+        MessageDigest sha256 = createSha256();
+        StringBuilder builder = new StringBuilder(512);
+        List<URL> urls = new ArrayList<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+            if (objectKey == null) {
+                throw new IllegalArgumentException("The key parameter must be specified when generating a pre-signed URL");
+            }
+            String path = pathPrefix + uriEncode(objectKey, false);
+
+            builder.setLength(0);
+            builder.append("GET\n").append(path).append('\n')
+                    .append(canonicalQuery).append('\n')
+                    .append("host:").append(host).append("\n\n")
+                    .append("host\n")
+                    .append("UNSIGNED-PAYLOAD");
+            String canonicalRequestHash = hex(sha256.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+
+            builder.setLength(0);
+            builder.append(ALGORITHM).append('\n')
+                    .append(dateTime).append('\n')
+                    .append(scope).append('\n')
+                    .append(canonicalRequestHash);
+            String signature = hex(mac.doFinal(builder.toString().getBytes(StandardCharsets.UTF_8)));
+
+            builder.setLength(0);
+            builder.append("https://").append(host).append(path)
+                    .append('?').append(canonicalQuery)
+                    .append("&X-Amz-Signature=").append(signature);
+            urls.add(toUrl(builder.toString()));
+        }
+        return urls;
+    }
+
+    /**
+     * signing key 는 날짜, region, service 로만 결정되므로, 날짜가 바뀔 때만 다시 계산한다.
+     */
+    private byte[] signingKeyFor(String date) {
+        SigningKey current = signingKey.get();
+        if (current != null && current.date.equals(date)) {
+            return current.key;
+        }
+        byte[] key = hmac(("AWS4" + secretKey).getBytes(StandardCharsets.UTF_8), date);
+        key = hmac(key, region);
+        key = hmac(key, SERVICE);
+        key = hmac(key, TERMINATOR);
+        signingKey.set(new SigningKey(date, key));
+        return key;
+    }
+
+    private static byte[] hmac(byte[] key, String data) {
+        return createMac(key).doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac createMac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(new SecretKeySpec(key, HMAC_SHA256));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MessageDigest createSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static URL toUrl(String url) {
+        try {
+            return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * SigV4 의 URI encoding: unreserved 문자(A-Z, a-z, 0-9, '-', '_', '.', '~')를 제외하고 UTF-8 byte 단위로 %XY 로 변환한다.
+     * object key 의 '/' 는 경로 구분자이므로 변환하지 않는다.
+     */
+    static String uriEncode(String value, boolean encodeSlash) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        StringBuilder builder = new StringBuilder(bytes.length + 16);
+        for (byte b : bytes) {
+            char c = (char) (b & 0xff);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.' || c == '~' || (c == '/' && !encodeSlash)) {
+                builder.append(c);
+            } else {
+                builder.append('%').append(Character.toUpperCase(HEX[(b >> 4) & 0x0f]))
+                        .append(Character.toUpperCase(HEX[b & 0x0f]));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String hex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    private static final class SigningKey {
+        private final String date;
+        private final byte[] key;
+
+        private SigningKey(String date, byte[] key) {
+            this.date = date;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package seoultech.capstone.menjil.global.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 외부 API 하나에 대한 WebClient 와 전용 connection pool
+ * pool 상태(active, idle, pending)와 연결을 얻기까지 걸린 시간(acquire)을 Micrometer 로 내보낸다.
+ * - upstream.pool.active / idle / total / pending / max (gauge)
+ * - upstream.pool.acquire (timer): 요청 시작부터 연결을 얻어 요청을 보내기 직전까지의 시간
+ */
+@Slf4j
+public class UpstreamClient {
+
+    private static final String ACQUIRE_START_KEY = UpstreamClient.class.getName() + ".acquireStart";
+
+    private final UpstreamClientSettings settings;
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final Timer acquireTimer;
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    public UpstreamClient(UpstreamClientSettings settings, MeterRegistry meterRegistry,
+                          Consumer<WebClient.Builder> customizer) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.acquireTimer = Timer.builder("upstream.pool.acquire")
+                .tag("upstream", settings.getName())
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        this.connectionProvider = ConnectionProvider.builder(settings.getName())
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(settings.getPendingAcquireTimeout())
+                .maxIdleTime(settings.getMaxIdleTime())
+                .maxLifeTime(settings.getMaxLifeTime())
+                .evictInBackground(settings.getEvictInBackground())
+                .metrics(true, () -> this::registerPoolMetrics)
+                .build();
+
+        this.httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis())
+                .doOnRequest((request, connection) -> recordAcquireTime(request.currentContextView()
+                        .getOrDefault(ACQUIRE_START_KEY, null)));
+
+        WebClient.Builder builder = WebClient.builder()
+                .baseUrl(settings.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(ExchangeStrategies.builder()
+                        .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(settings.getMaxInMemorySize()))
+                        .build())
+                // 구독 시점(연결을 요청하는 시점)을 기록해두고, doOnRequest 에서 acquire 시간을 계산한다.
+                .filter((request, next) -> next.exchange(request)
+                        .contextWrite(context -> context.put(ACQUIRE_START_KEY, System.nanoTime())));
+        customizer.accept(builder);
+        this.webClient = builder.build();
+    }
+
+    public String getName() {
+        return settings.getName();
+    }
+
+    public WebClient getWebClient() {
+        return webClient;
+    }
+
+    /**
+     * 첫 요청에서 event loop 초기화, DNS 조회, TLS handshake 비용을 치르지 않도록 미리 연결을 맺어둔다.
+     * 응답 상태와 관계없이, 연결은 keep-alive 로 pool 에 반환된다.
+     */
+    public Mono<Void> warmUp() {
+        int connections = settings.getWarmupConnections();
+        if (connections <= 0) {
+            return Mono.empty();
+        }
+        return httpClient.warmup()
+                .thenMany(Flux.range(0, connections)
+                        .flatMap(i -> webClient.head()
+                                .exchangeToMono(response -> response.releaseBody())
+                                .timeout(Duration.ofSeconds(10))
+                                .onErrorResume(e -> {
+                                    log.warn(">> warm-up request to upstream {} failed: {}", getName(), e.toString());
+                                    return Mono.empty();
+                                }), connections))
+                .then()
+                .doOnSuccess(v -> log.info(">> upstream {} is warmed up: {} connections", getName(),
+                        snapshot().getTotalConnections()));
+    }
+
+    public UpstreamPoolStats snapshot() {
+        int active = sum(ConnectionPoolMetrics::acquiredSize);
+        int idle = sum(ConnectionPoolMetrics::idleSize);
+        int total = sum(ConnectionPoolMetrics::allocatedSize);
+        int pending = sum(ConnectionPoolMetrics::pendingAcquireSize);
+        return new UpstreamPoolStats(getName(), settings.getMaxConnections(), active, idle, total, pending,
+                acquireTimer.count(),
+                acquireTimer.mean(TimeUnit.MILLISECONDS),
+                acquireTimer.max(TimeUnit.MILLISECONDS));
+    }
+
+    public void dispose() {
+        connectionProvider.dispose();
+    }
+
+    private int sum(ToIntFunction<ConnectionPoolMetrics> metric) {
+        return pools.values().stream().mapToInt(metric).sum();
+    }
+
+    private void recordAcquireTime(Long startNanos) {
+        if (startNanos != null) {
+            acquireTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // reactor-netty 는 remote address 마다 pool 을 만들고, 그때마다 이 메서드를 호출한다.
+    private void registerPoolMetrics(String poolName, String id, SocketAddress remoteAddress,
+                                     ConnectionPoolMetrics metrics) {
+        String remote = String.valueOf(remoteAddress);
+        pools.put(remote, metrics);
+        Tags tags = Tags.of("upstream", settings.getName(), "remote", remote);
+        registerGauge("upstream.pool.active", tags, metrics, ConnectionPoolMetrics::acquiredSize);
+        registerGauge("upstream.pool.idle", tags, metrics, ConnectionPoolMetrics::idleSize);
+        registerGauge("upstream.pool.total", tags, metrics, ConnectionPoolMetrics::allocatedSize);
+        registerGauge("upstream.pool.pending", tags, metrics, ConnectionPoolMetrics::pendingAcquireSize);
+        registerGauge("upstream.pool.max", tags, metrics, ConnectionPoolMetrics::maxAllocatedSize);
+    }
+
+    private void registerGauge(String name, Tags tags, ConnectionPoolMetrics metrics,
+                               ToIntFunction<ConnectionPoolMetrics> value) {
+        Gauge.builder(name, metrics, m -> value.applyAsInt(m))
+                .tags(tags)
+                .register(meterRegistry);
+    }
+}
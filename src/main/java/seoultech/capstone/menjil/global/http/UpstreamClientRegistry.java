@@ -0,0 +1,62 @@
+package seoultech.capstone.menjil.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 외부 API 별 UpstreamClient 를 이름으로 관리한다.
+ */
+public class UpstreamClientRegistry implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, UpstreamClient> clients = new ConcurrentHashMap<>();
+
+    public UpstreamClientRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public UpstreamClient register(UpstreamClientSettings settings, Consumer<WebClient.Builder> customizer) {
+        UpstreamClient client = new UpstreamClient(settings, meterRegistry, customizer);
+        if (clients.putIfAbsent(settings.getName(), client) != null) {
+            client.dispose();
+            throw new IllegalStateException("upstream client already registered: " + settings.getName());
+        }
+        return client;
+    }
+
+    public UpstreamClient get(String name) {
+        UpstreamClient client = clients.get(name);
+        if (client == null) {
+            throw new IllegalArgumentException("upstream client not registered: " + name);
+        }
+        return client;
+    }
+
+    public List<UpstreamPoolStats> snapshots() {
+        return clients.values().stream()
+                .map(UpstreamClient::snapshot)
+                .collect(Collectors.toList());
+    }
+
+    public Mono<Void> warmUpAll() {
+        return Flux.fromIterable(new ArrayList<>(clients.values()))
+                .flatMap(UpstreamClient::warmUp)
+                .then();
+    }
+
+    @Override
+    public void destroy() {
+        clients.values().forEach(UpstreamClient::dispose);
+        clients.clear();
+    }
+}
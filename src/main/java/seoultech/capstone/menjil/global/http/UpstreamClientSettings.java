@@ -0,0 +1,52 @@
+package seoultech.capstone.menjil.global.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class UpstreamClientSettings {
+
+    private final String name;
+    private final String baseUrl;
+
+    /**
+     * connection pool
+     * 외부 API 마다 별도의 pool 을 사용하므로, 한 쪽이 느려져도 다른 쪽의 연결을 빼앗지 않는다.
+     * maxConnections 개의 연결이 모두 사용 중이면 pendingAcquireMaxCount 개까지만 대기하고, 나머지는 바로 실패한다.
+     */
+    @Builder.Default
+    private final int maxConnections = 50;
+    @Builder.Default
+    private final int pendingAcquireMaxCount = 100;
+    @Builder.Default
+    private final Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+    /**
+     * idle eviction
+     * 서버(로드밸런서)가 먼저 끊은 연결을 재사용하지 않도록, 오래 사용하지 않은 연결은 주기적으로 정리한다.
+     */
+    @Builder.Default
+    private final Duration maxIdleTime = Duration.ofSeconds(30);
+    @Builder.Default
+    private final Duration maxLifeTime = Duration.ofMinutes(5);
+    @Builder.Default
+    private final Duration evictInBackground = Duration.ofSeconds(30);
+
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 응답 body 크기 상한. 초과하면 DataBufferLimitException 으로 실패한다.
+     */
+    @Builder.Default
+    private final int maxInMemorySize = 1024 * 1024;
+
+    /**
+     * 서버 시작 시 미리 맺어둘 연결 수 (0: 사용하지 않음)
+     */
+    @Builder.Default
+    private final int warmupConnections = 2;
+}
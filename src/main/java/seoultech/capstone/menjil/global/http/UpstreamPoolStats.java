@@ -0,0 +1,21 @@
+package seoultech.capstone.menjil.global.http;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpstreamPoolStats {
+
+    private String name;
+    private int maxConnections;
+    private int activeConnections;      // 요청에 사용 중인 연결
+    private int idleConnections;
+    private int totalConnections;
+    private int pendingAcquires;        // 연결을 기다리는 요청
+    private long acquireCount;
+    private double acquireMeanMillis;
+    private double acquireMaxMillis;
+}
@@ -0,0 +1,143 @@
+package seoultech.capstone.menjil.global.mongo;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 서버 시작 시, 엔티티에 선언된 인덱스(@CompoundIndex 등)를 생성하고
+ * repository 쿼리 메서드의 실행 계획(explain)에 collection scan(COLLSCAN)이 있는지 확인한다.
+ * 인덱스가 누락된 쿼리는 데이터가 적은 개발 환경에서는 드러나지 않으므로, 배포 시점에 발견하기 위함이다.
+ */
+@Slf4j
+public class MongoIndexBootstrap {
+
+    private static final String COLLECTION_SCAN = "COLLSCAN";
+
+    private final MongoTemplate mongoTemplate;
+    private final IndexResolver indexResolver;
+    private final List<Class<?>> entities;
+    private final List<Class<?>> repositories;
+    private final List<QueryShape> queryShapes;
+    private final MongoPlanCheckMode planCheckMode;
+
+    public MongoIndexBootstrap(MongoTemplate mongoTemplate, MongoMappingContext mappingContext,
+                               List<Class<?>> entities, List<Class<?>> repositories,
+                               List<QueryShape> queryShapes, MongoPlanCheckMode planCheckMode) {
+        this.mongoTemplate = mongoTemplate;
+        this.indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        this.entities = entities;
+        this.repositories = repositories;
+        this.queryShapes = queryShapes;
+        this.planCheckMode = planCheckMode;
+    }
+
+    public void run() {
+        entities.forEach(this::ensureIndexes);
+        if (planCheckMode == MongoPlanCheckMode.OFF) {
+            return;
+        }
+
+        List<String> problems = new ArrayList<>();
+        for (Class<?> repository : repositories) {
+            findUnverifiedQueryMethods(repository, queryShapes)
+                    .forEach(method -> problems.add(repository.getSimpleName() + "." + method
+                            + ": no query shape registered for plan check"));
+        }
+        for (QueryShape shape : queryShapes) {
+            if (containsCollectionScan(explain(shape))) {
+                problems.add(shape.getName() + ": winning plan uses " + COLLECTION_SCAN);
+            }
+        }
+
+        if (problems.isEmpty()) {
+            log.info(">> mongo query plan check passed. {} queries verified", queryShapes.size());
+            return;
+        }
+        problems.forEach(problem -> log.warn(">> mongo query plan check: {}", problem));
+        if (planCheckMode == MongoPlanCheckMode.FAIL) {
+            throw new IllegalStateException("mongo query plan check failed: " + problems);
+        }
+    }
+
+    private void ensureIndexes(Class<?> entity) {
+        IndexOperations indexOps = mongoTemplate.indexOps(entity);
+        indexResolver.resolveIndexFor(entity).forEach(index -> {
+            String name = indexOps.ensureIndex(index);
+            log.info(">> mongo index ensured. collection: {}, index: {}",
+                    mongoTemplate.getCollectionName(entity), name);
+        });
+    }
+
+    private Document explain(QueryShape shape) {
+        Document find = new Document("find", mongoTemplate.getCollectionName(shape.getEntity()))
+                .append("filter", shape.getFilter());
+        if (!shape.getSort().isEmpty()) {
+            find.append("sort", shape.getSort());
+        }
+        return mongoTemplate.getDb().runCommand(new Document("explain", find)
+                .append("verbosity", "queryPlanner"));
+    }
+
+    /**
+     * explain 결과의 winningPlan 에 COLLSCAN stage 가 있는지 확인한다.
+     * 버전(classic, SBE의 queryPlan), sharding(shards) 에 따라 구조가 다르므로, 하위 문서를 모두 탐색한다.
+     */
+    static boolean containsCollectionScan(Document explainResult) {
+        Object queryPlanner = explainResult.get("queryPlanner");
+        if (queryPlanner instanceof Document) {
+            return containsStage(((Document) queryPlanner).get("winningPlan"), COLLECTION_SCAN);
+        }
+        // sharded cluster 의 경우 shards 아래에 shard 별 queryPlanner 가 있다.
+        return containsStage(explainResult.get("shards"), COLLECTION_SCAN);
+    }
+
+    private static boolean containsStage(Object node, String stage) {
+        if (node instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) node;
+            if (stage.equals(map.get("stage"))) {
+                return true;
+            }
+            return map.entrySet().stream()
+                    .filter(entry -> !"rejectedPlans".equals(entry.getKey()))
+                    .anyMatch(entry -> containsStage(entry.getValue(), stage));
+        }
+        if (node instanceof Collection) {
+            return ((Collection<?>) node).stream().anyMatch(child -> containsStage(child, stage));
+        }
+        return false;
+    }
+
+    /**
+     * repository 에 직접 선언된 쿼리 메서드 중, 실행 계획을 확인할 QueryShape 가 등록되지 않은 메서드를 찾는다.
+     * 쿼리 메서드를 추가하고 QueryShape 를 등록하지 않으면, 인덱스 확인에서 빠지지 않도록 알리기 위함이다.
+     */
+    public static List<String> findUnverifiedQueryMethods(Class<?> repository, Collection<QueryShape> queryShapes) {
+        Set<String> verified = queryShapes.stream()
+                .filter(shape -> shape.getRepository().equals(repository))
+                .map(QueryShape::getMethod)
+                .collect(Collectors.toSet());
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic()
+                        && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .distinct()
+                .filter(name -> !verified.contains(name))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+}
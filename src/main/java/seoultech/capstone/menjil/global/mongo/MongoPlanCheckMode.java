@@ -0,0 +1,10 @@
+package seoultech.capstone.menjil.global.mongo;
+
+/**
+ * 서버 시작 시, 쿼리 실행 계획에서 collection scan 이 발견되었을 때의 동작
+ */
+public enum MongoPlanCheckMode {
+    OFF,    // 실행 계획을 확인하지 않는다.
+    WARN,   // 로그만 남긴다.
+    FAIL    // 서버 시작을 중단한다.
+}
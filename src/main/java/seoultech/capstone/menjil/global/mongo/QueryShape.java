@@ -0,0 +1,98 @@
+package seoultech.capstone.menjil.global.mongo;
+
+import lombok.Getter;
+import org.bson.Document;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.util.json.ParameterBindingDocumentCodec;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * repository 쿼리 메서드가 MongoDB 에 보내는 조회 조건(filter)과 정렬(sort)의 형태.
+ * 실행 계획(explain)만 확인하므로, filter 의 값은 실제 데이터와 타입만 같으면 된다.
+ * @Query, @Aggregation 이 붙은 메서드는 쿼리 문자열을 옮겨 적지 않고 fromQuery, fromAggregation 으로 annotation 에서 읽는다.
+ */
+@Getter
+public class QueryShape {
+
+    private final Class<?> repository;
+    private final String method;
+    private final Class<?> entity;
+    private final Document filter;
+    private final Document sort;
+
+    private QueryShape(Class<?> repository, String method, Class<?> entity, Document filter, Document sort) {
+        this.repository = repository;
+        this.method = method;
+        this.entity = entity;
+        this.filter = filter;
+        this.sort = sort;
+    }
+
+    public static QueryShape of(Class<?> repository, String method, Class<?> entity, Document filter) {
+        return new QueryShape(repository, method, entity, filter, new Document());
+    }
+
+    public static QueryShape of(Class<?> repository, String method, Class<?> entity, Document filter, Document sort) {
+        return new QueryShape(repository, method, entity, filter, sort);
+    }
+
+    /**
+     * @Query 의 filter 에 sampleArgs 를 순서대로(?0, ?1, ...) 넣어 만든다.
+     * 정렬은 호출하는 쪽에서 Pageable, Sort 로 지정하므로 sort 로 받는다.
+     */
+    public static QueryShape fromQuery(Class<?> repository, String method, Class<?> entity, Document sort,
+                                       Object... sampleArgs) {
+        Query query = findMethod(repository, method).getAnnotation(Query.class);
+        if (query == null) {
+            throw new IllegalArgumentException(repository.getSimpleName() + "." + method + " has no @Query");
+        }
+        return new QueryShape(repository, method, entity, bind(query.value(), sampleArgs), sort);
+    }
+
+    /**
+     * @Aggregation pipeline 의 $match, $sort 단계에 sampleArgs 를 순서대로(?0, ?1, ...) 넣어 만든다.
+     */
+    public static QueryShape fromAggregation(Class<?> repository, String method, Class<?> entity,
+                                             Object... sampleArgs) {
+        Aggregation aggregation = findMethod(repository, method).getAnnotation(Aggregation.class);
+        if (aggregation == null) {
+            throw new IllegalArgumentException(repository.getSimpleName() + "." + method + " has no @Aggregation");
+        }
+        List<Document> stages = Arrays.stream(aggregation.pipeline())
+                .map(stage -> bind(stage, sampleArgs))
+                .collect(Collectors.toList());
+        return new QueryShape(repository, method, entity, stage(stages, "$match"), stage(stages, "$sort"));
+    }
+
+    private static Method findMethod(Class<?> repository, String method) {
+        List<Method> methods = Arrays.stream(repository.getMethods())
+                .filter(candidate -> candidate.getName().equals(method))
+                .collect(Collectors.toList());
+        if (methods.size() != 1) {
+            throw new IllegalArgumentException(repository.getSimpleName() + "." + method
+                    + " must be declared exactly once, but found " + methods.size());
+        }
+        return methods.get(0);
+    }
+
+    private static Document bind(String json, Object[] sampleArgs) {
+        return new ParameterBindingDocumentCodec().decode(json, sampleArgs);
+    }
+
+    private static Document stage(List<Document> stages, String operator) {
+        return stages.stream()
+                .filter(stage -> stage.containsKey(operator))
+                .map(stage -> stage.get(operator, Document.class))
+                .findFirst()
+                .orElseGet(Document::new);
+    }
+
+    public String getName() {
+        return repository.getSimpleName() + "." + method;
+    }
+}
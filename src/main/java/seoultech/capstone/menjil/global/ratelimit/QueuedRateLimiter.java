@@ -0,0 +1,299 @@
+package seoultech.capstone.menjil.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 전체(요청 수, 토큰 수)와 사용자별(요청 수) token bucket 으로 외부 API 호출 속도를 제한한다.
+ * 바로 보낼 수 없는 요청은 크기가 제한된 대기열에서 기다리며, 대기열은 들어온 순서대로 처리한다.
+ * 단, 사용자별 한도에 걸린 요청은 건너뛰고 다음 요청을 먼저 처리하므로, 한 사용자가 대기열 전체를 막지 않는다.
+ * 대기열이 가득 찼거나 예상 대기 시간이 maxWait 보다 길면, 기다리지 않고 RATE_LIMIT_EXCEEDED 로 거절한다.
+ * 여러 채팅방이 하나의 요청을 공유하는 경우(SingleFlight, GptSummaryBatcher), 사용자별 한도는 acquireUser 로 각 사용자가,
+ * 전체 한도는 acquireTokens, acquireRequest 로 실제로 보내는 쪽이 한 번만 차감한다.
+ */
+@Slf4j
+public class QueuedRateLimiter {
+
+    private final String name;
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final ExpiringLruCache<String, TokenBucket> userBuckets;
+    private final long userRequestsPerMinute;
+    private final int queueCapacity;
+    private final Duration maxWait;
+    private final Scheduler scheduler;
+    private final LongSupplier nanoClock;
+
+    private final Queue<Waiter> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong queuedRequests = new AtomicLong();
+    private final AtomicLong queuedTokens = new AtomicLong();
+    private final AtomicInteger drainWip = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public QueuedRateLimiter(String name, long requestsPerMinute, long tokensPerMinute, long userRequestsPerMinute,
+                             int queueCapacity, Duration maxWait, Scheduler scheduler) {
+        this(name, requestsPerMinute, tokensPerMinute, userRequestsPerMinute, queueCapacity, maxWait, scheduler,
+                System::nanoTime);
+    }
+
+    // 테스트 코드 작성을 위해, 시간을 파라미터로 받도록 작성.
+    public QueuedRateLimiter(String name, long requestsPerMinute, long tokensPerMinute, long userRequestsPerMinute,
+                             int queueCapacity, Duration maxWait, Scheduler scheduler, LongSupplier nanoClock) {
+        this.name = name;
+        this.requestBucket = new TokenBucket(requestsPerMinute, Duration.ofMinutes(1), nanoClock);
+        this.tokenBucket = new TokenBucket(tokensPerMinute, Duration.ofMinutes(1), nanoClock);
+        // 1분 이상 사용하지 않은 사용자의 bucket 은 가득 찬 상태와 같으므로 제거해도 된다.
+        // 만료 시각은 마지막으로 사용한 시점부터 계산한다. (생성 시점부터 계산하면, 계속 요청하는 사용자의 bucket 이 가득 찬 상태로 다시 만들어진다)
+        this.userBuckets = new ExpiringLruCache<>(name + "-user-buckets", 10_000, Duration.ofMinutes(2),
+                new NanoTimeClock(nanoClock));
+        this.userRequestsPerMinute = userRequestsPerMinute;
+        this.queueCapacity = queueCapacity;
+        this.maxWait = maxWait;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 질문 하나를 하나의 요청으로 보낼 수 있을 때 완료되는 Mono 를 돌려준다. (사용자별 한도, 요청 수, 토큰 수)
+     * 대기열에 들어가는 경우, 예상 대기 시간을 onQueued 로 한 번 전달한다.
+     * 구독을 취소하면 대기열에서 제거된다.
+     */
+    public Mono<Void> acquire(String userKey, long estimatedTokens, Consumer<Duration> onQueued) {
+        return Mono.defer(() -> acquire(userKey, userBucket(userKey), 1, estimatedTokens, onQueued));
+    }
+
+    /**
+     * 사용자별 한도만 차감한다. 다른 사용자와 공유할 수 있는 요청에 합류하기 전에, 사용자마다 호출한다.
+     */
+    public Mono<Void> acquireUser(String userKey, Consumer<Duration> onQueued) {
+        return Mono.defer(() -> acquire(userKey, userBucket(userKey), 0, 0, onQueued));
+    }
+
+    /**
+     * 다른 질문과 묶여 하나의 요청으로 보낼 질문의 토큰 수만 차감한다.
+     * 요청 수는 요청을 보내는 쪽에서 acquireRequest 로 요청마다 한 번 차감한다.
+     */
+    public Mono<Void> acquireTokens(long estimatedTokens, Consumer<Duration> onQueued) {
+        return Mono.defer(() -> acquire(name, null, 0, estimatedTokens, onQueued));
+    }
+
+    /**
+     * 요청 하나를 보내기 직전에, 요청 수와 토큰 수를 차감한다. (사용자별 한도는 확인하지 않는다)
+     */
+    public Mono<Void> acquireRequest(long estimatedTokens, Consumer<Duration> onQueued) {
+        return Mono.defer(() -> acquire(name, null, 1, estimatedTokens, onQueued));
+    }
+
+    /**
+     * acquireTokens 로 허가받은 질문들을 실제로 보내기 직전에, 요청 수만 차감한다.
+     */
+    public Mono<Void> acquireRequest() {
+        return acquireRequest(0, wait -> {});
+    }
+
+    private TokenBucket userBucket(String userKey) {
+        return userBuckets.computeIfAbsentAndRefresh(userKey,
+                key -> new TokenBucket(userRequestsPerMinute, Duration.ofMinutes(1), nanoClock));
+    }
+
+    private Mono<Void> acquire(String userKey, TokenBucket userBucket, long requests, long estimatedTokens,
+                               Consumer<Duration> onQueued) {
+        // 전체 한도를 먼저 기다리는 요청이 없을 때만 바로 보낸다. (새치기 방지)
+        // 사용자별 한도만 차감하는 요청(acquireUser)은 전체 한도를 두고 다른 요청과 경쟁하지 않으므로 바로 확인한다.
+        boolean usesGlobalLimit = requests > 0 || estimatedTokens > 0;
+        boolean globalLimitWaiting = queuedRequests.get() > 0 || queuedTokens.get() > 0;
+        if (!(usesGlobalLimit && globalLimitWaiting) && tryConsume(userBucket, requests, estimatedTokens)) {
+            return Mono.empty();
+        }
+
+        Duration estimatedWait = estimateWait(userBucket, requests, estimatedTokens);
+        if (estimatedWait.compareTo(maxWait) > 0) {
+            return reject(userKey, estimatedWait);
+        }
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            return reject(userKey, estimatedWait);
+        }
+
+        Waiter waiter = new Waiter(userBucket, requests, estimatedTokens);
+        queue.offer(waiter);
+        queuedRequests.addAndGet(requests);
+        queuedTokens.addAndGet(estimatedTokens);
+        onQueued.accept(estimatedWait);
+        drain();
+
+        return waiter.sink.asMono()
+                .timeout(maxWait, Mono.error(() -> new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED)))
+                .doFinally(signal -> remove(waiter));
+    }
+
+    private Mono<Void> reject(String userKey, Duration estimatedWait) {
+        log.warn(">> {} rate limit exceeded: user {}, estimated wait {}ms, queue size {}",
+                name, userKey, estimatedWait.toMillis(), queueSize.get());
+        return Mono.error(new CustomException(ErrorCode.RATE_LIMIT_EXCEEDED));
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * userBucket 이 null 이면 사용자별 한도를 확인하지 않는다. (acquireTokens, acquireRequest)
+     */
+    private boolean tryConsume(TokenBucket userBucket, long requests, long estimatedTokens) {
+        if (userBucket != null && !userBucket.tryConsume(1)) {
+            return false;
+        }
+        if (!requestBucket.tryConsume(requests) || !consumeTokensOrRefundRequest(requests, estimatedTokens)) {
+            refundUser(userBucket);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 앞에서 기다리는 요청까지 모두 처리된 뒤에 내 요청을 보낼 수 있는 시간
+     */
+    private Duration estimateWait(TokenBucket userBucket, long requests, long estimatedTokens) {
+        long userNanos = userBucket == null ? 0L : userBucket.nanosUntilAvailable(1);
+        long requestNanos = requests == 0 ? 0L : requestBucket.nanosUntilAvailable(queuedRequests.get() + requests);
+        long tokenNanos = estimatedTokens == 0 ? 0L : tokenBucket.nanosUntilAvailable(queuedTokens.get() + estimatedTokens);
+        return Duration.ofNanos(Math.max(userNanos, Math.max(requestNanos, tokenNanos)));
+    }
+
+    /**
+     * 대기열을 앞에서부터 확인하며 보낼 수 있는 요청을 깨운다. 동시에 한 스레드만 수행한다.
+     * 테스트 코드 작성을 위해 package-private 으로 선언.
+     */
+    void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            long nextCheckNanos = Long.MAX_VALUE;
+            Iterator<Waiter> iterator = queue.iterator();
+            while (iterator.hasNext()) {
+                Waiter waiter = iterator.next();
+                if (waiter.done.get()) {
+                    continue;
+                }
+                if (waiter.userBucket != null && !waiter.userBucket.tryConsume(1)) {
+                    // 사용자별 한도에 걸린 요청은 건너뛴다.
+                    nextCheckNanos = Math.min(nextCheckNanos, waiter.userBucket.nanosUntilAvailable(1));
+                    continue;
+                }
+                if (!requestBucket.tryConsume(waiter.requests)
+                        || !consumeTokensOrRefundRequest(waiter.requests, waiter.estimatedTokens)) {
+                    refundUser(waiter.userBucket);
+                    nextCheckNanos = Math.min(nextCheckNanos, Math.max(requestBucket.nanosUntilAvailable(waiter.requests),
+                            tokenBucket.nanosUntilAvailable(waiter.estimatedTokens)));
+                    break;
+                }
+                if (waiter.done.compareAndSet(false, true)) {
+                    waiter.sink.tryEmitEmpty();
+                } else {
+                    // 그 사이에 취소된 경우
+                    requestBucket.refund(waiter.requests);
+                    tokenBucket.refund(waiter.estimatedTokens);
+                    refundUser(waiter.userBucket);
+                }
+            }
+            if (nextCheckNanos != Long.MAX_VALUE) {
+                scheduleDrain(Math.max(nextCheckNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+            }
+        } while (drainWip.decrementAndGet() != 0);
+    }
+
+    private boolean consumeTokensOrRefundRequest(long requests, long estimatedTokens) {
+        if (tokenBucket.tryConsume(estimatedTokens)) {
+            return true;
+        }
+        requestBucket.refund(requests);
+        return false;
+    }
+
+    private void refundUser(TokenBucket userBucket) {
+        if (userBucket != null) {
+            userBucket.refund(1);
+        }
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                drainScheduled.set(false);
+                drain();
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void remove(Waiter waiter) {
+        waiter.done.set(true);
+        if (queue.remove(waiter)) {
+            queueSize.decrementAndGet();
+            queuedRequests.addAndGet(-waiter.requests);
+            queuedTokens.addAndGet(-waiter.estimatedTokens);
+        }
+    }
+
+    /**
+     * user bucket 의 만료 시간도 TokenBucket 과 같은 시간(nanoClock)을 기준으로 계산하기 위한 Clock
+     */
+    private static final class NanoTimeClock extends Clock {
+        private final LongSupplier nanoClock;
+
+        private NanoTimeClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochSecond(0, nanoClock.getAsLong());
+        }
+    }
+
+    private static final class Waiter {
+        private final TokenBucket userBucket;     // null 이면 사용자별 한도를 확인하지 않는다.
+        private final long requests;
+        private final long estimatedTokens;
+        private final Sinks.Empty<Void> sink = Sinks.empty();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Waiter(TokenBucket userBucket, long requests, long estimatedTokens) {
+            this.userBucket = userBucket;
+            this.requests = requests;
+            this.estimatedTokens = estimatedTokens;
+        }
+    }
+}
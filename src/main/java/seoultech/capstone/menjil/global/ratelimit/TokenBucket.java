@@ -0,0 +1,99 @@
+package seoultech.capstone.menjil.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * lock 없이(CAS) 동작하는 token bucket
+ * period 마다 capacity 개의 토큰이 일정한 속도로 채워지며, 최대 capacity 개까지 쌓인다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final LongSupplier nanoClock;
+    private final AtomicReference<State> state;
+
+    public TokenBucket(long capacity, Duration period) {
+        this(capacity, period, System::nanoTime);
+    }
+
+    // 테스트 코드 작성을 위해, 시간을 파라미터로 받도록 작성.
+    public TokenBucket(long capacity, Duration period, LongSupplier nanoClock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = capacity / (double) period.toNanos();
+        this.nanoClock = nanoClock;
+        this.state = new AtomicReference<>(new State(capacity, nanoClock.getAsLong()));
+    }
+
+    /**
+     * 토큰이 충분하면 차감하고 true 를 돌려준다. 부족하면 차감하지 않는다.
+     * capacity 보다 많이 요청하면, capacity 만큼 차감한다. (영원히 대기하지 않도록)
+     */
+    public boolean tryConsume(long permits) {
+        double required = Math.min(permits, capacity);
+        while (true) {
+            State current = state.get();
+            State refilled = refill(current, nanoClock.getAsLong());
+            if (refilled.tokens < required) {
+                return false;
+            }
+            if (state.compareAndSet(current, new State(refilled.tokens - required, refilled.nanos))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 다른 bucket 에서 토큰을 얻지 못해 요청을 보내지 못한 경우, 차감했던 토큰을 돌려준다.
+     */
+    public void refund(long permits) {
+        double refund = Math.min(permits, capacity);
+        while (true) {
+            State current = state.get();
+            State refilled = refill(current, nanoClock.getAsLong());
+            State next = new State(Math.min(capacity, refilled.tokens + refund), refilled.nanos);
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * permits 개의 토큰이 쌓이기까지 남은 시간. capacity 보다 많이 요청해도 계산한다. (대기열 예상 시간 계산용)
+     */
+    public long nanosUntilAvailable(double permits) {
+        State refilled = refill(state.get(), nanoClock.getAsLong());
+        double deficit = permits - refilled.tokens;
+        if (deficit <= 0) {
+            return 0L;
+        }
+        return (long) Math.ceil(deficit / refillPerNano);
+    }
+
+    public double getAvailablePermits() {
+        return refill(state.get(), nanoClock.getAsLong()).tokens;
+    }
+
+    private State refill(State current, long now) {
+        long elapsed = now - current.nanos;
+        if (elapsed <= 0) {
+            return current;
+        }
+        return new State(Math.min(capacity, current.tokens + elapsed * refillPerNano), now);
+    }
+
+    private static final class State {
+        private final double tokens;
+        private final long nanos;
+
+        private State(double tokens, long nanos) {
+            this.tokens = tokens;
+            this.nanos = nanos;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package seoultech.capstone.menjil.global.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 API(OpenAI, Lambda) 하나에 대한 circuit breaker, bulkhead, adaptive timeout
+ * 외부 API 가 느려지거나 실패할 때, 요청이 timeout 까지 기다리며 쌓이지 않도록 빠르게 거절한다.
+ * 거절된 요청은 CustomException(UPSTREAM_UNAVAILABLE) 으로 전달된다.
+ */
+@Slf4j
+public class UpstreamGuard {
+
+    public enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final String name;
+    private final UpstreamGuardSettings settings;
+    private final Clock clock;
+
+    // circuit breaker: 아래 필드는 this 로 동기화한다.
+    private State state = State.CLOSED;
+    private Instant openedAt;
+    private final boolean[] outcomes;   // true: 실패
+    private int outcomeIndex;
+    private int outcomeCount;
+    private int failureCount;
+    private int halfOpenCalls;
+
+    // bulkhead
+    private final AtomicInteger inFlightCalls = new AtomicInteger();
+
+    // adaptive timeout: latencies 는 자신으로 동기화한다.
+    private final long[] latencies;
+    private int latencyIndex;
+    private int latencyCount;
+    private volatile Duration currentTimeout;
+
+    public UpstreamGuard(String name, UpstreamGuardSettings settings) {
+        this(name, settings, Clock.systemUTC());
+    }
+
+    // 테스트 코드 작성을 위해, Clock 을 파라미터로 받도록 작성.
+    public UpstreamGuard(String name, UpstreamGuardSettings settings, Clock clock) {
+        this.name = name;
+        this.settings = settings;
+        this.clock = clock;
+        this.outcomes = new boolean[settings.getSlidingWindowSize()];
+        this.latencies = new long[settings.getLatencySampleSize()];
+        this.currentTimeout = settings.getMaxTimeout();
+    }
+
+    public <T> Mono<T> protect(Mono<T> source) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            long startNanos = System.nanoTime();
+            return source.timeout(currentTimeout)
+                    .doOnSuccess(value -> permit.success(System.nanoTime() - startNanos))
+                    .doOnError(permit::failure)
+                    .doFinally(signal -> permit.release());
+        });
+    }
+
+    /**
+     * 스트리밍 응답의 경우, 원소 사이의 간격에 timeout 을 적용한다.
+     * 전체 소요 시간은 응답 길이에 따라 달라지므로, 응답 시간 표본으로 사용하지 않는다.
+     */
+    public <T> Flux<T> protect(Flux<T> source) {
+        return Flux.defer(() -> {
+            Permit permit = acquire();
+            return source.timeout(currentTimeout)
+                    .doOnComplete(() -> permit.success(-1))
+                    .doOnError(permit::failure)
+                    .doFinally(signal -> permit.release());
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public int getInFlightCalls() {
+        return inFlightCalls.get();
+    }
+
+    public Duration getCurrentTimeout() {
+        return currentTimeout;
+    }
+
+    private Permit acquire() {
+        boolean trial = false;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (clock.instant().isBefore(openedAt.plus(settings.getOpenDuration()))) {
+                    throw reject("circuit is open");
+                }
+                state = State.HALF_OPEN;
+                halfOpenCalls = 0;
+                log.info(">> upstream {} circuit is half-open", name);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenCalls >= settings.getHalfOpenMaxCalls()) {
+                    throw reject("circuit is half-open");
+                }
+                halfOpenCalls++;
+                trial = true;
+            }
+        }
+
+        if (inFlightCalls.incrementAndGet() > settings.getMaxConcurrentCalls()) {
+            inFlightCalls.decrementAndGet();
+            if (trial) {
+                releaseTrial();
+            }
+            throw reject("bulkhead is full");
+        }
+        return new Permit(trial);
+    }
+
+    private CustomException reject(String reason) {
+        log.warn(">> upstream {} request is rejected: {}", name, reason);
+        return new CustomException(ErrorCode.UPSTREAM_UNAVAILABLE);
+    }
+
+    private synchronized void releaseTrial() {
+        if (state == State.HALF_OPEN && halfOpenCalls > 0) {
+            halfOpenCalls--;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        recordOutcome(false);
+    }
+
+    private synchronized void onFailure(Throwable e) {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        recordOutcome(true);
+        if (outcomeCount >= settings.getMinimumCalls()
+                && failureCount * 100.0 / outcomeCount >= settings.getFailureRateThreshold()) {
+            log.error(">> upstream {} circuit is opened: {} failures of {} calls, last error: {}",
+                    name, failureCount, outcomeCount, e.toString());
+            open();
+        }
+    }
+
+    private void recordOutcome(boolean failed) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) {
+                failureCount--;
+            }
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+        resetOutcomes();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        log.info(">> upstream {} circuit is closed", name);
+        resetOutcomes();
+    }
+
+    private void resetOutcomes() {
+        Arrays.fill(outcomes, false);
+        outcomeIndex = 0;
+        outcomeCount = 0;
+        failureCount = 0;
+        halfOpenCalls = 0;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        synchronized (latencies) {
+            latencies[latencyIndex] = latencyNanos;
+            latencyIndex = (latencyIndex + 1) % latencies.length;
+            latencyCount = Math.min(latencyCount + 1, latencies.length);
+            if (latencyCount < settings.getMinLatencySamples()) {
+                return;
+            }
+            long[] samples = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(samples);
+            long p99 = samples[(int) Math.ceil(samples.length * 0.99) - 1];
+            long timeoutNanos = (long) (p99 * settings.getTimeoutMultiplier());
+            timeoutNanos = Math.max(timeoutNanos, settings.getMinTimeout().toNanos());
+            timeoutNanos = Math.min(timeoutNanos, settings.getMaxTimeout().toNanos());
+            currentTimeout = Duration.ofNanos(timeoutNanos);
+        }
+    }
+
+    private class Permit {
+        private final boolean trial;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Permit(boolean trial) {
+            this.trial = trial;
+        }
+
+        private void success(long latencyNanos) {
+            if (completed.compareAndSet(false, true)) {
+                if (latencyNanos >= 0) {
+                    recordLatency(latencyNanos);
+                }
+                onSuccess();
+            }
+        }
+
+        private void failure(Throwable e) {
+            if (completed.compareAndSet(false, true)) {
+                onFailure(e);
+            }
+        }
+
+        // 결과 없이 취소된 시험 호출은, 다른 요청이 시험할 수 있도록 자리를 돌려준다.
+        private void release() {
+            inFlightCalls.decrementAndGet();
+            if (trial && completed.compareAndSet(false, true)) {
+                releaseTrial();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seoultech.capstone.menjil.global.resilience;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+@Builder
+public class UpstreamGuardSettings {
+
+    /**
+     * circuit breaker
+     * 최근 slidingWindowSize 번의 호출 중 실패 비율(%)이 failureRateThreshold 이상이면 circuit 을 연다.
+     * 호출 수가 minimumCalls 보다 적을 때는 판단하지 않는다.
+     * openDuration 이 지나면 halfOpenMaxCalls 개의 시험 호출만 허용하고, 성공하면 닫고 실패하면 다시 연다.
+     */
+    @Builder.Default
+    private final double failureRateThreshold = 50.0;
+    @Builder.Default
+    private final int slidingWindowSize = 20;
+    @Builder.Default
+    private final int minimumCalls = 10;
+    @Builder.Default
+    private final Duration openDuration = Duration.ofSeconds(30);
+    @Builder.Default
+    private final int halfOpenMaxCalls = 2;
+
+    /**
+     * bulkhead: 동시에 진행 중인 요청 수의 상한. 초과한 요청은 기다리지 않고 바로 거절한다.
+     */
+    @Builder.Default
+    private final int maxConcurrentCalls = 50;
+
+    /**
+     * adaptive timeout
+     * 최근 성공한 호출의 p99 응답 시간 * timeoutMultiplier 를 [minTimeout, maxTimeout] 범위로 제한하여 사용한다.
+     * 표본이 minLatencySamples 보다 적을 때는 maxTimeout 을 사용한다.
+     */
+    @Builder.Default
+    private final Duration minTimeout = Duration.ofSeconds(3);
+    @Builder.Default
+    private final Duration maxTimeout = Duration.ofSeconds(60);
+    @Builder.Default
+    private final double timeoutMultiplier = 2.0;
+    @Builder.Default
+    private final int latencySampleSize = 200;
+    @Builder.Default
+    private final int minLatencySamples = 20;
+}
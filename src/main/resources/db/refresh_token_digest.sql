@@ -0,0 +1,16 @@
+-- refresh_token.token(Refresh Token 원문) -> refresh_token.token_digest(SHA-256 hex, 64자)
+--
+-- RefreshToken 엔티티가 token_digest 컬럼을 사용하는 버전을 배포하기 "전에" MySQL 에서 한 번 실행한다.
+-- 기존 토큰을 같은 방식(RefreshToken.digest = Sha256.hex)으로 옮기므로, 로그인 중인 사용자는 다시 로그인하지 않아도 된다.
+-- Refresh Token 은 ASCII 로만 이루어진 JWT 이므로, 컬럼의 charset 과 관계없이 SHA2(token, 256) 의 결과가
+-- 애플리케이션의 UTF-8 digest 와 같다.
+-- token 컬럼을 삭제하면, token 컬럼만으로 이루어진 기존 unique index 도 함께 삭제된다.
+
+ALTER TABLE refresh_token ADD COLUMN token_digest CHAR(64) NULL;
+
+UPDATE refresh_token SET token_digest = SHA2(token, 256);
+
+ALTER TABLE refresh_token
+    MODIFY COLUMN token_digest CHAR(64) NOT NULL,
+    ADD CONSTRAINT uk_refresh_token_token_digest UNIQUE (token_digest),
+    DROP COLUMN token;
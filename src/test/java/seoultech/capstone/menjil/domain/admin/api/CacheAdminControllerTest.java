@@ -0,0 +1,98 @@
+package seoultech.capstone.menjil.domain.admin.api;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import seoultech.capstone.menjil.domain.admin.application.CacheAdminService;
+import seoultech.capstone.menjil.global.cache.CacheStats;
+import seoultech.capstone.menjil.global.config.WebConfig;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.exception.SuccessCode;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CacheAdminController.class,
+        excludeFilters = {
+                @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = WebConfig.class)
+        })
+class CacheAdminControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CacheAdminService cacheAdminService;
+
+    private final String TEST_CACHE_NAME = "gpt-summary";
+
+    /**
+     * getAllCacheStats
+     */
+    @Test
+    @DisplayName("모든 캐시의 통계를 돌려준다")
+    void getAllCacheStats() throws Exception {
+        // given
+        CacheStats stats = CacheStats.of(TEST_CACHE_NAME, 1, 1000, 3L, 1L, 0L);
+
+        // when
+        Mockito.when(cacheAdminService.getAllCacheStats()).thenReturn(List.of(stats));
+
+        // then
+        mvc.perform(MockMvcRequestBuilders.get("/api/admin/caches"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code", is(SuccessCode.GET_CACHE_STATS_SUCCESS.getCode())))
+                .andExpect(jsonPath("$.data[0].name", is(TEST_CACHE_NAME)))
+                .andExpect(jsonPath("$.data[0].hitCount", is(3)))
+                .andExpect(jsonPath("$.data[0].hitRate", is(0.75)))
+                .andDo(print());
+
+        verify(cacheAdminService, times(1)).getAllCacheStats();
+    }
+
+    /**
+     * flushCache
+     */
+    @Test
+    @DisplayName("case 1: 캐시를 비운 경우")
+    void flushCache() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.delete("/api/admin/caches/" + TEST_CACHE_NAME))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.code", is(SuccessCode.CACHE_FLUSH_SUCCESS.getCode())))
+                .andExpect(jsonPath("$.message", is(SuccessCode.CACHE_FLUSH_SUCCESS.getMessage())))
+                .andExpect(jsonPath("$.data", is(Matchers.nullValue())))
+                .andDo(print());
+
+        verify(cacheAdminService, times(1)).flushCache(TEST_CACHE_NAME);
+    }
+
+    @Test
+    @DisplayName("case 2: 존재하지 않는 캐시 이름인 경우")
+    void flushCache_CACHE_NOT_EXISTED() throws Exception {
+        // when
+        Mockito.doThrow(new CustomException(ErrorCode.CACHE_NOT_EXISTED))
+                .when(cacheAdminService).flushCache("unknown");
+
+        // then
+        mvc.perform(MockMvcRequestBuilders.delete("/api/admin/caches/unknown"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code", is(ErrorCode.CACHE_NOT_EXISTED.getHttpStatus().value())))
+                .andExpect(jsonPath("$.message", is(ErrorCode.CACHE_NOT_EXISTED.getMessage())))
+                .andDo(print());
+    }
+}
@@ -0,0 +1,125 @@
+package seoultech.capstone.menjil.domain.auth.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import seoultech.capstone.menjil.domain.auth.dao.TokenRepository;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenPurgerTest {
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final Instant NOW = Instant.parse("2023-09-01T10:00:00Z");
+    private final Clock CLOCK = Clock.fixed(NOW, ZoneId.of("Asia/Seoul"));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("만료된 Refresh Token 을 batchSize 개씩 나누어 삭제하고, 삭제한 개수와 테이블 크기를 metric 으로 남긴다")
+    void purgeExpiredTokens() {
+        // given
+        RefreshTokenPurger purger = createPurger(2, 10);
+        Pageable firstChunk = PageRequest.of(0, 2);
+        when(tokenRepository.findExpiredTokenIds(Timestamp.from(NOW), firstChunk))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L, 4L))
+                .thenReturn(List.of(5L));
+        when(tokenRepository.deleteAllByIdIn(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        when(tokenRepository.count()).thenReturn(7L);
+
+        // when
+        int purged = purger.purgeExpiredTokens();
+
+        // then
+        assertThat(purged).isEqualTo(5);
+        verify(tokenRepository).deleteAllByIdIn(List.of(1L, 2L));
+        verify(tokenRepository).deleteAllByIdIn(List.of(3L, 4L));
+        verify(tokenRepository).deleteAllByIdIn(List.of(5L));
+        // 마지막 batch 가 batchSize 보다 작으면, 다시 조회하지 않는다.
+        verify(tokenRepository, times(3)).findExpiredTokenIds(any(), any());
+
+        assertThat(meterRegistry.get("refresh_token.purge.deleted").counter().count()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("refresh_token.purge.last_run.deleted").gauge().value()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("refresh_token.rows").gauge().value()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("한 번 실행할 때 maxBatchesPerRun 번까지만 삭제한다")
+    void purgeExpiredTokens_stops_at_max_batches() {
+        // given
+        RefreshTokenPurger purger = createPurger(2, 2);
+        when(tokenRepository.findExpiredTokenIds(any(), any())).thenReturn(List.of(1L, 2L));
+        when(tokenRepository.deleteAllByIdIn(anyList())).thenReturn(2);
+
+        // when
+        int purged = purger.purgeExpiredTokens();
+
+        // then
+        assertThat(purged).isEqualTo(4);
+        verify(tokenRepository, times(2)).deleteAllByIdIn(anyList());
+    }
+
+    @Test
+    @DisplayName("만료된 Refresh Token 이 없으면 삭제하지 않고, 마지막 실행 결과를 0 으로 남긴다")
+    void purgeExpiredTokens_nothing_to_purge() {
+        // given
+        RefreshTokenPurger purger = createPurger(500, 10);
+        when(tokenRepository.findExpiredTokenIds(eq(Timestamp.from(NOW)), any())).thenReturn(List.of());
+        when(tokenRepository.count()).thenReturn(3L);
+
+        // when
+        int purged = purger.purgeExpiredTokens();
+
+        // then
+        assertThat(purged).isZero();
+        verify(tokenRepository, never()).deleteAllByIdIn(anyList());
+        assertThat(meterRegistry.get("refresh_token.purge.last_run.deleted").gauge().value()).isZero();
+        assertThat(meterRegistry.get("refresh_token.rows").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면, 스케줄러가 실행해도 삭제하지 않는다")
+    void scheduledPurge_disabled() {
+        // given
+        RefreshTokenPurger purger = new RefreshTokenPurger(tokenRepository, meterRegistry, false,
+                500, Duration.ZERO, 10, CLOCK);
+
+        // when
+        purger.scheduledPurge();
+
+        // then
+        verifyNoInteractions(tokenRepository);
+    }
+
+    private RefreshTokenPurger createPurger(int batchSize, int maxBatchesPerRun) {
+        return new RefreshTokenPurger(tokenRepository, meterRegistry, true,
+                batchSize, Duration.ZERO, maxBatchesPerRun, CLOCK);
+    }
+}
@@ -6,12 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import seoultech.capstone.menjil.domain.auth.domain.RefreshToken;
 import seoultech.capstone.menjil.domain.auth.domain.User;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -96,7 +98,7 @@ class TokenRepositoryTest {
         // then
         assertThat(optionalRf1.isPresent()).isTrue();
         assertThat(value).isEqualTo(1);
-        assertThat(optionalRf1.get().getToken()).isEqualTo(refreshToken);
+        assertThat(optionalRf1.get().getTokenDigest()).isEqualTo(RefreshToken.digest(refreshToken));
 
         /* java.sql.timestamp 와 mysql timestamp 방식이 조금 달라서, 기존에 저장된 값에서 변경되었는지만 확인
          따라서 아래 메서드는 사용하지 않음 */
@@ -104,6 +106,41 @@ class TokenRepositoryTest {
         assertThat(optionalRf1.get().getExpiryDate()).isNotEqualTo(timestampA);
     }
 
+    @Test
+    @DisplayName("만료된 Refresh Token 의 id 를 만료 시간 순서대로 pageable 크기만큼 조회하고, id 로 삭제한다")
+    void findExpiredTokenIds_and_deleteAllByIdIn() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = List.of(
+                createUser("google_1", "userA@gmail.com", "google", "g1"),
+                createUser("google_2", "userB@gmail.com", "google", "g2"),
+                createUser("google_3", "userC@gmail.com", "google", "g3"));
+        RefreshToken expiredFirst = tokenRepository.save(createRefreshToken(users.get(0), "token1", now.minusDays(2)));
+        RefreshToken expiredSecond = tokenRepository.save(createRefreshToken(users.get(1), "token2", now.minusDays(1)));
+        tokenRepository.save(createRefreshToken(users.get(2), "token3", now.plusDays(1)));
+
+        // when
+        List<Long> firstChunk = tokenRepository.findExpiredTokenIds(Timestamp.valueOf(now), PageRequest.of(0, 1));
+        List<Long> allExpired = tokenRepository.findExpiredTokenIds(Timestamp.valueOf(now), PageRequest.of(0, 10));
+        int deleted = tokenRepository.deleteAllByIdIn(allExpired);
+
+        // then
+        assertThat(firstChunk).containsExactly(expiredFirst.getId());
+        assertThat(allExpired).containsExactly(expiredFirst.getId(), expiredSecond.getId());
+        assertThat(deleted).isEqualTo(2);
+        assertThat(tokenRepository.count()).isEqualTo(1L);
+        assertThat(tokenRepository.findRefreshTokenByToken("token3")).isPresent();
+    }
+
+    private RefreshToken createRefreshToken(User user, String token, LocalDateTime expiryDate) {
+        return RefreshToken.builder()
+                .id(null)
+                .userId(user)
+                .token(token)
+                .expiryDate(Timestamp.valueOf(expiryDate))
+                .build();
+    }
+
     private User createUser(String id, String email, String provider, String nickname) {
         return User.builder()
                 .id(id).email(email).provider(provider).nickname(nickname)
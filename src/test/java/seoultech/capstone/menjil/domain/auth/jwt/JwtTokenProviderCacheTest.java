@@ -0,0 +1,200 @@
+package seoultech.capstone.menjil.domain.auth.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import seoultech.capstone.menjil.domain.auth.application.UserDeletedEvent;
+import seoultech.capstone.menjil.domain.auth.dao.TokenRepository;
+import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
+import seoultech.capstone.menjil.domain.auth.domain.RefreshToken;
+import seoultech.capstone.menjil.domain.auth.domain.User;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private ExpiringLruCache<String, String> verifiedAccessTokenCache;
+    private ExpiringLruCache<String, String> validatedRefreshTokenCache;
+    private JwtTokenProvider jwtTokenProvider;
+
+    private final String USER_ID = "google_8824312";
+
+    @BeforeEach
+    void setUp() {
+        // HS512 는 64 byte 이상의 key 가 필요하다.
+        String tokenKey = Base64.getEncoder().encodeToString(new byte[64]);
+        verifiedAccessTokenCache = new ExpiringLruCache<>("verified-access-token", 100, Duration.ZERO);
+        validatedRefreshTokenCache = new ExpiringLruCache<>("validated-refresh-token", 100, Duration.ofMinutes(10));
+        jwtTokenProvider = new JwtTokenProvider(tokenKey, userRepository, tokenRepository,
+                verifiedAccessTokenCache, validatedRefreshTokenCache);
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 Access Token 은 db 를 다시 조회하지 않는다")
+    void validateAccessToken_uses_cache() {
+        // given
+        when(userRepository.findUserById(USER_ID)).thenReturn(Optional.of(createUser()));
+        String accessToken = jwtTokenProvider.generateAccessToken(USER_ID, LocalDateTime.now());
+
+        // when
+        TokenStatus first = jwtTokenProvider.validateAccessToken(accessToken);
+        TokenStatus second = jwtTokenProvider.validateAccessToken(accessToken);
+
+        // then
+        assertThat(first).isEqualTo(TokenStatus.RELIABLE);
+        assertThat(second).isEqualTo(TokenStatus.RELIABLE);
+        verify(userRepository, times(1)).findUserById(USER_ID);
+        assertThat(verifiedAccessTokenCache.size()).isEqualTo(1);
+
+        // 캐시에서 찾은 경우에도 user id 를 함께 돌려준다.
+        assertThat(jwtTokenProvider.authenticateAccessToken(accessToken).getUserId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 을 검증하면, user id 를 함께 돌려준다")
+    void authenticateRefreshToken_returns_user_id() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(USER_ID, LocalDateTime.now());
+        when(tokenRepository.findRefreshTokenByTokenDigest(RefreshToken.digest(refreshToken)))
+                .thenReturn(Optional.of(RefreshToken.builder().token(refreshToken).build()));
+
+        // when
+        TokenValidationResult result = jwtTokenProvider.authenticateRefreshToken(refreshToken);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(TokenStatus.RELIABLE);
+        assertThat(result.getUserId()).isEqualTo(USER_ID);
+    }
+
+    @Test
+    @DisplayName("db 에서 확인한 Refresh Token 은, 다시 검증할 때 db 를 조회하지 않는다")
+    void authenticateRefreshToken_uses_cache() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(USER_ID, LocalDateTime.now());
+        String tokenDigest = RefreshToken.digest(refreshToken);
+        when(tokenRepository.findRefreshTokenByTokenDigest(tokenDigest))
+                .thenReturn(Optional.of(RefreshToken.builder().token(refreshToken).build()));
+
+        // when
+        jwtTokenProvider.authenticateRefreshToken(refreshToken);
+        TokenValidationResult second = jwtTokenProvider.authenticateRefreshToken(refreshToken);
+
+        // then
+        assertThat(second.getStatus()).isEqualTo(TokenStatus.RELIABLE);
+        verify(tokenRepository, times(1)).findRefreshTokenByTokenDigest(tokenDigest);
+    }
+
+    @Test
+    @DisplayName("로그인하여 Refresh Token 이 바뀌면, 이전 Refresh Token 은 캐시에서 제거되어 db 를 다시 조회한다")
+    void invalidateRefreshTokens() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(USER_ID, LocalDateTime.now());
+        String tokenDigest = RefreshToken.digest(refreshToken);
+        when(tokenRepository.findRefreshTokenByTokenDigest(tokenDigest))
+                .thenReturn(Optional.of(RefreshToken.builder().token(refreshToken).build()))
+                .thenReturn(Optional.empty());
+        jwtTokenProvider.authenticateRefreshToken(refreshToken);
+
+        // when
+        jwtTokenProvider.invalidateRefreshTokens(USER_ID);
+
+        // then
+        assertThat(validatedRefreshTokenCache.size()).isZero();
+        assertThat(jwtTokenProvider.validateRefreshToken(refreshToken))
+                .isEqualTo(TokenStatus.REFRESH_TOKEN_NOT_EXIST);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 은 원문이 아닌, 64자 SHA-256 digest 로 저장된다")
+    void refreshToken_is_stored_as_digest() {
+        // given
+        String refreshToken = jwtTokenProvider.generateRefreshToken(USER_ID, LocalDateTime.now());
+
+        // when
+        RefreshToken entity = RefreshToken.builder().token(refreshToken).build();
+
+        // then
+        assertThat(entity.getTokenDigest()).hasSize(64).matches("[0-9a-f]{64}");
+        assertThat(entity.getTokenDigest()).isEqualTo(RefreshToken.digest(refreshToken));
+    }
+
+    @Test
+    @DisplayName("사용자가 존재하지 않는 Access Token 은 캐시에 저장하지 않는다")
+    void validateAccessToken_does_not_cache_user_not_exist() {
+        // given
+        when(userRepository.findUserById(USER_ID)).thenReturn(Optional.empty());
+        String accessToken = jwtTokenProvider.generateAccessToken(USER_ID, LocalDateTime.now());
+
+        // when
+        TokenStatus first = jwtTokenProvider.validateAccessToken(accessToken);
+        TokenStatus second = jwtTokenProvider.validateAccessToken(accessToken);
+
+        // then
+        assertThat(first).isEqualTo(TokenStatus.USER_ID_NOT_EXIST);
+        assertThat(second).isEqualTo(TokenStatus.USER_ID_NOT_EXIST);
+        verify(userRepository, times(2)).findUserById(USER_ID);
+        assertThat(verifiedAccessTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 Access Token 은 캐시에 저장하지 않고, EXPIRED 를 리턴한다")
+    void validateAccessToken_expired() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken(USER_ID, LocalDateTime.now().minusHours(2));
+
+        // when
+        TokenStatus status = jwtTokenProvider.validateAccessToken(accessToken);
+
+        // then
+        assertThat(status).isEqualTo(TokenStatus.EXPIRED);
+        verifyNoInteractions(userRepository);
+        assertThat(verifiedAccessTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("빈 Access Token 은 OTHER_EXCEPTION 을 리턴한다")
+    void validateAccessToken_empty() {
+        assertThat(jwtTokenProvider.validateAccessToken("")).isEqualTo(TokenStatus.OTHER_EXCEPTION);
+        assertThat(jwtTokenProvider.validateAccessToken(null)).isEqualTo(TokenStatus.OTHER_EXCEPTION);
+    }
+
+    @Test
+    @DisplayName("사용자가 삭제되면, 해당 사용자의 Access Token 을 캐시에서 제거한다")
+    void handleUserDeleted() {
+        // given
+        when(userRepository.findUserById(USER_ID))
+                .thenReturn(Optional.of(createUser()))
+                .thenReturn(Optional.empty());
+        String accessToken = jwtTokenProvider.generateAccessToken(USER_ID, LocalDateTime.now());
+        jwtTokenProvider.validateAccessToken(accessToken);
+
+        // when
+        jwtTokenProvider.handleUserDeleted(new UserDeletedEvent(USER_ID));
+
+        // then
+        assertThat(verifiedAccessTokenCache.size()).isZero();
+        assertThat(jwtTokenProvider.validateAccessToken(accessToken)).isEqualTo(TokenStatus.USER_ID_NOT_EXIST);
+    }
+
+    private User createUser() {
+        return User.builder()
+                .id(USER_ID).email("test@gmail.com").provider("google").nickname("test_user")
+                .build();
+    }
+}
@@ -20,6 +20,10 @@ import seoultech.capstone.menjil.domain.chatbot.application.ChatBotRoomService;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.request.DeleteChatBotRoomServiceRequest;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomIdResponse;
 import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomResponse;
+import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatMessageHistoryResponse;
+import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.domain.SenderType;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageOrderResponse;
 import seoultech.capstone.menjil.global.config.WebConfig;
 import seoultech.capstone.menjil.global.exception.CustomException;
 import seoultech.capstone.menjil.global.exception.ErrorCode;
@@ -371,4 +375,66 @@ class ChatBotRoomControllerTest {
         verify(chatBotRoomService, times(1))
                 .quitRoom(Mockito.any(DeleteChatBotRoomServiceRequest.class));
     }
-}
\ No newline at end of file
+
+    /**
+     * getChatMessageHistory
+     */
+    @Test
+    @DisplayName("채팅 내역과 다음 페이지의 cursor 를 리턴한다")
+    void getChatMessageHistory() throws Exception {
+        // given
+        String roomId = "test_room_id";
+        MessageOrderResponse message = MessageOrderResponse.builder()
+                ._id("message_id")
+                .order(1)
+                .roomId(roomId)
+                .senderType(SenderType.USER)
+                .senderNickname("mentee")
+                .message("hello")
+                .messageType(MessageType.TALK)
+                .time(LocalDateTime.of(2023, 9, 1, 10, 0, 0))
+                .build();
+        ChatMessageHistoryResponse response = ChatMessageHistoryResponse.builder()
+                .messages(List.of(message))
+                .nextCursor("next_cursor")
+                .hasNext(true)
+                .build();
+
+        // when
+        Mockito.when(chatBotRoomService.getChatMessageHistory(roomId, "cursor", 20)).thenReturn(response);
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/chat-bot/room/messages")
+                        .queryParam("roomId", roomId)
+                        .queryParam("cursor", "cursor")
+                        .queryParam("size", "20"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.code", is(SuccessCode.MESSAGE_LOAD_SUCCESS.getCode())))
+                .andExpect(jsonPath("$.data.messages[0]._id", is("message_id")))
+                .andExpect(jsonPath("$.data.messages[0].order", is(1)))
+                .andExpect(jsonPath("$.data.nextCursor", is("next_cursor")))
+                .andExpect(jsonPath("$.data.hasNext", is(true)))
+                .andDo(print());
+
+        verify(chatBotRoomService, times(1)).getChatMessageHistory(roomId, "cursor", 20);
+    }
+
+    @Test
+    @DisplayName("cursor 가 유효하지 않으면 400 을 리턴한다")
+    void getChatMessageHistory_invalid_cursor() throws Exception {
+        // given
+        String roomId = "test_room_id";
+
+        // when
+        Mockito.when(chatBotRoomService.getChatMessageHistory(roomId, "invalid", 30))
+                .thenThrow(new CustomException(ErrorCode.MESSAGE_CURSOR_INVALID));
+
+        // then
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/chat-bot/room/messages")
+                        .queryParam("roomId", roomId)
+                        .queryParam("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(ErrorCode.MESSAGE_CURSOR_INVALID.getMessage())))
+                .andDo(print());
+    }
+}
@@ -0,0 +1,117 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatMessageHistoryResponse;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.domain.SenderType;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageOrderResponse;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatBotRoomServiceHistoryTest {
+
+    @InjectMocks
+    private ChatBotRoomService chatBotRoomService;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    private final String TEST_ROOM_ID = "test_room_1";
+    private final LocalDateTime NOW = LocalDateTime.of(2023, 9, 1, 10, 0, 0);
+
+    @Test
+    @DisplayName("cursor 가 없으면 최근 내역을 size + 1 개 조회하고, 시간순으로 정렬하여 다음 cursor 와 함께 리턴한다")
+    void getChatMessageHistory_first_page() {
+        // given: 최신 순으로 4개 조회됨 (size 3 + 1)
+        List<ChatMessage> latest = List.of(createChatMessage(10), createChatMessage(9),
+                createChatMessage(8), createChatMessage(7));
+        when(messageRepository.findChatMessageByRoomId(eq(TEST_ROOM_ID), any(Pageable.class))).thenReturn(latest);
+
+        // when
+        ChatMessageHistoryResponse response = chatBotRoomService.getChatMessageHistory(TEST_ROOM_ID, null, 3);
+
+        // then
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getMessages()).extracting(MessageOrderResponse::get_id)
+                .containsExactly("id_8", "id_9", "id_10");
+        assertThat(response.getMessages()).extracting(MessageOrderResponse::getOrder)
+                .containsExactly(1, 2, 3);
+
+        // 다음 cursor 는 이번 페이지에서 가장 오래된 메시지를 가리킨다
+        MessageHistoryCursor cursor = MessageHistoryCursor.decode(response.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo("id_8");
+        assertThat(cursor.getTime()).isEqualTo(NOW.plusSeconds(8));
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(messageRepository).findChatMessageByRoomId(eq(TEST_ROOM_ID), captor.capture());
+        assertThat(captor.getValue().getPageSize()).isEqualTo(4);
+        assertThat(captor.getValue().getSort())
+                .isEqualTo(Sort.by(Sort.Order.desc("time"), Sort.Order.desc("_id")));
+    }
+
+    @Test
+    @DisplayName("cursor 가 있으면 cursor 이전의 내역을 조회하고, 마지막 페이지이면 nextCursor 는 null 이다")
+    void getChatMessageHistory_last_page() {
+        // given
+        String cursor = MessageHistoryCursor.of(createChatMessage(8)).encode();
+        List<ChatMessage> older = new ArrayList<>(List.of(createChatMessage(7), createChatMessage(6)));
+        when(messageRepository.findChatMessagesBefore(eq(TEST_ROOM_ID), eq(NOW.plusSeconds(8)), eq("id_8"),
+                any(Pageable.class))).thenReturn(older);
+
+        // when
+        ChatMessageHistoryResponse response = chatBotRoomService.getChatMessageHistory(TEST_ROOM_ID, cursor, 3);
+
+        // then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.getMessages()).extracting(MessageOrderResponse::get_id)
+                .containsExactly("id_6", "id_7");
+        verify(messageRepository, never()).findChatMessageByRoomId(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("cursor 형식이 올바르지 않으면 CustomException 을 던진다")
+    void getChatMessageHistory_invalid_cursor() {
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> chatBotRoomService.getChatMessageHistory(TEST_ROOM_ID, "not-a-cursor", 3));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.MESSAGE_CURSOR_INVALID);
+        verifyNoInteractions(messageRepository);
+    }
+
+    private ChatMessage createChatMessage(int i) {
+        return ChatMessage.builder()
+                ._id("id_" + i)
+                .roomId(TEST_ROOM_ID)
+                .senderType(SenderType.USER)
+                .senderNickname("mentee")
+                .message("message_" + i)
+                .messageType(MessageType.TALK)
+                .time(NOW.plusSeconds(i))
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
+import seoultech.capstone.menjil.domain.auth.domain.User;
+import seoultech.capstone.menjil.domain.chatbot.application.dto.response.ChatBotRoomResponse;
+import seoultech.capstone.menjil.domain.chatbot.dao.ChatBotRoomRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatBotRoom;
+import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.RoomLatestQuestion;
+import seoultech.capstone.menjil.global.handler.AwsS3Handler;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatBotRoomServiceRoomListTest {
+
+    @InjectMocks
+    private ChatBotRoomService chatBotRoomService;
+
+    @Mock
+    private AwsS3Handler awsS3Handler;
+    @Mock
+    private ChatBotRoomRepository chatBotRoomRepository;
+    @Mock
+    private MessageRepository messageRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    private final String TEST_INITIATOR_NICKNAME = "test_mentee_1";
+    private final String TEST_RECIPIENT_NICKNAME = "test_mentor_1";
+    private final LocalDateTime NOW = LocalDateTime.of(2023, 9, 1, 10, 0, 0);
+
+    @BeforeEach
+    void setUp() throws MalformedURLException {
+        User mentor = User.builder()
+                .id("google_1").email("mentor@gmail.com").provider("google").nickname(TEST_RECIPIENT_NICKNAME)
+                .imgUrl("default/profile.png")
+                .build();
+        when(userRepository.findAllByNicknameIn(anyList())).thenReturn(List.of(mentor));
+        when(awsS3Handler.generatePresignedUrls(any(), anyList(), any(Duration.class)))
+                .thenReturn(Map.of("default/profile.png", new URL("https://bucket.s3.amazonaws.com/default/profile.png")));
+    }
+
+    @Test
+    @DisplayName("마지막 질문이 저장된 대화방은 MongoDB 를 조회하지 않고, DB 에서 정렬된 순서대로 리턴한다")
+    void getAllChatBotRooms_uses_last_question_columns() {
+        // given
+        ChatBotRoom latest = createChatBotRoom("room_1", "질문 1", NOW);
+        ChatBotRoom older = createChatBotRoom("room_2", "질문 2", NOW.minusDays(1));
+        when(chatBotRoomRepository.findAllByInitiatorNicknameOrderByLastQuestionTimeDesc(TEST_INITIATOR_NICKNAME))
+                .thenReturn(List.of(latest, older));
+
+        // when
+        List<ChatBotRoomResponse> responses = chatBotRoomService.getAllChatBotRooms(TEST_INITIATOR_NICKNAME);
+
+        // then
+        assertThat(responses).extracting(ChatBotRoomResponse::getRoomId)
+                .containsExactly("room_1", "room_2");
+        assertThat(responses).extracting(ChatBotRoomResponse::getQuestionMessage)
+                .containsExactly("질문 1", "질문 2");
+        assertThat(responses).extracting(ChatBotRoomResponse::getImgUrl)
+                .containsOnly("https://bucket.s3.amazonaws.com/default/profile.png");
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("마지막 질문 컬럼이 추가되기 전에 만들어진 대화방은 MongoDB 에서 가져와 저장하고, 다시 정렬한다")
+    void getAllChatBotRooms_backfills_empty_rooms() {
+        // given
+        ChatBotRoom saved = createChatBotRoom("room_1", "질문 1", NOW.minusDays(1));
+        ChatBotRoom legacy = createLegacyChatBotRoom("room_2");
+        ChatBotRoom empty = createLegacyChatBotRoom("room_3");
+        when(chatBotRoomRepository.findAllByInitiatorNicknameOrderByLastQuestionTimeDesc(TEST_INITIATOR_NICKNAME))
+                .thenReturn(List.of(saved, legacy, empty));
+        when(messageRepository.findLatestMessagesByRoomIds(List.of("room_2", "room_3"), MessageType.C_QUESTION))
+                .thenReturn(List.of(RoomLatestQuestion.builder().roomId("room_2").message("질문 2").time(NOW).build()));
+
+        // when
+        List<ChatBotRoomResponse> responses = chatBotRoomService.getAllChatBotRooms(TEST_INITIATOR_NICKNAME);
+
+        // then
+        assertThat(responses).extracting(ChatBotRoomResponse::getRoomId)
+                .containsExactly("room_2", "room_1", "room_3");
+        assertThat(responses).extracting(ChatBotRoomResponse::getQuestionMessage)
+                .containsExactly("질문 2", "질문 1", null);
+        verify(chatBotRoomRepository, times(1)).updateLastQuestion("room_2", "질문 2", NOW);
+        // 질문이 없는 대화방도 다시 조회하지 않도록 함께 표시한다.
+        verify(chatBotRoomRepository, times(1)).markLastQuestionBackfilled(List.of("room_2", "room_3"));
+    }
+
+    @Test
+    @DisplayName("이미 채워 넣었거나 새로 만든 대화방은, 질문이 없어도 MongoDB 를 조회하지 않는다")
+    void getAllChatBotRooms_does_not_backfill_twice() {
+        // given
+        ChatBotRoom saved = createChatBotRoom("room_1", "질문 1", NOW);
+        ChatBotRoom empty = createChatBotRoom("room_2", null, null);
+        when(chatBotRoomRepository.findAllByInitiatorNicknameOrderByLastQuestionTimeDesc(TEST_INITIATOR_NICKNAME))
+                .thenReturn(List.of(saved, empty));
+
+        // when
+        List<ChatBotRoomResponse> responses = chatBotRoomService.getAllChatBotRooms(TEST_INITIATOR_NICKNAME);
+
+        // then
+        assertThat(responses).extracting(ChatBotRoomResponse::getQuestionMessage)
+                .containsExactly("질문 1", null);
+        verifyNoInteractions(messageRepository);
+        verify(chatBotRoomRepository, never()).markLastQuestionBackfilled(anyList());
+    }
+
+    private ChatBotRoom createChatBotRoom(String roomId, String lastQuestion, LocalDateTime lastQuestionTime) {
+        ChatBotRoom room = ChatBotRoom.builder()
+                .roomId(roomId)
+                .initiatorNickname(TEST_INITIATOR_NICKNAME)
+                .recipientNickname(TEST_RECIPIENT_NICKNAME)
+                .build();
+        ReflectionTestUtils.setField(room, "lastQuestion", lastQuestion);
+        ReflectionTestUtils.setField(room, "lastQuestionTime", lastQuestionTime);
+        return room;
+    }
+
+    private ChatBotRoom createLegacyChatBotRoom(String roomId) {
+        ChatBotRoom room = createChatBotRoom(roomId, null, null);
+        ReflectionTestUtils.setField(room, "lastQuestionBackfilled", false);
+        return room;
+    }
+}
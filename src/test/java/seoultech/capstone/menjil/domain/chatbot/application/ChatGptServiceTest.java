@@ -15,6 +15,8 @@ import seoultech.capstone.menjil.domain.chatbot.dto.Message;
 import seoultech.capstone.menjil.domain.chatbot.dto.request.ChatGptRequest;
 import seoultech.capstone.menjil.domain.chatbot.dto.response.ChatGptResponse;
 import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.resilience.UpstreamGuard;
+import seoultech.capstone.menjil.global.resilience.UpstreamGuardSettings;
 
 import java.util.List;
 
@@ -74,11 +76,11 @@ class ChatGptServiceTest {
     }
 
     /**
-     * getMessageFromGpt()
+     * getMessageFromGptAsync()
      */
     @Test
     @DisplayName("정상적으로 요청이 수행되는 경우")
-    void getMessageFromGpt() {
+    void getMessageFromGptAsync() {
         // given
         String question = "You are a helpful assistant.";
         String msg = "내 질문은 \"" + question + "\" 이야. " + "이 문장을 세 줄로 요약해줘";
@@ -101,10 +103,10 @@ class ChatGptServiceTest {
                                 .withStatus(200)
                                 .withBody(gptJsonResponse)));
 
-        ChatGptService chatGptService = new ChatGptService(webClient);
+        ChatGptService chatGptService = new ChatGptService(webClient, new UpstreamGuard("openai", UpstreamGuardSettings.builder().build()));
 
         // when
-        Message result = chatGptService.getMessageFromGpt(question);
+        Message result = chatGptService.getMessageFromGptAsync(question).block();
 
         // then
         assertThat(result).isNotNull();
@@ -114,7 +116,7 @@ class ChatGptServiceTest {
 
     @Test
     @DisplayName("ChatGPT API를 통해 받은 데이터가 null이면, CustomException 리턴")
-    void getMessageFromGpt_result_is_Null() {
+    void getMessageFromGptAsync_result_is_Null() {
         // given
         String question = "You are a helpful assistant.";
         String msg = "내 질문은 \"" + question + "\" 이야. " + "이 문장을 세 줄로 요약해줘";
@@ -139,10 +141,10 @@ class ChatGptServiceTest {
                                 .withStatus(200)
                                 .withBody(gptJsonResponse)));
 
-        ChatGptService chatGptService = new ChatGptService(webClient);
+        ChatGptService chatGptService = new ChatGptService(webClient, new UpstreamGuard("openai", UpstreamGuardSettings.builder().build()));
 
         // when
-        assertThrows(CustomException.class, () -> chatGptService.getMessageFromGpt(question));
+        assertThrows(CustomException.class, () -> chatGptService.getMessageFromGptAsync(question).block());
     }
 
     /**
@@ -171,7 +173,7 @@ class ChatGptServiceTest {
                                 .withStatus(200)
                                 .withBody(gptJsonResponse)));
 
-        ChatGptService chatGptService = new ChatGptService(webClient);
+        ChatGptService chatGptService = new ChatGptService(webClient, new UpstreamGuard("openai", UpstreamGuardSettings.builder().build()));
         ChatGptResponse responseMono = chatGptService.sendRequestToGpt(gptRequest).block();
 
         // then
@@ -182,4 +184,89 @@ class ChatGptServiceTest {
         assertThat(responseMono.getUsage().getTotalTokens()).isEqualTo(21);
     }
 
+    /**
+     * getBatchSummariesFromGptAsync()
+     */
+    @Test
+    @DisplayName("여러 질문을 하나의 요청으로 보내고, 응답의 id 에 맞추어 질문 순서대로 요약을 돌려준다")
+    void getBatchSummariesFromGptAsync() {
+        // given
+        String content = "```json\n[{\"id\": 2, \"summary\": \"요약 2\"}, {\"id\": 1, \"summary\": \"요약 1\"}]\n```";
+        String body = gptJsonResponse.replace("\"Hello there, how may I assist you today?\"", new Gson().toJson(content));
+        wireMockServer.stubFor(
+                WireMock.post(WireMock.urlEqualTo("/"))
+                        .withRequestBody(WireMock.containing("질문 2"))
+                        .willReturn(WireMock.aResponse()
+                                .withHeader("Content-Type", "application/json")
+                                .withStatus(200)
+                                .withBody(body)));
+
+        ChatGptService chatGptService = new ChatGptService(webClient, new UpstreamGuard("openai", UpstreamGuardSettings.builder().build()));
+
+        // when
+        List<Message> result = chatGptService.getBatchSummariesFromGptAsync(List.of("질문 \"1\"", "질문 2")).block();
+
+        // then
+        assertThat(result).extracting(Message::getContent).containsExactly("요약 1", "요약 2");
+        assertThat(wireMockServer.getAllServeEvents()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("응답에 없는 id, 형식이 올바르지 않은 응답은 null 로 채운다")
+    void parseBatchSummaries_invalid() {
+        // given
+        ChatGptService chatGptService = new ChatGptService(webClient, new UpstreamGuard("openai", UpstreamGuardSettings.builder().build()));
+
+        // when
+        List<Message> partial = chatGptService.parseBatchSummaries(
+                "[{\"id\": 1, \"summary\": \"요약 1\"}, {\"id\": 7, \"summary\": \"범위 밖\"}]", 2);
+        List<Message> invalid = chatGptService.parseBatchSummaries("요약할 수 없습니다 [", 2);
+
+        // then
+        assertThat(partial.get(0).getContent()).isEqualTo("요약 1");
+        assertThat(partial.get(1)).isNull();
+        assertThat(invalid).containsExactly(null, null);
+    }
+
+    /**
+     * sendStreamRequestToGpt()
+     */
+    @Test
+    @DisplayName("server-sent event 로 받은 chunk 의 delta content 만 순서대로 전달하고, [DONE] 에서 종료한다")
+    void sendStreamRequestToGpt() {
+        // given
+        ChatGptRequest gptRequest = ChatGptRequest
+                .builder()
+                .model(OPEN_AI_MODEL)
+                .messages(List.of(Message.builder()
+                        .role("user")
+                        .content("You are a helpful assistant.")
+                        .build()))
+                .stream(true)
+                .build();
+        Gson gson = new Gson();
+        String gptRequestStr = gson.toJson(gptRequest);
+
+        String streamBody = "data: {\"id\":\"chatcmpl-123\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\"}}]}\n\n" +
+                "data: {\"id\":\"chatcmpl-123\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"Hello\"}}]}\n\n" +
+                "data: {\"id\":\"chatcmpl-123\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\" there\"}}]}\n\n" +
+                "data: [DONE]\n\n";
+
+        wireMockServer.stubFor(
+                WireMock.post(WireMock.urlEqualTo("/"))
+                        .withRequestBody(equalToJson(gptRequestStr))
+                        .willReturn(WireMock.aResponse()
+                                .withHeader("Content-Type", "text/event-stream")
+                                .withStatus(200)
+                                .withBody(streamBody)));
+
+        ChatGptService chatGptService = new ChatGptService(webClient, new UpstreamGuard("openai", UpstreamGuardSettings.builder().build()));
+
+        // when
+        List<String> chunks = chatGptService.sendStreamRequestToGpt(gptRequest).collectList().block();
+
+        // then
+        assertThat(chunks).containsExactly("Hello", " there");
+    }
+
 }
\ No newline at end of file
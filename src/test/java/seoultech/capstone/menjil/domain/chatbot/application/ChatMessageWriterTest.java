@@ -0,0 +1,179 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.domain.SenderType;
+import seoultech.capstone.menjil.global.exception.CustomException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriterTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    // 예약된 작업을 직접 실행하여, 저장 시점을 제어한다.
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+
+    private final String TEST_ROOM_ID = "test_room_1";
+
+    @Test
+    @DisplayName("저장을 기다리지 않고 id 를 정해서 반환하며, 모인 메시지들을 들어온 순서대로 한 번에 저장한다")
+    void write_batches_messages_in_order() {
+        // given
+        ChatMessageWriter writer = createWriter(100, 100);
+        ChatMessage first = createChatMessage("first");
+        ChatMessage second = createChatMessage("second");
+        ChatMessage third = createChatMessage("third");
+
+        // when
+        CompletableFuture<Void> firstResult = writer.write(first).toFuture();
+        writer.write(second);
+        writer.write(third);
+        boolean savedBeforeDrain = firstResult.isDone();
+        runScheduledTasks();
+
+        // then
+        assertThat(savedBeforeDrain).isFalse();
+        assertThat(first.get_id()).isNotNull();
+        assertThat(firstResult).isCompleted();
+        assertThat(scheduledTasks).isEmpty();
+        assertThat(writer.getQueueSize()).isZero();
+
+        List<ChatMessage> inserted = captureInsertedBatches().get(0);
+        assertThat(inserted).extracting(ChatMessage::getMessage).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    @DisplayName("maxBatchSize 보다 많이 모이면 나누어 저장한다")
+    void write_splits_batch() {
+        // given
+        ChatMessageWriter writer = createWriter(2, 100);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            writer.write(createChatMessage("message_" + i));
+        }
+        runScheduledTasks();
+
+        // then
+        List<List<ChatMessage>> batches = captureInsertedBatches();
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.get(2).get(0).getMessage()).isEqualTo("message_4");
+    }
+
+    @Test
+    @DisplayName("묶음 저장에 실패하면 하나씩 다시 저장하고, 그래도 실패한 메시지는 채팅방에 알리도록 event 를 발행한다")
+    void write_retries_one_by_one_and_reports_failure() {
+        // given
+        ChatMessageWriter writer = createWriter(100, 100);
+        ChatMessage ok = createChatMessage("ok");
+        ChatMessage broken = createChatMessage("broken");
+        doThrow(new DataAccessResourceFailureException("mongo down")).when(messageRepository).insert(anyList());
+        when(messageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> {
+            ChatMessage message = invocation.getArgument(0);
+            if ("broken".equals(message.getMessage())) {
+                throw new DataAccessResourceFailureException("mongo down");
+            }
+            return message;
+        });
+
+        // when
+        CompletableFuture<Void> okResult = writer.write(ok).toFuture();
+        CompletableFuture<Void> brokenResult = writer.write(broken).toFuture();
+        runScheduledTasks();
+
+        // then
+        assertThat(okResult).isCompleted();
+        assertThat(brokenResult).isCompletedExceptionally();
+
+        ArgumentCaptor<ChatMessageSaveFailedEvent> captor = ArgumentCaptor.forClass(ChatMessageSaveFailedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertThat(captor.getValue().getRoomId()).isEqualTo(TEST_ROOM_ID);
+        assertThat(captor.getValue().getChatMessage()).isSameAs(broken);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 저장하지 않고 바로 실패를 알린다")
+    void write_rejected_when_queue_is_full() {
+        // given
+        ChatMessageWriter writer = createWriter(100, 1);
+        writer.write(createChatMessage("first"));
+
+        // when
+        CompletableFuture<Void> rejected = writer.write(createChatMessage("second")).toFuture();
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.handle((v, e) -> e.getCause() != null ? e.getCause() : e).join())
+                .isInstanceOf(CustomException.class);
+        verify(eventPublisher, times(1)).publishEvent(any(ChatMessageSaveFailedEvent.class));
+        assertThat(writer.getQueueSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료할 때 대기열에 남아 있는 메시지를 저장한다")
+    void destroy_flushes_queue() {
+        // given
+        ChatMessageWriter writer = createWriter(100, 100);
+        writer.write(createChatMessage("first"));
+        writer.write(createChatMessage("second"));
+
+        // when
+        writer.destroy();
+
+        // then
+        assertThat(captureInsertedBatches().get(0)).hasSize(2);
+        assertThat(writer.getQueueSize()).isZero();
+    }
+
+    private ChatMessageWriter createWriter(int maxBatchSize, int queueCapacity) {
+        return new ChatMessageWriter(messageRepository, eventPublisher, maxBatchSize, queueCapacity,
+                Schedulers.fromExecutor(scheduledTasks::add));
+    }
+
+    private void runScheduledTasks() {
+        while (!scheduledTasks.isEmpty()) {
+            scheduledTasks.remove(0).run();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<ChatMessage>> captureInsertedBatches() {
+        ArgumentCaptor<List<ChatMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(messageRepository, atLeastOnce()).insert(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private ChatMessage createChatMessage(String message) {
+        return ChatMessage.builder()
+                .roomId(TEST_ROOM_ID)
+                .senderType(SenderType.USER)
+                .senderNickname("test_mentee_1")
+                .message(message)
+                .messageType(MessageType.C_QUESTION)
+                .time(LocalDateTime.now())
+                .build();
+    }
+}
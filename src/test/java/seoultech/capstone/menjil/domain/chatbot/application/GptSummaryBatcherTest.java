@@ -0,0 +1,180 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dto.Message;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.ratelimit.QueuedRateLimiter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GptSummaryBatcherTest {
+
+    @Mock
+    private ChatGptService chatGptService;
+
+    private final Sinks.One<Message> firstResponse = Sinks.one();
+    private final AtomicLong nanos = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        // 첫 번째 요청은 진행 중인 요청이 없으므로 바로 보내진다. 응답을 늦춰서 이후 질문들이 모이도록 한다.
+        lenient().when(chatGptService.getMessageFromGptAsync("q_0")).thenReturn(firstResponse.asMono());
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 없으면, 기다리지 않고 질문 하나로 바로 요청한다")
+    void summarize_without_load() {
+        // given
+        GptSummaryBatcher batcher = createBatcher(8, Duration.ofMinutes(1));
+
+        // when
+        CompletableFuture<Message> result = batcher.summarize("q_0").toFuture();
+        firstResponse.tryEmitValue(message("s_0"));
+
+        // then
+        assertThat(result.join().getContent()).isEqualTo("s_0");
+        verify(chatGptService, times(1)).getMessageFromGptAsync("q_0");
+        verify(chatGptService, never()).getBatchSummariesFromGptAsync(anyList());
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 있는 동안 들어온 질문들은, 하나의 요청으로 묶어서 보내고 결과를 나누어 전달한다")
+    void summarize_batches_questions_under_load() {
+        // given
+        GptSummaryBatcher batcher = createBatcher(8, Duration.ofMillis(20));
+        when(chatGptService.getBatchSummariesFromGptAsync(List.of("q_1", "q_2", "q_3")))
+                .thenReturn(Mono.just(List.of(message("s_1"), message("s_2"), message("s_3"))));
+        CompletableFuture<Message> first = batcher.summarize("q_0").toFuture();
+
+        // when
+        CompletableFuture<Message> second = batcher.summarize("q_1").toFuture();
+        CompletableFuture<Message> third = batcher.summarize("q_2").toFuture();
+        CompletableFuture<Message> fourth = batcher.summarize("q_3").toFuture();
+
+        // then
+        assertThat(second.join().getContent()).isEqualTo("s_1");
+        assertThat(third.join().getContent()).isEqualTo("s_2");
+        assertThat(fourth.join().getContent()).isEqualTo("s_3");
+        assertThat(first).isNotDone();
+        assertThat(batcher.getBatchRequestCount()).isEqualTo(1);
+        assertThat(batcher.getBatchedQuestionCount()).isEqualTo(3);
+        verify(chatGptService, times(1)).getMessageFromGptAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("모인 질문이 maxBatchSize 에 도달하면, 기다리지 않고 바로 보낸다")
+    void summarize_flushes_when_batch_is_full() {
+        // given
+        GptSummaryBatcher batcher = createBatcher(2, Duration.ofMinutes(1));
+        when(chatGptService.getBatchSummariesFromGptAsync(List.of("q_1", "q_2")))
+                .thenReturn(Mono.just(List.of(message("s_1"), message("s_2"))));
+        batcher.summarize("q_0").subscribe();
+
+        // when
+        CompletableFuture<Message> second = batcher.summarize("q_1").toFuture();
+        CompletableFuture<Message> third = batcher.summarize("q_2").toFuture();
+
+        // then
+        assertThat(second).isCompleted();
+        assertThat(third).isCompleted();
+        assertThat(third.join().getContent()).isEqualTo("s_2");
+    }
+
+    @Test
+    @DisplayName("묶음 응답에서 찾을 수 없는 질문은, 질문별 요청으로 다시 보낸다")
+    void summarize_retries_missing_summary() {
+        // given
+        GptSummaryBatcher batcher = createBatcher(2, Duration.ofMinutes(1));
+        when(chatGptService.getBatchSummariesFromGptAsync(List.of("q_1", "q_2")))
+                .thenReturn(Mono.just(new ArrayList<>(Arrays.asList(message("s_1"), null))));
+        when(chatGptService.getMessageFromGptAsync("q_2")).thenReturn(Mono.just(message("s_2_single")));
+        batcher.summarize("q_0").subscribe();
+
+        // when
+        CompletableFuture<Message> second = batcher.summarize("q_1").toFuture();
+        CompletableFuture<Message> third = batcher.summarize("q_2").toFuture();
+
+        // then
+        assertThat(second.join().getContent()).isEqualTo("s_1");
+        assertThat(third.join().getContent()).isEqualTo("s_2_single");
+    }
+
+    @Test
+    @DisplayName("묶음 요청이 실패하면, 묶인 모든 질문에 error 를 전달한다")
+    void summarize_batch_error() {
+        // given
+        GptSummaryBatcher batcher = createBatcher(2, Duration.ofMinutes(1));
+        when(chatGptService.getBatchSummariesFromGptAsync(List.of("q_1", "q_2")))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.UPSTREAM_UNAVAILABLE)));
+        batcher.summarize("q_0").subscribe();
+
+        // when
+        CompletableFuture<Message> second = batcher.summarize("q_1").toFuture();
+        CompletableFuture<Message> third = batcher.summarize("q_2").toFuture();
+
+        // then
+        ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+        assertThat(exception.getCause()).isInstanceOf(CustomException.class);
+        assertThat(third).isCompletedExceptionally();
+    }
+
+    @Test
+    @DisplayName("분당 요청 수는 질문마다가 아니라, 실제로 보내는 요청마다 한 번 차감한다")
+    void summarize_acquires_request_permit_per_dispatch() {
+        // given
+        QueuedRateLimiter openAiRateLimiter = new QueuedRateLimiter("openai", 2, 10_000_000, 10_000,
+                100, Duration.ofSeconds(1), Schedulers.parallel(), nanos::get);
+        GptSummaryBatcher batcher = new GptSummaryBatcher(chatGptService, openAiRateLimiter, 2,
+                Duration.ofMinutes(1), Schedulers.parallel());
+        when(chatGptService.getBatchSummariesFromGptAsync(List.of("q_1", "q_2")))
+                .thenReturn(Mono.just(List.of(message("s_1"), message("s_2"))));
+
+        // when
+        CompletableFuture<Message> first = batcher.summarize("q_0").toFuture();
+        CompletableFuture<Message> second = batcher.summarize("q_1").toFuture();
+        CompletableFuture<Message> third = batcher.summarize("q_2").toFuture();
+        firstResponse.tryEmitValue(message("s_0"));
+
+        // then: 질문 3개를 요청 2번으로 보냈으므로, 분당 2번의 한도를 모두 사용하였다.
+        assertThat(first.join().getContent()).isEqualTo("s_0");
+        assertThat(second.join().getContent()).isEqualTo("s_1");
+        assertThat(third.join().getContent()).isEqualTo("s_2");
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> batcher.summarize("q_3").toFuture().get());
+        assertThat(((CustomException) exception.getCause()).getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+        verify(chatGptService, never()).getMessageFromGptAsync("q_3");
+    }
+
+    private GptSummaryBatcher createBatcher(int maxBatchSize, Duration maxWait) {
+        QueuedRateLimiter openAiRateLimiter = new QueuedRateLimiter("openai", 10_000, 10_000_000, 10_000,
+                100, Duration.ofSeconds(10), Schedulers.parallel(), nanos::get);
+        return new GptSummaryBatcher(chatGptService, openAiRateLimiter, maxBatchSize, maxWait, Schedulers.parallel());
+    }
+
+    private Message message(String content) {
+        return Message.builder().role("assistant").content(content).build();
+    }
+}
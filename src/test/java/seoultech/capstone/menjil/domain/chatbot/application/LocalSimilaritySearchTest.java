@@ -0,0 +1,132 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
+import seoultech.capstone.menjil.domain.chatbot.dto.request.AwsLambdaRequest;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalSimilaritySearchTest {
+
+    @Mock
+    private QaListRepository qaListRepository;
+
+    private LocalSimilaritySearch localSimilaritySearch;
+
+    private final String TEST_MENTOR_NICKNAME = "test_mentor_1";
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2023-09-01T00:00:00Z"), ZoneOffset.UTC);
+        localSimilaritySearch = new LocalSimilaritySearch(qaListRepository, clock);
+        ReflectionTestUtils.setField(localSimilaritySearch, "TOP_K", 2);
+        ReflectionTestUtils.setField(localSimilaritySearch, "REFRESH_SECONDS", 0L);
+    }
+
+    @Test
+    @DisplayName("cosine 유사도가 높은 순서로 상위 k 개의 질문을 돌려준다")
+    void findSimilarQuestions() {
+        // given
+        List<QaList> qaLists = List.of(
+                createQaList("q_1", "스프링 부트 프로젝트 구조는 어떻게 잡나요?", "How do I structure a Spring Boot project?"),
+                createQaList("q_2", "백엔드 개발자가 되려면 무엇을 공부해야 하나요?", "What should I study to become a backend developer?"),
+                createQaList("q_3", "포트폴리오에는 어떤 프로젝트를 넣어야 하나요?", null));
+        when(qaListRepository.countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME)).thenReturn(3L);
+        when(qaListRepository.findAnsweredQuestionSummariesByMentor(TEST_MENTOR_NICKNAME)).thenReturn(qaLists);
+
+        // when
+        List<AwsLambdaResponse> responses = localSimilaritySearch.findSimilarQuestions(
+                createRequest("백엔드 개발자가 되기 위해 공부해야 하는 것")).block();
+
+        // then
+        assertThat(responses).hasSize(2);
+        assertThat(responses.get(0).getQuestion_id()).isEqualTo("q_2");
+        assertThat(responses.get(0).getAnswer()).isEqualTo("answer_q_2");
+        assertThat(responses.get(0).getSimilarity_percent())
+                .isGreaterThan(responses.get(1).getSimilarity_percent());
+    }
+
+    @Test
+    @DisplayName("같은 문장은 유사도가 100 이다")
+    void findSimilarQuestions_same_question() {
+        // given
+        when(qaListRepository.countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME)).thenReturn(1L);
+        when(qaListRepository.findAnsweredQuestionSummariesByMentor(TEST_MENTOR_NICKNAME))
+                .thenReturn(List.of(createQaList("q_1", "면접은 어떻게 준비하나요?", null)));
+
+        // when
+        List<AwsLambdaResponse> responses = localSimilaritySearch.search(TEST_MENTOR_NICKNAME, "면접은 어떻게 준비하나요?");
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getSimilarity_percent()).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("답변 완료된 질문 개수가 같으면 인덱스를 재사용하고, 달라지면 다시 만든다")
+    void findSimilarQuestions_rebuild_index() {
+        // given
+        when(qaListRepository.countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME)).thenReturn(1L, 1L, 2L);
+        when(qaListRepository.findAnsweredQuestionSummariesByMentor(TEST_MENTOR_NICKNAME))
+                .thenReturn(List.of(createQaList("q_1", "면접은 어떻게 준비하나요?", null)))
+                .thenReturn(List.of(createQaList("q_1", "면접은 어떻게 준비하나요?", null),
+                        createQaList("q_2", "코딩 테스트는 어떻게 준비하나요?", null)));
+
+        // when
+        localSimilaritySearch.search(TEST_MENTOR_NICKNAME, "면접 준비");
+        localSimilaritySearch.search(TEST_MENTOR_NICKNAME, "면접 준비");
+        List<AwsLambdaResponse> responses = localSimilaritySearch.search(TEST_MENTOR_NICKNAME, "코딩 테스트 준비");
+
+        // then
+        verify(qaListRepository, times(2)).findAnsweredQuestionSummariesByMentor(TEST_MENTOR_NICKNAME);
+        assertThat(responses.get(0).getQuestion_id()).isEqualTo("q_2");
+    }
+
+    @Test
+    @DisplayName("MongoDB 조회에 실패하면 빈 리스트를 돌려준다")
+    void findSimilarQuestions_error() {
+        // given
+        when(qaListRepository.countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME))
+                .thenThrow(new RuntimeException("mongo down"));
+
+        // when
+        List<AwsLambdaResponse> responses = localSimilaritySearch.findSimilarQuestions(
+                createRequest("면접 준비")).block();
+
+        // then
+        assertThat(responses).isEmpty();
+        // MessageService 에서 공통 응답을 추가하므로 수정 가능한 리스트여야 한다
+        assertThat(responses).isInstanceOf(ArrayList.class);
+    }
+
+    private QaList createQaList(String id, String questionSummary, String questionSummaryEn) {
+        QaList qaList = QaList.builder()
+                .mentorNickname(TEST_MENTOR_NICKNAME)
+                .questionSummary(questionSummary)
+                .questionSummaryEn(questionSummaryEn)
+                .answer("answer_" + id)
+                .build();
+        ReflectionTestUtils.setField(qaList, "_id", id);
+        return qaList;
+    }
+
+    private AwsLambdaRequest createRequest(String questionSummary) {
+        return AwsLambdaRequest.of("test_mentee_1", TEST_MENTOR_NICKNAME, questionSummary, questionSummary);
+    }
+}
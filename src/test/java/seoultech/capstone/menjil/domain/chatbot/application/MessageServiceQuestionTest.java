@@ -0,0 +1,635 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.domain.chatbot.dao.ChatBotRoomRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.RoomRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
+import seoultech.capstone.menjil.domain.chatbot.domain.Room;
+import seoultech.capstone.menjil.domain.chatbot.domain.SenderType;
+import seoultech.capstone.menjil.domain.chatbot.dto.MentorLambdaResponses;
+import seoultech.capstone.menjil.domain.chatbot.dto.Message;
+import seoultech.capstone.menjil.domain.chatbot.dto.request.AwsLambdaRequest;
+import seoultech.capstone.menjil.domain.chatbot.dto.request.MessageRequest;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.AwsLambdaResponse;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MessageResponse;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
+import seoultech.capstone.menjil.global.cache.SingleFlight;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.ratelimit.QueuedRateLimiter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageServiceQuestionTest {
+
+    @Mock
+    private SimilaritySearch similaritySearch;
+    @Mock
+    private ChatGptService chatGptService;
+    @Mock
+    private MessageRepository messageRepository;
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+    @Mock
+    private RoomRepository roomRepository;
+    @Mock
+    private ChatBotRoomRepository chatBotRoomRepository;
+    @Mock
+    private QaListRepository qaListRepository;
+
+    private ExpiringLruCache<String, Message> gptSummaryCache;
+    private ExpiringLruCache<String, MentorLambdaResponses> lambdaResponseCache;
+    private ExpiringLruCache<String, Long> mentorAnsweredCountCache;
+    private MessageService messageService;
+
+    private final String TEST_ROOM_ID = "test_room_1";
+    private final String TEST_MENTEE_NICKNAME = "test_mentee_1";
+    private final String TEST_MENTOR_NICKNAME = "test_mentor_1";
+    private final String TEST_QUESTION = "백엔드 개발자가 되려면 무엇을 공부해야 하나요?";
+    private final String OTHER_ROOM_ID = "test_room_2";
+    private final String OTHER_MENTEE_NICKNAME = "test_mentee_2";
+
+    @BeforeEach
+    void setUp() {
+        gptSummaryCache = new ExpiringLruCache<>("gpt-summary", 100, Duration.ofMinutes(10));
+        lambdaResponseCache = new ExpiringLruCache<>("lambda-response", 100, Duration.ofMinutes(10));
+        mentorAnsweredCountCache = new ExpiringLruCache<>("mentor-answered-count", 100, Duration.ofSeconds(30));
+        messageService = createMessageService(new QueuedRateLimiter("openai", 10_000, 10_000_000, 10_000,
+                100, Duration.ofSeconds(10), Schedulers.parallel()));
+
+        Room room = Room.builder()
+                .roomId(TEST_ROOM_ID)
+                .menteeNickname(TEST_MENTEE_NICKNAME)
+                .mentorNickname(TEST_MENTOR_NICKNAME)
+                .build();
+        // saveAndSendClientChatMessage 에서는 호출되지 않는다.
+        lenient().when(roomRepository.findRoomByIdAndMenteeNickname(TEST_ROOM_ID, TEST_MENTEE_NICKNAME)).thenReturn(room);
+        // GPT 요청이 실패하는 경우에는 호출되지 않는다.
+        lenient().when(qaListRepository.countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME)).thenReturn(3L);
+    }
+
+    /**
+     * handleQuestion
+     */
+    @Test
+    @DisplayName("GPT 요약 -> Lambda -> DB 저장 순서로 수행되고, AI_SUMMARY_LIST 응답을 돌려준다")
+    void handleQuestion() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        List<AwsLambdaResponse> lambdaResponses = new ArrayList<>(List.of(
+                AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 0.9)));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class))).thenReturn(Mono.just(lambdaResponses));
+
+        // when
+        MessageResponse response = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getRoomId()).isEqualTo(TEST_ROOM_ID);
+        assertThat(response.getSenderType()).isEqualTo(SenderType.AI);
+        assertThat(response.getSenderNickname()).isEqualTo(TEST_MENTOR_NICKNAME);
+        assertThat(response.getMessageType()).isEqualTo(MessageType.AI_SUMMARY_LIST);
+        assertThat((List<?>) response.getMessageList()).hasSize(2); // 유사 질문 1개 + 공통 응답
+        verify(chatMessageWriter, times(1)).write(any(ChatMessage.class));
+    }
+
+    /**
+     * saveAndSendClientChatMessage
+     */
+    @Test
+    @DisplayName("질문이 저장되면 챗봇 대화방의 마지막 질문을 갱신한다")
+    void saveAndSendClientChatMessage_updates_last_question() {
+        // given
+        when(chatMessageWriter.write(any(ChatMessage.class))).thenReturn(Mono.empty());
+
+        // when
+        messageService.saveAndSendClientChatMessage(createMessageRequest());
+
+        // then
+        verify(chatBotRoomRepository, timeout(1000)).updateLastQuestion(TEST_ROOM_ID, TEST_QUESTION,
+                LocalDateTime.of(2023, 9, 1, 10, 0, 0));
+    }
+
+    @Test
+    @DisplayName("질문 저장에 실패하면 마지막 질문을 갱신하지 않는다")
+    void saveAndSendClientChatMessage_save_failed() {
+        // given
+        when(chatMessageWriter.write(any(ChatMessage.class)))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.CHAT_MESSAGE_SAVE_FAILED)));
+
+        // when
+        messageService.saveAndSendClientChatMessage(createMessageRequest());
+
+        // then
+        verify(chatBotRoomRepository, after(200).never())
+                .updateLastQuestion(anyString(), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("GPT 요청이 실패하면 Lambda 요청, DB 저장을 수행하지 않고 error 를 전달한다")
+    void handleQuestion_gpt_error() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.INTERNAL_SERVER_ERROR)));
+
+        // when, then
+        assertThrows(CustomException.class,
+                () -> messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast());
+        verify(similaritySearch, never()).findSimilarQuestions(any(AwsLambdaRequest.class));
+        verify(chatMessageWriter, never()).write(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("DB 저장이 끝나기를 기다리지 않고 응답을 전달한다")
+    void handleQuestion_does_not_wait_for_save() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class))).thenReturn(Mono.just(new ArrayList<>()));
+        when(chatMessageWriter.write(any(ChatMessage.class))).thenReturn(Mono.never());
+
+        // when
+        MessageResponse response = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest())
+                .blockLast(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getMessageType()).isEqualTo(MessageType.AI_SUMMARY_LIST);
+        verify(messageRepository, never()).save(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("OpenAI 요청이 거절되면, 오류 대신 멘토 답변을 기다리도록 안내하는 응답을 바로 전달한다")
+    void handleQuestion_upstream_unavailable_fallback() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.UPSTREAM_UNAVAILABLE)));
+
+        // when
+        MessageResponse response = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getMessageType()).isEqualTo(MessageType.AI_SUMMARY_LIST);
+        assertThat((List<?>) response.getMessageList()).hasSize(1);   // 공통 응답만 포함
+        verify(similaritySearch, never()).findSimilarQuestions(any(AwsLambdaRequest.class));
+        verify(chatMessageWriter, times(1)).write(any(ChatMessage.class));
+    }
+
+    /**
+     * handleQuestion: rate limit
+     */
+    @Test
+    @DisplayName("사용자별 요청 한도를 넘으면 대기열에 들어가고, 예상 대기 시간을 AI_QUEUE_WAIT 응답으로 먼저 전달한다")
+    void handleQuestion_rate_limited_request_is_queued() {
+        // given
+        messageService = createMessageService(new QueuedRateLimiter("openai", 10_000, 10_000_000, 1,
+                100, Duration.ofMinutes(2), Schedulers.parallel()));
+        when(chatGptService.getMessageFromGptAsync(anyString()))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class))).thenReturn(Mono.just(new ArrayList<>()));
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // when
+        MessageResponse response = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest("다른 질문입니다"))
+                .next()
+                .block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getMessageType()).isEqualTo(MessageType.AI_QUEUE_WAIT);
+        assertThat(response.getSenderNickname()).isEqualTo(TEST_MENTOR_NICKNAME);
+        verify(chatGptService, times(1)).getMessageFromGptAsync(anyString());
+        verify(chatMessageWriter, times(1)).write(any(ChatMessage.class));  // 대기 안내는 저장하지 않는다
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간이 최대 대기 시간보다 길면, 멘토 답변을 기다리도록 안내하는 응답을 바로 전달한다")
+    void handleQuestion_rate_limit_exceeded_fallback() {
+        // given
+        messageService = createMessageService(new QueuedRateLimiter("openai", 10_000, 10_000_000, 1,
+                100, Duration.ofSeconds(1), Schedulers.parallel()));
+        when(chatGptService.getMessageFromGptAsync(anyString()))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class))).thenReturn(Mono.just(new ArrayList<>()));
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // when
+        List<MessageResponse> responses = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest("다른 질문입니다"))
+                .collectList()
+                .block();
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getMessageType()).isEqualTo(MessageType.AI_SUMMARY_LIST);
+        assertThat((List<?>) responses.get(0).getMessageList()).hasSize(1);   // 공통 응답만 포함
+        verify(chatGptService, times(1)).getMessageFromGptAsync(anyString());
+    }
+
+    /**
+     * handleQuestion: gpt summary cache
+     */
+    @Test
+    @DisplayName("정규화된 질문이 같으면, 두 번째 요청부터는 GPT 요청 없이 캐시된 요약을 사용한다")
+    void handleQuestion_gpt_summary_cache_hit() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(anyString()))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class))).thenReturn(Mono.just(new ArrayList<>()));
+        MessageRequest sameQuestion = MessageRequest.builder()
+                .roomId(TEST_ROOM_ID)
+                .senderType(SenderType.USER)
+                .senderNickname(TEST_MENTEE_NICKNAME)
+                .message("  백엔드 개발자가 되려면,  무엇을 공부해야 하나요!! ")
+                .messageType(MessageType.C_QUESTION)
+                .time("2023-09-01 10:01:00")
+                .build();
+
+        // when
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+        messageService.handleQuestion(TEST_ROOM_ID, sameQuestion).blockLast();
+
+        // then
+        verify(chatGptService, times(1)).getMessageFromGptAsync(anyString());
+        verify(similaritySearch, times(2)).findSimilarQuestions(argThat(r -> r != null && "summary".equals(r.getQuestion_summary())));
+        assertThat(gptSummaryCache.stats().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GPT 요청이 실패하면 캐시에 저장하지 않는다")
+    void handleQuestion_gpt_error_is_not_cached() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.error(new CustomException(ErrorCode.INTERNAL_SERVER_ERROR)));
+
+        // when
+        assertThrows(CustomException.class,
+                () -> messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast());
+
+        // then
+        assertThat(gptSummaryCache.size()).isZero();
+    }
+
+    /**
+     * handleQuestion: single-flight
+     */
+    @Test
+    @DisplayName("같은 질문이 동시에 들어오면 GPT, Lambda 요청을 한 번만 보내고 결과를 각 채팅방에 전달한다")
+    void handleQuestion_coalesces_concurrent_requests() throws InterruptedException {
+        // given
+        Sinks.One<Message> gptResponse = Sinks.one();
+        when(chatGptService.getMessageFromGptAsync(anyString())).thenReturn(gptResponse.asMono());
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class)))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 90.0)))));
+        SingleFlight<?> gptSummaryFlight = (SingleFlight<?>) ReflectionTestUtils.getField(messageService, "gptSummaryFlight");
+
+        // when
+        CompletableFuture<MessageResponse> first = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest())
+                .last().toFuture();
+        CompletableFuture<MessageResponse> second = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest())
+                .last().toFuture();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (gptSummaryFlight.getCoalescedCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        gptResponse.tryEmitValue(Message.builder().role("assistant").content("summary").build());
+
+        // then
+        assertThat((List<?>) first.join().getMessageList()).hasSize(2);
+        assertThat((List<?>) second.join().getMessageList()).hasSize(2);
+        verify(chatGptService, times(1)).getMessageFromGptAsync(anyString());
+        verify(chatMessageWriter, times(2)).write(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("같은 질문에 합류하더라도 사용자별 한도는 각자 확인하므로, 먼저 요청한 사용자가 한도를 넘어도 다른 사용자는 바로 응답을 받는다")
+    void handleQuestion_coalesced_request_checks_user_limit_of_each_user() throws InterruptedException {
+        // given
+        QueuedRateLimiter openAiRateLimiter = new QueuedRateLimiter("openai", 10_000, 10_000_000, 1,
+                100, Duration.ofMinutes(2), Schedulers.parallel());
+        messageService = createMessageService(openAiRateLimiter);
+        openAiRateLimiter.acquireUser(TEST_MENTEE_NICKNAME, wait -> {}).block();  // 첫 번째 사용자는 한도를 모두 사용했다
+        stubOtherRoom();
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class)))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 90.0)))));
+
+        // when
+        List<MessageResponse> firstResponses = new CopyOnWriteArrayList<>();
+        Disposable first = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest())
+                .subscribe(firstResponses::add);
+        awaitResponse(firstResponses);
+        MessageResponse second = messageService.handleQuestion(OTHER_ROOM_ID,
+                        createMessageRequest(OTHER_MENTEE_NICKNAME, TEST_QUESTION))
+                .blockLast(Duration.ofSeconds(5));
+        first.dispose();
+
+        // then
+        assertThat(firstResponses).extracting(MessageResponse::getMessageType)
+                .containsExactly(MessageType.AI_QUEUE_WAIT);
+        assertThat(second).isNotNull();
+        assertThat(second.getMessageType()).isEqualTo(MessageType.AI_SUMMARY_LIST);
+        assertThat((List<?>) second.getMessageList()).hasSize(2);   // 대체 응답이 아닌, 유사 질문 1개 + 공통 응답
+        verify(chatGptService, times(1)).getMessageFromGptAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("공유하는 GPT 요청이 전체 한도로 대기열에 들어가면, 나중에 합류한 채팅방에도 AI_QUEUE_WAIT 응답을 전달한다")
+    void handleQuestion_coalesced_request_sends_queue_wait_to_each_room() throws InterruptedException {
+        // given
+        QueuedRateLimiter openAiRateLimiter = new QueuedRateLimiter("openai", 10_000, 100, 10_000,
+                100, Duration.ofMinutes(2), Schedulers.parallel());
+        messageService = createMessageService(openAiRateLimiter);
+        when(chatGptService.estimateSummaryTokens(TEST_QUESTION)).thenReturn(100L);
+        openAiRateLimiter.acquireTokens(100, wait -> {}).block();   // 전체 토큰 한도를 모두 사용했다
+        stubOtherRoom();
+
+        // when
+        List<MessageResponse> firstResponses = new CopyOnWriteArrayList<>();
+        Disposable first = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest())
+                .subscribe(firstResponses::add);
+        awaitResponse(firstResponses);
+        MessageResponse second = messageService.handleQuestion(OTHER_ROOM_ID,
+                        createMessageRequest(OTHER_MENTEE_NICKNAME, TEST_QUESTION))
+                .next()
+                .block(Duration.ofSeconds(5));
+        first.dispose();
+
+        // then
+        assertThat(firstResponses.get(0).getMessageType()).isEqualTo(MessageType.AI_QUEUE_WAIT);
+        assertThat(second).isNotNull();
+        assertThat(second.getMessageType()).isEqualTo(MessageType.AI_QUEUE_WAIT);
+        assertThat(second.getRoomId()).isEqualTo(OTHER_ROOM_ID);
+        verify(chatGptService, never()).getMessageFromGptAsync(anyString());
+    }
+
+    /**
+     * handleQuestion: lambda response cache
+     */
+    @Test
+    @DisplayName("같은 멘토, 같은 요약이면 두 번째 요청부터는 Lambda 요청 없이 캐싱된 결과를 사용한다")
+    void handleQuestion_lambda_response_cache_hit() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class)))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 90.0)))));
+        gptSummaryCache = new ExpiringLruCache<>("gpt-summary", 1, Duration.ZERO);  // GPT 요약 캐시는 사용하지 않는다
+        ReflectionTestUtils.setField(messageService, "gptSummaryCache", gptSummaryCache);
+
+        // when
+        MessageResponse first = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+        MessageResponse second = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        verify(similaritySearch, times(1)).findSimilarQuestions(any(AwsLambdaRequest.class));
+        // 캐싱된 결과에 공통 응답이 중복으로 추가되지 않아야 한다
+        assertThat((List<?>) first.getMessageList()).hasSize(2);
+        assertThat((List<?>) second.getMessageList()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("멘토의 답변 완료 질문 개수가 달라지면, 캐싱된 결과를 버리고 Lambda 에 다시 요청한다")
+    void handleQuestion_lambda_response_cache_invalidated_by_new_answer() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class)))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 90.0)))));
+        when(qaListRepository.countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME))
+                .thenReturn(3L, 4L);
+
+        // when
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+        mentorAnsweredCountCache.invalidate(TEST_MENTOR_NICKNAME);   // 답변 완료 개수의 ttl 이 지난 경우
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        verify(similaritySearch, times(2)).findSimilarQuestions(any(AwsLambdaRequest.class));
+        MentorLambdaResponses mentorResponses = lambdaResponseCache.get(TEST_MENTOR_NICKNAME).orElseThrow();
+        assertThat(mentorResponses.getAnsweredCount()).isEqualTo(4L);
+        assertThat(mentorResponses.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("답변 완료 질문 개수는 ttl 동안 재사용하므로, 캐시 hit 에는 db 를 조회하지 않는다")
+    void handleQuestion_answered_count_is_reused() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class)))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 90.0)))));
+
+        // when
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        verify(qaListRepository, times(1)).countByMentorNicknameAndAnswerIsNotNull(TEST_MENTOR_NICKNAME);
+        verify(similaritySearch, times(1)).findSimilarQuestions(any(AwsLambdaRequest.class));
+    }
+
+    @Test
+    @DisplayName("한 멘토의 답변 완료 질문 개수가 달라져도, 닉네임이 비슷한 다른 멘토의 캐싱된 결과는 그대로 둔다")
+    void handleQuestion_lambda_response_cache_invalidation_is_per_mentor() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class)))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 90.0)))));
+        String otherMentorNickname = TEST_MENTOR_NICKNAME + ":other";
+        MentorLambdaResponses otherMentorResponses = MentorLambdaResponses.of(1L, 20);
+        otherMentorResponses.put("summary_key", List.of(AwsLambdaResponse.of("q_2", "summary_2", "answer_2", 90.0)));
+        lambdaResponseCache.put(otherMentorNickname, otherMentorResponses);
+        lambdaResponseCache.put(TEST_MENTOR_NICKNAME, MentorLambdaResponses.of(2L, 20));
+
+        // when
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        assertThat(lambdaResponseCache.get(TEST_MENTOR_NICKNAME).orElseThrow().getAnsweredCount()).isEqualTo(3L);
+        assertThat(lambdaResponseCache.get(otherMentorNickname)).containsSame(otherMentorResponses);
+        assertThat(otherMentorResponses.get("summary_key")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Lambda 결과가 비어 있으면 캐싱하지 않는다")
+    void handleQuestion_empty_lambda_response_is_not_cached() {
+        // given
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        when(similaritySearch.findSimilarQuestions(any(AwsLambdaRequest.class))).thenReturn(Mono.just(new ArrayList<>()));
+
+        // when
+        messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        assertThat(lambdaResponseCache.get(TEST_MENTOR_NICKNAME).orElseThrow().size()).isZero();
+    }
+
+    /**
+     * handleQuestion: speculative lookup
+     */
+    @Test
+    @DisplayName("원문 질문의 유사도가 threshold 이상이면, GPT 요약을 기다리지 않고 해당 결과를 사용한다")
+    void handleQuestion_speculative_result_is_similar_enough() {
+        // given
+        enableSpeculativeLookup();
+        // 원문 검색 결과가 먼저 도착하면 GPT 요청은 구독되지 않을 수 있다.
+        lenient().when(chatGptService.getMessageFromGptAsync(TEST_QUESTION)).thenReturn(Mono.never());
+        List<AwsLambdaResponse> speculativeResponses = new ArrayList<>(List.of(
+                AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 92.5)));
+        when(similaritySearch.findSimilarQuestions(argThat(r -> r != null && TEST_QUESTION.equals(r.getQuestion_summary()))))
+                .thenReturn(Mono.just(speculativeResponses));
+
+        // when
+        MessageResponse response = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        assertThat(response).isNotNull();
+        List<?> messageList = (List<?>) response.getMessageList();
+        assertThat(messageList).hasSize(2);
+        assertThat(((AwsLambdaResponse) messageList.get(0)).getQuestion_id()).isEqualTo("q_1");
+    }
+
+    @Test
+    @DisplayName("원문 질문의 유사도가 threshold 미만이면, GPT 요약 기반 결과를 사용한다")
+    void handleQuestion_speculative_result_is_not_similar_enough() {
+        // given
+        enableSpeculativeLookup();
+        when(chatGptService.getMessageFromGptAsync(TEST_QUESTION))
+                .thenReturn(Mono.just(Message.builder().role("assistant").content("summary").build()));
+        // GPT 요약 기반 결과가 먼저 도착하면 원문 검색은 요청되기 전에 취소될 수 있다.
+        lenient().when(similaritySearch.findSimilarQuestions(argThat(r -> r != null && TEST_QUESTION.equals(r.getQuestion_summary()))))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_1", "summary_1", "answer_1", 40.0)))));
+        when(similaritySearch.findSimilarQuestions(argThat(r -> r != null && "summary".equals(r.getQuestion_summary()))))
+                .thenReturn(Mono.just(new ArrayList<>(List.of(
+                        AwsLambdaResponse.of("q_2", "summary_2", "answer_2", 75.0)))));
+
+        // when
+        MessageResponse response = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest()).blockLast();
+
+        // then
+        assertThat(response).isNotNull();
+        List<?> messageList = (List<?>) response.getMessageList();
+        assertThat(((AwsLambdaResponse) messageList.get(0)).getQuestion_id()).isEqualTo("q_2");
+    }
+
+    /**
+     * handleQuestion: gpt stream
+     */
+    @Test
+    @DisplayName("스트리밍 모드에서는 부분 응답들, 저장된 전체 요약, AI_SUMMARY_LIST 응답을 전달한다")
+    void handleQuestion_gpt_stream() {
+        // given
+        ReflectionTestUtils.setField(messageService, "gptStreamEnabled", true);
+        when(chatGptService.streamMessageFromGpt(TEST_QUESTION)).thenReturn(Flux.just("첫 번째 줄", ", 두 번째 줄"));
+        when(similaritySearch.findSimilarQuestions(argThat(r -> r != null && "첫 번째 줄, 두 번째 줄".equals(r.getQuestion_summary()))))
+                .thenReturn(Mono.just(new ArrayList<>()));
+
+        // when
+        List<MessageResponse> responses = messageService.handleQuestion(TEST_ROOM_ID, createMessageRequest())
+                .collectList()
+                .block();
+
+        // then
+        assertThat(responses).hasSize(4);
+        List<MessageResponse> summaryResponses = responses.stream()
+                .filter(r -> r.getMessageType() == MessageType.AI_SUMMARY_STREAM)
+                .collect(Collectors.toList());
+        assertThat(summaryResponses).extracting(MessageResponse::getMessage)
+                .containsExactly("첫 번째 줄", ", 두 번째 줄", "첫 번째 줄, 두 번째 줄");
+        assertThat(responses.get(responses.size() - 1).getMessageType()).isEqualTo(MessageType.AI_SUMMARY_LIST);
+
+        // 부분 응답은 저장하지 않고, 전체 요약과 Lambda 응답만 저장한다
+        verify(chatMessageWriter, times(2)).write(any(ChatMessage.class));
+        verify(chatGptService, never()).getMessageFromGptAsync(anyString());
+    }
+
+    private void enableSpeculativeLookup() {
+        ReflectionTestUtils.setField(messageService, "speculativeLookupEnabled", true);
+        ReflectionTestUtils.setField(messageService, "speculativeSimilarityThreshold", 80.0);
+    }
+
+    private MessageService createMessageService(QueuedRateLimiter openAiRateLimiter) {
+        GptSummaryBatcher gptSummaryBatcher = new GptSummaryBatcher(chatGptService, openAiRateLimiter, 8,
+                Duration.ofMillis(20), Schedulers.parallel());
+        MessageService messageService = new MessageService(similaritySearch, chatGptService, gptSummaryBatcher, messageRepository,
+                chatMessageWriter, roomRepository, chatBotRoomRepository,
+                qaListRepository, gptSummaryCache, lambdaResponseCache, mentorAnsweredCountCache, openAiRateLimiter);
+        ReflectionTestUtils.setField(messageService, "lambdaResponseMaxSizePerMentor", 20);
+        return messageService;
+    }
+
+    private void stubOtherRoom() {
+        Room otherRoom = Room.builder()
+                .roomId(OTHER_ROOM_ID)
+                .menteeNickname(OTHER_MENTEE_NICKNAME)
+                .mentorNickname(TEST_MENTOR_NICKNAME)
+                .build();
+        when(roomRepository.findRoomByIdAndMenteeNickname(OTHER_ROOM_ID, OTHER_MENTEE_NICKNAME)).thenReturn(otherRoom);
+    }
+
+    private void awaitResponse(List<MessageResponse> responses) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (responses.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private MessageRequest createMessageRequest() {
+        return createMessageRequest(TEST_QUESTION);
+    }
+
+    private MessageRequest createMessageRequest(String question) {
+        return createMessageRequest(TEST_MENTEE_NICKNAME, question);
+    }
+
+    private MessageRequest createMessageRequest(String menteeNickname, String question) {
+        String roomId = menteeNickname.equals(TEST_MENTEE_NICKNAME) ? TEST_ROOM_ID : OTHER_ROOM_ID;
+        return MessageRequest.builder()
+                .roomId(roomId)
+                .senderType(SenderType.USER)
+                .senderNickname(menteeNickname)
+                .message(question)
+                .messageType(MessageType.C_QUESTION)
+                .time("2023-09-01 10:00:00")
+                .build();
+    }
+}
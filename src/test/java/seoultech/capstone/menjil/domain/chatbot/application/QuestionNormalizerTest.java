@@ -0,0 +1,59 @@
+package seoultech.capstone.menjil.domain.chatbot.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionNormalizerTest {
+
+    @Test
+    @DisplayName("공백, 대소문자, 단어 앞뒤의 문장 부호가 달라도 같은 key 로 정규화한다")
+    void normalize_same_question() {
+        // given
+        String question = "백엔드 개발자가 되려면 무엇을 공부해야 하나요?";
+        String other = "  백엔드 개발자가 되려면,  무엇을 공부해야 하나요!! ";
+
+        // when, then
+        assertThat(QuestionNormalizer.normalize(question)).isEqualTo("백엔드 개발자가 되려면 무엇을 공부해야 하나요");
+        assertThat(QuestionNormalizer.normalize(other)).isEqualTo(QuestionNormalizer.normalize(question));
+        assertThat(QuestionNormalizer.normalize("\"Spring\" 공부 방법 (입문)")).isEqualTo("spring 공부 방법 입문");
+    }
+
+    @Test
+    @DisplayName("C++, C#, C 처럼 기호로만 구분되는 언어 이름은 서로 다른 key 로 정규화한다")
+    void normalize_language_names_do_not_collide() {
+        // given
+        List<String> questions = List.of("C++ 공부 방법", "C# 공부 방법", "C 공부 방법", "F# 공부 방법");
+
+        // when
+        Set<String> keys = questions.stream()
+                .map(QuestionNormalizer::normalize)
+                .collect(Collectors.toSet());
+
+        // then
+        assertThat(keys).hasSize(questions.size());
+        assertThat(QuestionNormalizer.normalize("C++ 공부 방법?")).isEqualTo("c++ 공부 방법");
+        assertThat(QuestionNormalizer.normalize("(C#) 공부 방법")).isEqualTo("c# 공부 방법");
+    }
+
+    @Test
+    @DisplayName("단어 안의 기호와 단어 앞의 . 은 남긴다")
+    void normalize_keeps_symbols_inside_word() {
+        assertThat(QuestionNormalizer.normalize("Node.js 와 .NET 중 무엇을 배울까요?"))
+                .isEqualTo("node.js 와 .net 중 무엇을 배울까요");
+        assertThat(QuestionNormalizer.normalize("Node.js 와 Node js")).isEqualTo("node.js 와 node js");
+    }
+
+    @Test
+    @DisplayName("문장 부호로만 이루어진 단어와 null 은 제거한다")
+    void normalize_punctuation_only() {
+        assertThat(QuestionNormalizer.normalize("질문 - 있습니다 ...")).isEqualTo("질문 있습니다");
+        assertThat(QuestionNormalizer.normalize("?!")).isEmpty();
+        assertThat(QuestionNormalizer.normalize(null)).isEmpty();
+    }
+}
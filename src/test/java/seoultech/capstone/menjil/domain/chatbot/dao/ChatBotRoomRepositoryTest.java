@@ -6,8 +6,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatBotRoom;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -81,6 +83,63 @@ class ChatBotRoomRepositoryTest {
         assertThat(chatBotRoomRepository.findChatBotRoomByRoomId(targetRoomId)).isEmpty();
     }
 
+    @Test
+    @DisplayName("마지막 질문을 갱신하며, 더 오래된 질문으로는 덮어쓰지 않는다")
+    void updateLastQuestion() {
+        // given
+        String targetRoomId = "room-1";
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        chatBotRoomRepository.save(createChatBotRoom(targetRoomId, "i1", "r1"));
+
+        // when
+        int first = chatBotRoomRepository.updateLastQuestion(targetRoomId, "질문 2", now);
+        int older = chatBotRoomRepository.updateLastQuestion(targetRoomId, "질문 1", now.minusSeconds(1));
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(older).isZero();
+        ChatBotRoom room = chatBotRoomRepository.findChatBotRoomByRoomId(targetRoomId).get();
+        assertThat(room.getLastQuestion()).isEqualTo("질문 2");
+        assertThat(room.getLastQuestionTime()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("사용자의 대화방을 마지막 질문 시간 역순으로 조회하며, 질문이 없는 대화방은 마지막에 위치한다")
+    void findAllByInitiatorNicknameOrderByLastQuestionTimeDesc() {
+        // given
+        String targetNickname = "i1";
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        chatBotRoomRepository.saveAll(List.of(
+                createChatBotRoom("room-1", targetNickname, "r1"),
+                createChatBotRoom("room-2", targetNickname, "r2"),
+                createChatBotRoom("room-3", targetNickname, "r3"),
+                createChatBotRoom("room-4", "i2", "r1")));
+        chatBotRoomRepository.updateLastQuestion("room-1", "질문 1", now.minusMinutes(1));
+        chatBotRoomRepository.updateLastQuestion("room-3", "질문 3", now);
+
+        // when
+        List<ChatBotRoom> rooms = chatBotRoomRepository.findAllByInitiatorNicknameOrderByLastQuestionTimeDesc(targetNickname);
+
+        // then
+        assertThat(rooms).extracting("roomId")
+                .containsExactly("room-3", "room-1", "room-2");
+    }
+
+    @Test
+    @DisplayName("마지막 질문을 채워 넣은 대화방을 표시한다")
+    void markLastQuestionBackfilled() {
+        // given
+        ChatBotRoom legacy = createChatBotRoom("room-1", "i1", "r1");
+        ReflectionTestUtils.setField(legacy, "lastQuestionBackfilled", false);
+        chatBotRoomRepository.save(legacy);
+
+        // when
+        int updated = chatBotRoomRepository.markLastQuestionBackfilled(List.of("room-1"));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(chatBotRoomRepository.findChatBotRoomByRoomId("room-1").get().isLastQuestionBackfilled()).isTrue();
+    }
 
     private ChatBotRoom createChatBotRoom(String roomId,
                                           String initiatorNickname,
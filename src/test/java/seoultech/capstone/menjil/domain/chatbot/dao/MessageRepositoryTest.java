@@ -11,6 +11,7 @@ import org.springframework.test.context.ActiveProfiles;
 import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
 import seoultech.capstone.menjil.domain.chatbot.domain.MessageType;
 import seoultech.capstone.menjil.domain.chatbot.domain.SenderType;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.RoomLatestQuestion;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -159,4 +160,91 @@ class MessageRepositoryTest {
         // 원활한 비교를 위해 milliseconds 무시
         assertThat(lastMessage.getTime()).isAfterOrEqualTo(now.plusSeconds(NUM * 1000 * 1000L).withNano(0));
     }
-}
\ No newline at end of file
+
+    /**
+     * findChatMessagesBefore
+     */
+    @Test
+    @DisplayName("cursor 의 (time, _id) 보다 이전 메시지를 최신 순으로 가져오며, 시간이 같으면 _id 로 구분한다")
+    void findChatMessagesBefore() {
+        // given
+        List<ChatMessage> chatMessageList = new ArrayList<>();
+        String roomId = "fixed_room_id";
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        // id_1 ~ id_10 은 모두 같은 시간, id_11 ~ id_20 은 1초씩 증가
+        for (int i = 1; i <= 20; i++) {
+            LocalDateTime time = (i <= 10) ? now : now.plusSeconds(i);
+            chatMessageList.add(ChatMessage.builder()
+                    ._id(String.format("id_%02d", i))
+                    .roomId(roomId)
+                    .senderType(SenderType.USER)
+                    .senderNickname("mentee")
+                    .message("message_" + i)
+                    .messageType(MessageType.TALK)
+                    .time(time)
+                    .build());
+        }
+        messageRepository.saveAll(chatMessageList);
+        PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(
+                Sort.Order.desc("time"),
+                Sort.Order.desc("_id")
+        ));
+
+        // when
+        List<ChatMessage> sameTime = messageRepository.findChatMessagesBefore(roomId, now, "id_08", pageRequest);
+        List<ChatMessage> older = messageRepository.findChatMessagesBefore(roomId, now.plusSeconds(13), "id_13", pageRequest);
+
+        // then
+        assertThat(sameTime).extracting(ChatMessage::get_id)
+                .containsExactly("id_07", "id_06", "id_05", "id_04", "id_03");
+        assertThat(older).extracting(ChatMessage::get_id)
+                .containsExactly("id_12", "id_11", "id_10", "id_09", "id_08");
+    }
+
+    /**
+     * findLatestMessagesByRoomIds
+     */
+    @Test
+    @DisplayName("대화방별 가장 최근 C_QUESTION 메시지를 가져오며, 질문이 없는 대화방은 포함되지 않는다")
+    void findLatestMessagesByRoomIds() {
+        // given
+        List<ChatMessage> chatMessageList = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        for (int i = 1; i <= 3; i++) {
+            chatMessageList.add(createChatMessage("room_1_" + i, "room_1", "question_1_" + i,
+                    MessageType.C_QUESTION, now.plusSeconds(i)));
+            chatMessageList.add(createChatMessage("room_2_" + i, "room_2", "question_2_" + i,
+                    MessageType.C_QUESTION, now.minusSeconds(i)));
+        }
+        // room_1 의 가장 최근 메시지는 질문이 아니다
+        chatMessageList.add(createChatMessage("room_1_4", "room_1", "talk", MessageType.TALK, now.plusSeconds(10)));
+        chatMessageList.add(createChatMessage("room_3_1", "room_3", "welcome", MessageType.ENTER, now));
+        messageRepository.saveAll(chatMessageList);
+
+        // when
+        List<RoomLatestQuestion> result = messageRepository.findLatestMessagesByRoomIds(
+                List.of("room_1", "room_2", "room_3"), MessageType.C_QUESTION);
+
+        // then
+        assertThat(result).extracting(RoomLatestQuestion::getRoomId)
+                .containsExactlyInAnyOrder("room_1", "room_2");
+        assertThat(result).extracting(RoomLatestQuestion::getMessage)
+                .containsExactlyInAnyOrder("question_1_3", "question_2_1");
+        assertThat(result).extracting(RoomLatestQuestion::getTime)
+                .containsExactlyInAnyOrder(now.plusSeconds(3), now.minusSeconds(1));
+    }
+
+    private ChatMessage createChatMessage(String _id, String roomId, String message,
+                                              MessageType messageType, LocalDateTime time) {
+        return ChatMessage.builder()
+                ._id(_id)
+                .roomId(roomId)
+                .senderType(SenderType.USER)
+                .senderNickname("mentee")
+                .message(message)
+                .messageType(messageType)
+                .time(time)
+                .build();
+    }
+}
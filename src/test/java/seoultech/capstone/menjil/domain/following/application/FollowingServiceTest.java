@@ -186,68 +186,6 @@ class FollowingServiceTest {
     }*/
 
 
-    /**
-     * getLastAnsweredMessages
-     */
-    @Test
-    @DisplayName("case 1: 멘토의 질문 답변 데이터가 0개인 경우(존재하지 않는 경우)")
-    void getLastAnsweredMessages_returns_empty_List() {
-        // given
-        String id = "google_1234123124";
-        String email = "mentor2@mentor.com";
-        String nickname = "mentor_test_33";
-        User mentor1 = createTestUser(id, email, nickname);
-
-        // when
-        List<String> lastAnsweredMessages = followingService.getLastAnsweredMessages(mentor1.getNickname());
-
-        // then
-        assertThat(lastAnsweredMessages).isEmpty();
-    }
-
-    @Test
-    @DisplayName("case 2: 멘토의 질문 답변 데이터가 1개인 경우")
-    void getLastAnsweredMessages_size_is_one() {
-        // given
-        String id = "google_1234123124";
-        String email = "mentor2@mentor.com";
-        String nickname = "mentor_test_33";
-        User mentor1 = createTestUser(id, email, nickname);
-
-        int qaNum = 1;
-        List<QaList> qaLists = IntStream.rangeClosed(1, qaNum)
-                .mapToObj(i -> createTestQaListAndAnswerIsNotNull(mentor1.getNickname(), i))
-                .collect(Collectors.toList());
-        qaListRepository.saveAll(qaLists);
-
-        // when
-        List<String> lastAnsweredMessages = followingService.getLastAnsweredMessages(mentor1.getNickname());
-
-        // then
-        assertThat(lastAnsweredMessages.size()).isEqualTo(1);
-    }
-
-    @Test
-    @DisplayName("case 3: 멘토의 질문 답변 데이터가 2개 이상인 경우")
-    void getLastAnsweredMessages_size_is_more_than_two() {
-        // given
-        String id = "google_1234123124";
-        String email = "mentor2@mentor.com";
-        String nickname = "mentor_test_33";
-        User mentor1 = createTestUser(id, email, nickname);
-        int qaNum = 5;
-        List<QaList> qaLists = IntStream.rangeClosed(1, qaNum)
-                .mapToObj(i -> createTestQaListAndAnswerIsNotNull(mentor1.getNickname(), i))
-                .collect(Collectors.toList());
-        qaListRepository.saveAll(qaLists);
-
-        // when
-        List<String> lastAnsweredMessages = followingService.getLastAnsweredMessages(mentor1.getNickname());
-
-        // then
-        assertThat(lastAnsweredMessages.size()).isEqualTo(2);
-    }
-
     private User createTestUser(String id, String email, String nickname) {
         return User.builder()
                 .id(id).email(email).provider("google").nickname(nickname)
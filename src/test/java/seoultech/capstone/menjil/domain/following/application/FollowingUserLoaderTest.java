@@ -0,0 +1,165 @@
+package seoultech.capstone.menjil.domain.following.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
+import seoultech.capstone.menjil.domain.auth.domain.User;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.dto.response.MentorAnsweredSummaries;
+import seoultech.capstone.menjil.domain.follow.dao.FollowRepository;
+import seoultech.capstone.menjil.domain.follow.dao.FollowerCount;
+import seoultech.capstone.menjil.domain.following.application.dto.response.FollowingUserResponse;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+import seoultech.capstone.menjil.global.handler.AwsS3Handler;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowingUserLoaderTest {
+
+    @InjectMocks
+    private FollowingUserLoader followingUserLoader;
+
+    @Mock
+    private AwsS3Handler awsS3Handler;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private FollowRepository followRepository;
+    @Mock
+    private QaListRepository qaListRepository;
+
+    private final String BUCKET_NAME = "test-bucket";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(followingUserLoader, "BUCKET_NAME", BUCKET_NAME);
+    }
+
+    @Test
+    @DisplayName("사용자 수와 관계없이 사용자, 팔로워 수, 답변 정보, presigned url 을 각각 한 번씩만 조회한다")
+    void load() throws MalformedURLException {
+        // given
+        List<String> nicknames = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 9; i++) {
+            nicknames.add("mentor_" + i);
+            users.add(createUser("mentor_" + i));
+        }
+        when(userRepository.findAllByNicknameIn(nicknames)).thenReturn(users);
+        when(awsS3Handler.generatePresignedUrls(eq(BUCKET_NAME), anyList(), any(Duration.class)))
+                .thenReturn(Map.of("default/profile.png", new URL("https://test-bucket.s3.amazonaws.com/default/profile.png")));
+        when(followRepository.countFollowersByFollowNicknameIn(nicknames))
+                .thenReturn(List.of(followerCount("mentor_1", 3L)));
+        when(qaListRepository.findLastAnsweredSummariesByMentors(nicknames, 2))
+                .thenReturn(List.of(MentorAnsweredSummaries.builder()
+                        .mentorNickname("mentor_1")
+                        .questionSummaries(List.of("요약 2", "요약 1"))
+                        .answersCount(5L)
+                        .build()));
+
+        // when
+        Map<String, FollowingUserResponse> responses = followingUserLoader.load(nicknames);
+
+        // then
+        assertThat(responses.keySet()).containsExactlyElementsOf(nicknames);
+
+        FollowingUserResponse first = responses.get("mentor_1");
+        assertThat(first.getFollowingUserDto().getImgUrl())
+                .isEqualTo("https://test-bucket.s3.amazonaws.com/default/profile.png");
+        assertThat(first.getLastAnsweredMessages()).containsExactly("요약 2", "요약 1");
+        assertThat(first.getFollowersCount()).isEqualTo(3L);
+        assertThat(first.getAnswersCount()).isEqualTo(5L);
+
+        verify(userRepository, times(1)).findAllByNicknameIn(anyList());
+        verify(followRepository, times(1)).countFollowersByFollowNicknameIn(anyList());
+        verify(qaListRepository, times(1)).findLastAnsweredSummariesByMentors(anyList(), anyInt());
+        verify(awsS3Handler, times(1)).generatePresignedUrls(any(), anyList(), any(Duration.class));
+        verifyNoMoreInteractions(userRepository, followRepository, qaListRepository);
+    }
+
+    @Test
+    @DisplayName("팔로워나 답변한 질문이 없는 사용자는 0 과 빈 리스트로 채운다")
+    void load_user_without_followers_and_answers() throws MalformedURLException {
+        // given
+        List<String> nicknames = List.of("mentor_1");
+        when(userRepository.findAllByNicknameIn(nicknames)).thenReturn(List.of(createUser("mentor_1")));
+        when(awsS3Handler.generatePresignedUrls(eq(BUCKET_NAME), anyList(), any(Duration.class)))
+                .thenReturn(Map.of("default/profile.png", new URL("https://test-bucket.s3.amazonaws.com/default/profile.png")));
+        when(followRepository.countFollowersByFollowNicknameIn(nicknames)).thenReturn(List.of());
+        when(qaListRepository.findLastAnsweredSummariesByMentors(nicknames, 2)).thenReturn(List.of());
+
+        // when
+        FollowingUserResponse response = followingUserLoader.load(nicknames).get("mentor_1");
+
+        // then
+        assertThat(response.getLastAnsweredMessages()).isEmpty();
+        assertThat(response.getFollowersCount()).isZero();
+        assertThat(response.getAnswersCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자가 있으면 CustomException 을 던진다")
+    void load_user_not_exists() {
+        // given
+        List<String> nicknames = List.of("mentor_1", "mentor_2");
+        when(userRepository.findAllByNicknameIn(nicknames)).thenReturn(List.of(createUser("mentor_1")));
+
+        // when, then
+        assertThatThrownBy(() -> followingUserLoader.load(nicknames))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    @DisplayName("빈 리스트가 들어오면 아무것도 조회하지 않는다")
+    void load_empty() {
+        // when
+        Map<String, FollowingUserResponse> responses = followingUserLoader.load(List.of());
+
+        // then
+        assertThat(responses).isEmpty();
+        verifyNoInteractions(userRepository, followRepository, qaListRepository, awsS3Handler);
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .id("google_" + nickname).email(nickname + "@gmail.com").provider("google").nickname(nickname)
+                .imgUrl("default/profile.png")
+                .build();
+    }
+
+    private FollowerCount followerCount(String followNickname, Long followersCount) {
+        return new FollowerCount() {
+            @Override
+            public String getFollowNickname() {
+                return followNickname;
+            }
+
+            @Override
+            public Long getFollowersCount() {
+                return followersCount;
+            }
+        };
+    }
+}
@@ -23,6 +23,7 @@ import seoultech.capstone.menjil.domain.main.application.dto.response.UserInfoRe
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -259,12 +260,30 @@ class MainPageServiceTest {
         assertThat(followUserResponse3.getNickname()).isEqualTo(MENTOR_NICKNAME + "1");
     }
 
+    @Test
+    @DisplayName("팔로우한 사용자가 User 테이블에 존재하지 않으면, 결과에서 제외한다")
+    void getFollowersOfUser_skips_not_existing_user() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        followRepository.saveAll(List.of(
+                Follow.of(TEST_MENTEE_NICKNAME, TEST_MENTOR_NICKNAME, now),
+                Follow.of(TEST_MENTEE_NICKNAME, "not_exists_user", now.plusMinutes(1))));
+
+        // when
+        List<FollowUserResponse> followUserResponses = mainPageService.getFollowersOfUser(TEST_MENTEE_NICKNAME);
+
+        // then
+        assertThat(followUserResponses.size()).isEqualTo(1);
+        assertThat(followUserResponses.get(0).getNickname()).isEqualTo(TEST_MENTOR_NICKNAME);
+        assertThat(followUserResponses.get(0).getImgUrl()).isNotBlank();
+    }
+
     /**
-     * getLastAnsweredMessages
+     * getLastAnsweredMessagesOfMentors
      */
     @Test
     @DisplayName("case 1: 멘토의 질문 답변 데이터가 0개인 경우(존재하지 않는 경우)")
-    void getLastAnsweredMessages_returns_empty_ArrayList() {
+    void getLastAnsweredMessagesOfMentors_mentor_is_not_included() {
         // given
         String id = "google_1234123124";
         String email = "mentor2@mentor.com";
@@ -272,15 +291,16 @@ class MainPageServiceTest {
         User mentor1 = createTestUser(id, email, nickname);
 
         // when
-        List<String> lastAnsweredMessages = mainPageService.getLastAnsweredMessages(mentor1.getNickname());
+        Map<String, List<String>> lastAnsweredMessages = mainPageService.getLastAnsweredMessagesOfMentors(
+                List.of(mentor1.getNickname()));
 
-        // then
-        assertThat(lastAnsweredMessages).isEmpty();
+        // then: 답변한 질문이 없는 멘토는 결과에 포함되지 않는다.
+        assertThat(lastAnsweredMessages).doesNotContainKey(mentor1.getNickname());
     }
 
     @Test
     @DisplayName("case 2: 멘토의 질문 답변 데이터가 1개인 경우")
-    void getLastAnsweredMessages_size_is_one() {
+    void getLastAnsweredMessagesOfMentors_size_is_one() {
         // given
         String id = "google_1234123124";
         String email = "mentor2@mentor.com";
@@ -295,15 +315,16 @@ class MainPageServiceTest {
         qaListRepository.saveAll(qaLists);
 
         // when
-        List<String> lastAnsweredMessages = mainPageService.getLastAnsweredMessages(mentor1.getNickname());
+        Map<String, List<String>> lastAnsweredMessages = mainPageService.getLastAnsweredMessagesOfMentors(
+                List.of(mentor1.getNickname()));
 
         // then
-        assertThat(lastAnsweredMessages.size()).isEqualTo(1);
+        assertThat(lastAnsweredMessages.get(mentor1.getNickname()).size()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("case 3: 멘토의 질문 답변 데이터가 2개 이상인 경우")
-    void getLastAnsweredMessages_size_is_more_than_two() {
+    void getLastAnsweredMessagesOfMentors_size_is_more_than_two() {
         // given
         String id = "google_1234123124";
         String email = "mentor2@mentor.com";
@@ -318,10 +339,37 @@ class MainPageServiceTest {
         qaListRepository.saveAll(qaLists);
 
         // when
-        List<String> lastAnsweredMessages = mainPageService.getLastAnsweredMessages(mentor1.getNickname());
+        Map<String, List<String>> lastAnsweredMessages = mainPageService.getLastAnsweredMessagesOfMentors(
+                List.of(mentor1.getNickname()));
+
+        // then: $slice 로 LAST_ANSWERED_MESSAGES_SIZE 개까지만 가져온다.
+        assertThat(lastAnsweredMessages.get(mentor1.getNickname()).size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 멘토의 최근 답변 질문 요약을 멘토별로 2개씩, 최신 순으로 가져온다")
+    void getLastAnsweredMessagesOfMentors() {
+        // given
+        User mentor1 = createTestUser("google_1234123124", "mentor1@mentor.com", "mentor_test_1");
+        User mentor2 = createTestUser("google_1234123125", "mentor2@mentor.com", "mentor_test_2");
+        User mentor3 = createTestUser("google_1234123126", "mentor3@mentor.com", "mentor_test_3");
+
+        List<QaList> qaLists = IntStream.rangeClosed(1, 5)
+                .mapToObj(i -> createTestQaList(mentor1, i))
+                .collect(Collectors.toList());
+        qaLists.add(createTestQaList(mentor2, 1));
+        qaListRepository.saveAll(qaLists);
+
+        // when
+        Map<String, List<String>> lastAnsweredMessages = mainPageService.getLastAnsweredMessagesOfMentors(
+                List.of(mentor1.getNickname(), mentor2.getNickname(), mentor3.getNickname()));
 
         // then
-        assertThat(lastAnsweredMessages.size()).isEqualTo(2);
+        assertThat(lastAnsweredMessages.get(mentor1.getNickname()))
+                .containsExactly("summary message_1", "summary message_2");
+        assertThat(lastAnsweredMessages.get(mentor2.getNickname()))
+                .containsExactly("summary message_1");
+        assertThat(lastAnsweredMessages).doesNotContainKey(mentor3.getNickname());
     }
 
     private User createTestUser(String id, String email, String nickname) {
@@ -0,0 +1,155 @@
+package seoultech.capstone.menjil.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringLruCacheTest {
+
+    private MutableClock clock;
+    private ExpiringLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2023-09-01T00:00:00Z"));
+        cache = new ExpiringLruCache<>("test", 2, Duration.ofMinutes(10), clock);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목을 제거한다")
+    void put_evicts_least_recently_used() {
+        // given
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.get("a");     // a 를 최근에 사용한 것으로 갱신
+
+        // when
+        cache.put("c", "C");
+
+        // then
+        assertThat(cache.get("a")).contains("A");
+        assertThat(cache.get("b")).isEmpty();
+        assertThat(cache.get("c")).contains("C");
+        assertThat(cache.stats().getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 항목은 조회되지 않는다")
+    void get_expired_entry() {
+        // given
+        cache.put("a", "A");
+
+        // when
+        clock.advance(Duration.ofMinutes(10));
+
+        // then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("computeIfAbsentAndRefresh 로 사용한 항목은 마지막 사용 시점부터 만료 시간을 계산한다")
+    void computeIfAbsentAndRefresh_extends_expiry() {
+        // given
+        cache.computeIfAbsentAndRefresh("a", key -> "A");
+        cache.computeIfAbsent("b", key -> "B");
+        clock.advance(Duration.ofMinutes(9));
+        cache.computeIfAbsentAndRefresh("a", key -> "A2");
+        cache.computeIfAbsent("b", key -> "B2");
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+
+        // then
+        assertThat(cache.get("a")).contains("A");     // 마지막 사용 후 2분
+        assertThat(cache.get("b")).isEmpty();         // 생성 후 11분
+    }
+
+    @Test
+    @DisplayName("항목마다 지정한 만료 시각을 따른다")
+    void put_with_expiresAt() {
+        // given
+        cache.put("a", "A", clock.instant().plus(Duration.ofMinutes(1)));
+        cache.put("b", "B");
+
+        // when
+        clock.advance(Duration.ofMinutes(2));
+
+        // then
+        assertThat(cache.get("a")).isEmpty();
+        assertThat(cache.get("b")).contains("B");
+    }
+
+    @Test
+    @DisplayName("조건을 만족하는 항목만 제거하고, 제거된 개수를 돌려준다")
+    void invalidateIf() {
+        // given
+        cache.put("mentor1:q1", "A");
+        cache.put("mentor2:q1", "B");
+
+        // when
+        int removed = cache.invalidateIf((key, value) -> key.startsWith("mentor1:"));
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        assertThat(cache.get("mentor1:q1")).isEmpty();
+        assertThat(cache.get("mentor2:q1")).contains("B");
+    }
+
+    @Test
+    @DisplayName("hit, miss 횟수와 hit rate 를 집계한다")
+    void stats() {
+        // given
+        cache.put("a", "A");
+
+        // when
+        cache.get("a");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        // then
+        CacheStats stats = cache.stats();
+        assertThat(stats.getName()).isEqualTo("test");
+        assertThat(stats.getSize()).isEqualTo(1);
+        assertThat(stats.getMaxSize()).isEqualTo(2);
+        assertThat(stats.getHitCount()).isEqualTo(3);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRate()).isEqualTo(0.75);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package seoultech.capstone.menjil.global.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>("test");
+
+    @Test
+    @DisplayName("같은 key 로 진행 중인 호출이 있으면, 새로 호출하지 않고 결과를 공유한다")
+    void execute_coalesces_in_flight_calls() {
+        // given
+        AtomicInteger callCount = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        // when
+        CompletableFuture<String> first = singleFlight.execute("key",
+                () -> Mono.defer(() -> {
+                    callCount.incrementAndGet();
+                    return upstream.asMono();
+                })).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("key",
+                () -> Mono.fromCallable(() -> {
+                    callCount.incrementAndGet();
+                    return "other";
+                })).toFuture();
+        upstream.tryEmitValue("result");
+
+        // then
+        assertThat(first.join()).isEqualTo("result");
+        assertThat(second.join()).isEqualTo("result");
+        assertThat(callCount.get()).isEqualTo(1);
+        assertThat(singleFlight.getCoalescedCount()).isEqualTo(1);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출이 끝난 뒤에 들어온 요청은 새로 호출한다")
+    void execute_after_completion() {
+        // given
+        AtomicInteger callCount = new AtomicInteger();
+
+        // when
+        singleFlight.execute("key", () -> Mono.fromCallable(callCount::incrementAndGet)).block();
+        Integer result = singleFlight.execute("key", () -> Mono.fromCallable(callCount::incrementAndGet)).block();
+
+        // then
+        assertThat(result).isEqualTo(2);
+        assertThat(singleFlight.getCoalescedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("호출이 실패하면 합류한 요청 모두에게 error 를 전달하고, key 를 제거한다")
+    void execute_error() {
+        // given
+        Sinks.One<String> upstream = Sinks.one();
+        CompletableFuture<String> first = singleFlight.execute("key", upstream::asMono).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("key", upstream::asMono).toFuture();
+
+        // when
+        upstream.tryEmitError(new IllegalStateException("upstream error"));
+
+        // then
+        assertThrows(Exception.class, first::join);
+        assertThrows(Exception.class, second::join);
+        assertThat(singleFlight.getInFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답에 나중에 합류한 요청도 처음부터 모든 원소를 받는다")
+    void executeMany_replays_elements() {
+        // given
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        CompletableFuture<List<String>> first = singleFlight.executeMany("key", upstream::asFlux)
+                .collectList().toFuture();
+        upstream.tryEmitNext("a");
+
+        // when
+        CompletableFuture<List<String>> second = singleFlight.executeMany("key", upstream::asFlux)
+                .collectList().toFuture();
+        upstream.tryEmitNext("b");
+        upstream.tryEmitComplete();
+
+        // then
+        assertThat(first.join()).containsExactly("a", "b");
+        assertThat(second.join()).containsExactly("a", "b");
+    }
+}
@@ -0,0 +1,31 @@
+package seoultech.capstone.menjil.global.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Sha256Test {
+
+    private final String VALUE = "abc";
+
+    @Test
+    @DisplayName("hex 는 MySQL 의 SHA2(value, 256) 과 같은 64자 소문자 hex 를 반환한다")
+    void hex() {
+        assertThat(Sha256.hex(VALUE))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("base64Url 은 padding 없는 43자 URL-safe Base64 를 반환한다")
+    void base64Url() {
+        assertThat(Sha256.base64Url(VALUE)).isEqualTo("ungWv48Bz-pBQUDeXa4iI7ADYaOWF3qctBD_YfIAFa0");
+    }
+
+    @Test
+    @DisplayName("UTF-8 로 인코딩한 값을 hash 한다")
+    void hex_utf8() {
+        assertThat(Sha256.hex("백엔드"))
+                .isEqualTo("425269044a71e3eeefd8f48b8d21963d89d6e755e754fa8bd4ad4c4bf835374f");
+    }
+}
@@ -0,0 +1,78 @@
+package seoultech.capstone.menjil.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import seoultech.capstone.menjil.domain.auth.jwt.AuthenticatedUser;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminAuthorizationFilterTest {
+
+    private final String ADMIN_USER_ID = "google_admin";
+    private final AdminAuthorizationFilter adminAuthorizationFilter =
+            new AdminAuthorizationFilter(List.of(ADMIN_USER_ID), new ObjectMapper());
+
+    @Test
+    @DisplayName("admin.user-ids 에 등록된 사용자는 다음 필터로 전달한다")
+    void doFilter_admin() throws Exception {
+        // given
+        MockHttpServletRequest request = createRequest(ADMIN_USER_ID);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        adminAuthorizationFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("로그인한 일반 사용자는 403 을 응답하고 다음 필터로 전달하지 않는다")
+    void doFilter_not_admin() throws Exception {
+        // given
+        MockHttpServletRequest request = createRequest("kakao_33441122");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        adminAuthorizationFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(response.getContentAsString()).contains("관리자만 접근할 수 있습니다");
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("검증된 사용자 정보가 없거나 admin.user-ids 가 비어 있으면 모두 거절한다")
+    void doFilter_no_user_or_no_admin() throws Exception {
+        // given
+        MockHttpServletRequest anonymous = new MockHttpServletRequest("DELETE", "/api/admin/caches/gpt-summary");
+        MockFilterChain anonymousChain = new MockFilterChain();
+        AdminAuthorizationFilter noAdminFilter = new AdminAuthorizationFilter(List.of(), new ObjectMapper());
+        MockFilterChain noAdminChain = new MockFilterChain();
+
+        // when
+        adminAuthorizationFilter.doFilter(anonymous, new MockHttpServletResponse(), anonymousChain);
+        noAdminFilter.doFilter(createRequest(ADMIN_USER_ID), new MockHttpServletResponse(), noAdminChain);
+
+        // then
+        assertThat(anonymousChain.getRequest()).isNull();
+        assertThat(noAdminChain.getRequest()).isNull();
+    }
+
+    private MockHttpServletRequest createRequest(String userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/admin/caches/gpt-summary");
+        request.setAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE, new AuthenticatedUser(userId));
+        return request;
+    }
+}
@@ -0,0 +1,112 @@
+package seoultech.capstone.menjil.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import seoultech.capstone.menjil.domain.auth.jwt.AuthenticatedUser;
+import seoultech.capstone.menjil.domain.auth.jwt.JwtTokenProvider;
+import seoultech.capstone.menjil.domain.auth.jwt.TokenStatus;
+import seoultech.capstone.menjil.domain.auth.jwt.TokenValidationResult;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterPrincipalTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private final String TEST_USER_ID = "kakao_33441122";
+    private final String ACCESS_TOKEN = "access.token.value";
+    private final String REFRESH_TOKEN = "refresh.token.value";
+
+    @BeforeEach
+    void setUp() {
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Access Token 이 유효하면, 검증한 사용자 정보를 요청에 담아 다음 필터로 전달한다")
+    void doFilter_sets_authenticated_user() throws Exception {
+        // given
+        when(jwtTokenProvider.authenticateAccessToken(ACCESS_TOKEN))
+                .thenReturn(TokenValidationResult.reliable(TEST_USER_ID));
+        MockHttpServletRequest request = createRequest("Bearer " + ACCESS_TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        // then
+        HttpServletRequest forwarded = (HttpServletRequest) filterChain.getRequest();
+        assertThat(forwarded).isNotNull();
+        assertThat(forwarded.getUserPrincipal().getName()).isEqualTo(TEST_USER_ID);
+
+        AuthenticatedUser authenticatedUser =
+                (AuthenticatedUser) forwarded.getAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE);
+        assertThat(authenticatedUser.getUserId()).isEqualTo(TEST_USER_ID);
+    }
+
+    @Test
+    @DisplayName("Access Token 이 유효하지 않으면, 403 을 응답하고 다음 필터로 전달하지 않는다")
+    void doFilter_access_token_not_valid() throws Exception {
+        // given
+        when(jwtTokenProvider.authenticateAccessToken(ACCESS_TOKEN))
+                .thenReturn(TokenValidationResult.of(TokenStatus.EXPIRED));
+        MockHttpServletRequest request = createRequest("Bearer " + ACCESS_TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("Access Token 재발급 시, Refresh Token 을 한 번만 파싱한다")
+    void doFilter_reissue_access_token_parses_refresh_token_once() throws Exception {
+        // given
+        when(jwtTokenProvider.authenticateRefreshToken(REFRESH_TOKEN))
+                .thenReturn(TokenValidationResult.reliable(TEST_USER_ID));
+        when(jwtTokenProvider.generateAccessToken(eq(TEST_USER_ID), any(LocalDateTime.class)))
+                .thenReturn("new.access.token");
+        MockHttpServletRequest request = createRequest("Bearer " + ACCESS_TOKEN + " " + REFRESH_TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        jwtAuthenticationFilter.doFilter(request, response, new MockFilterChain());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CREATED.value());
+        assertThat(response.getContentAsString()).contains("new.access.token");
+        verify(jwtTokenProvider, times(1)).authenticateRefreshToken(REFRESH_TOKEN);
+        verify(jwtTokenProvider, never()).getUserId(anyString());
+    }
+
+    private MockHttpServletRequest createRequest(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/user/token-test");
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+}
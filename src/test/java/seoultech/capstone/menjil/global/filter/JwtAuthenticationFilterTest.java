@@ -19,8 +19,10 @@ import seoultech.capstone.menjil.domain.auth.dao.UserRepository;
 import seoultech.capstone.menjil.domain.auth.domain.RefreshToken;
 import seoultech.capstone.menjil.domain.auth.domain.User;
 import seoultech.capstone.menjil.domain.auth.jwt.JwtTokenProvider;
+import seoultech.capstone.menjil.global.cache.ExpiringLruCache;
 
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.hamcrest.Matchers.is;
@@ -58,7 +60,9 @@ class JwtAuthenticationFilterTest {
     public void setup() {
         mockMvc = standaloneSetup(new TokenTestController())
                 .addFilters(new JwtAuthenticationFilter(
-                        new JwtTokenProvider(tokenKey, userRepository, tokenRepository), objectMapper))
+                        new JwtTokenProvider(tokenKey, userRepository, tokenRepository,
+                                new ExpiringLruCache<>("verified-access-token", 100, Duration.ZERO),
+                                new ExpiringLruCache<>("validated-refresh-token", 100, Duration.ofMinutes(10))), objectMapper))
                 .build();
 
         // save user in db
@@ -0,0 +1,100 @@
+package seoultech.capstone.menjil.global.http;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamClientTest {
+
+    private WireMockServer wireMockServer;
+    private SimpleMeterRegistry meterRegistry;
+    private UpstreamClientRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMockServer.start();
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new UpstreamClientRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.destroy();
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("요청을 보내면 pool 상태와 acquire 시간을 기록한다")
+    void request_records_pool_metrics() {
+        // given
+        wireMockServer.stubFor(get(urlEqualTo("/ping")).willReturn(aResponse().withStatus(200).withBody("pong")));
+        UpstreamClient client = registry.register(createSettings(0), builder -> {
+        });
+
+        // when
+        String body = client.getWebClient().get().uri("/ping").retrieve().bodyToMono(String.class).block();
+
+        // then
+        assertThat(body).isEqualTo("pong");
+        UpstreamPoolStats stats = client.snapshot();
+        assertThat(stats.getName()).isEqualTo("test");
+        assertThat(stats.getMaxConnections()).isEqualTo(4);
+        assertThat(stats.getTotalConnections()).isEqualTo(1);
+        assertThat(stats.getAcquireCount()).isEqualTo(1);
+        assertThat(meterRegistry.find("upstream.pool.total").tag("upstream", "test").gauge()).isNotNull();
+        assertThat(meterRegistry.find("upstream.pool.acquire").tag("upstream", "test").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버 시작 시 설정한 개수만큼 연결을 미리 맺어둔다")
+    void warmUp() {
+        // given
+        wireMockServer.stubFor(head(urlEqualTo("/")).willReturn(aResponse().withStatus(404)));
+        UpstreamClient client = registry.register(createSettings(2), builder -> {
+        });
+
+        // when
+        registry.warmUpAll().block();
+
+        // then
+        wireMockServer.verify(2, headRequestedFor(urlEqualTo("/")));
+        assertThat(client.snapshot().getTotalConnections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("응답 크기가 상한을 넘으면 실패한다")
+    void response_size_cap() {
+        // given
+        wireMockServer.stubFor(get(urlEqualTo("/large"))
+                .willReturn(aResponse().withStatus(200).withBody("a".repeat(2048))));
+        UpstreamClient client = registry.register(UpstreamClientSettings.builder()
+                .name("test")
+                .baseUrl(wireMockServer.baseUrl())
+                .maxInMemorySize(1024)
+                .build(), builder -> {
+        });
+
+        // when, then
+        assertThrows(WebClientResponseException.class,
+                () -> client.getWebClient().get().uri("/large").retrieve().bodyToMono(String.class).block());
+    }
+
+    private UpstreamClientSettings createSettings(int warmupConnections) {
+        return UpstreamClientSettings.builder()
+                .name("test")
+                .baseUrl(wireMockServer.baseUrl())
+                .maxConnections(4)
+                .warmupConnections(warmupConnections)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package seoultech.capstone.menjil.global.mongo;
+
+import com.mongodb.client.MongoDatabase;
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.global.config.MongoIndexConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MongoIndexBootstrapTest {
+
+    @Test
+    @DisplayName("winningPlan 에 COLLSCAN stage 가 있으면 true 를 돌려준다")
+    void containsCollectionScan_classic_plan() {
+        // given
+        Document explain = explainResult(new Document("stage", "SORT")
+                .append("inputStage", new Document("stage", "COLLSCAN")));
+
+        // when
+        boolean result = MongoIndexBootstrap.containsCollectionScan(explain);
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("winningPlan 이 인덱스를 사용하면 false 를 돌려준다. rejectedPlans 의 COLLSCAN 은 무시한다")
+    void containsCollectionScan_index_scan() {
+        // given
+        Document explain = explainResult(new Document("stage", "FETCH")
+                .append("inputStage", new Document("stage", "IXSCAN").append("indexName", "room_id_time_id")));
+        ((Document) explain.get("queryPlanner"))
+                .append("rejectedPlans", Collections.singletonList(new Document("stage", "COLLSCAN")));
+
+        // when
+        boolean result = MongoIndexBootstrap.containsCollectionScan(explain);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("SBE(queryPlan), sharding(shards) 구조의 실행 계획에서도 COLLSCAN 을 찾는다")
+    void containsCollectionScan_nested_plan() {
+        // given
+        Document sbe = explainResult(new Document("queryPlan", new Document("stage", "COLLSCAN")));
+        Document sharded = explainResult(new Document("stage", "SINGLE_SHARD")
+                .append("shards", Arrays.asList(
+                        new Document("shardName", "shard-0").append("winningPlan", new Document("stage", "IXSCAN")),
+                        new Document("shardName", "shard-1").append("winningPlan", new Document("stage", "COLLSCAN")))));
+
+        // when
+        boolean sbeResult = MongoIndexBootstrap.containsCollectionScan(sbe);
+        boolean shardedResult = MongoIndexBootstrap.containsCollectionScan(sharded);
+
+        // then
+        assertThat(sbeResult).isTrue();
+        assertThat(shardedResult).isTrue();
+    }
+
+    @Test
+    @DisplayName("QueryShape 가 등록되지 않은 쿼리 메서드를 찾는다")
+    void findUnverifiedQueryMethods() {
+        // given
+        List<QueryShape> shapes = Collections.singletonList(
+                QueryShape.of(SampleRepository.class, "findByName", ChatMessage.class, new Document()));
+
+        // when
+        List<String> result = MongoIndexBootstrap.findUnverifiedQueryMethods(SampleRepository.class, shapes);
+
+        // then
+        assertThat(result).containsExactly("countByName", "deleteByName");
+    }
+
+    @Test
+    @DisplayName("MessageRepository, QaListRepository 의 모든 쿼리 메서드에 QueryShape 가 등록되어 있다")
+    void queryShapes_cover_all_query_methods() {
+        // given
+        List<QueryShape> shapes = MongoIndexConfig.queryShapes();
+
+        // when
+        List<String> messageRepository = MongoIndexBootstrap.findUnverifiedQueryMethods(MessageRepository.class, shapes);
+        List<String> qaListRepository = MongoIndexBootstrap.findUnverifiedQueryMethods(QaListRepository.class, shapes);
+
+        // then
+        assertThat(messageRepository).isEmpty();
+        assertThat(qaListRepository).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fail 모드에서 COLLSCAN 이 발견되면 예외가 발생하고, warn 모드에서는 예외가 발생하지 않는다")
+    void run_collection_scan() {
+        // given
+        MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+        MongoDatabase database = mock(MongoDatabase.class);
+        when(mongoTemplate.getDb()).thenReturn(database);
+        when(mongoTemplate.getCollectionName(eq(ChatMessage.class))).thenReturn("chat_message");
+        when(database.runCommand(any(Document.class)))
+                .thenReturn(explainResult(new Document("stage", "COLLSCAN")));
+
+        List<QueryShape> shapes = Collections.singletonList(QueryShape.of(SampleRepository.class, "findByName",
+                ChatMessage.class, new Document("name", "test")));
+        MongoIndexBootstrap failBootstrap = createBootstrap(mongoTemplate, shapes, MongoPlanCheckMode.FAIL);
+        MongoIndexBootstrap warnBootstrap = createBootstrap(mongoTemplate, shapes, MongoPlanCheckMode.WARN);
+
+        // when, then
+        assertThatThrownBy(failBootstrap::run)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("SampleRepository.findByName");
+        assertThatNoException().isThrownBy(warnBootstrap::run);
+    }
+
+    private MongoIndexBootstrap createBootstrap(MongoTemplate mongoTemplate, List<QueryShape> shapes,
+                                                MongoPlanCheckMode mode) {
+        return new MongoIndexBootstrap(mongoTemplate, new MongoMappingContext(),
+                Collections.emptyList(), Collections.emptyList(), shapes, mode);
+    }
+
+    private Document explainResult(Document winningPlan) {
+        return new Document("queryPlanner", new Document("namespace", "menjil.chat_message")
+                .append("winningPlan", winningPlan));
+    }
+
+    interface SampleRepository {
+        List<ChatMessage> findByName(String name);
+
+        Long countByName(String name);
+
+        void deleteByName(String name);
+    }
+}
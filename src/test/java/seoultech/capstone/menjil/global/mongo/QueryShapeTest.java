@@ -0,0 +1,68 @@
+package seoultech.capstone.menjil.global.mongo;
+
+import org.bson.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import seoultech.capstone.menjil.domain.chatbot.dao.MessageRepository;
+import seoultech.capstone.menjil.domain.chatbot.dao.QaListRepository;
+import seoultech.capstone.menjil.domain.chatbot.domain.ChatMessage;
+import seoultech.capstone.menjil.domain.chatbot.domain.QaList;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryShapeTest {
+
+    private final String SAMPLE_ID = "000000000000000000000000";
+    private final String SAMPLE_NICKNAME = "plan-check";
+
+    @Test
+    @DisplayName("@Query 의 filter 를 읽어 ?0, ?1 ... 에 sample 값을 넣는다")
+    void fromQuery() {
+        // given
+        Date sampleTime = new Date();
+        Document sort = new Document("time", -1).append("_id", -1);
+
+        // when
+        QueryShape shape = QueryShape.fromQuery(MessageRepository.class, "findChatMessagesBefore", ChatMessage.class,
+                sort, SAMPLE_ID, sampleTime, SAMPLE_ID);
+
+        // then
+        assertThat(shape.getFilter()).isEqualTo(new Document("room_id", SAMPLE_ID).append("$or", Arrays.asList(
+                new Document("time", new Document("$lt", sampleTime)),
+                new Document("time", sampleTime).append("_id", new Document("$lt", SAMPLE_ID)))));
+        assertThat(shape.getSort()).isEqualTo(sort);
+        assertThat(shape.getName()).isEqualTo("MessageRepository.findChatMessagesBefore");
+    }
+
+    @Test
+    @DisplayName("@Aggregation pipeline 의 $match, $sort 단계를 filter, sort 로 사용한다")
+    void fromAggregation() {
+        // when
+        QueryShape shape = QueryShape.fromAggregation(QaListRepository.class, "findLastAnsweredSummariesByMentors",
+                QaList.class, Collections.singletonList(SAMPLE_NICKNAME), 2);
+
+        // then
+        assertThat(shape.getFilter()).isEqualTo(
+                new Document("mentor_nickname", new Document("$in", Collections.singletonList(SAMPLE_NICKNAME)))
+                        .append("answer", new Document("$ne", null)));
+        assertThat(shape.getSort()).isEqualTo(
+                new Document("mentor_nickname", 1).append("question_time", -1).append("_id", -1));
+    }
+
+    @Test
+    @DisplayName("annotation 이 없는 메서드로 만들면 예외가 발생한다")
+    void fromQuery_without_annotation() {
+        assertThatThrownBy(() -> QueryShape.fromQuery(MessageRepository.class, "findByRoomId", ChatMessage.class,
+                new Document(), SAMPLE_ID))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("MessageRepository.findByRoomId");
+        assertThatThrownBy(() -> QueryShape.fromAggregation(QaListRepository.class, "findBy_id", QaList.class,
+                SAMPLE_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,212 @@
+package seoultech.capstone.menjil.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class QueuedRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("한도 안의 요청은 대기하지 않고 바로 허가한다")
+    void acquire_without_wait() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(10, 1000, 10, 10, Duration.ofMinutes(2));
+        List<Duration> notices = new ArrayList<>();
+
+        // when
+        limiter.acquire("user_1", 100, notices::add).block();
+
+        // then
+        assertThat(notices).isEmpty();
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 요청 한도를 넘으면 대기열에 들어가고, 토큰이 채워지면 허가한다")
+    void acquire_queued_until_refilled() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(1, 1000, 10, 10, Duration.ofMinutes(2));
+        limiter.acquire("user_1", 100, wait -> {}).block();
+        List<Duration> notices = new ArrayList<>();
+
+        // when
+        CompletableFuture<Void> queued = limiter.acquire("user_2", 100, notices::add).toFuture();
+        boolean doneBeforeRefill = queued.isDone();
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        limiter.drain();
+
+        // then
+        assertThat(doneBeforeRefill).isFalse();
+        assertThat(notices).containsExactly(Duration.ofMinutes(1));
+        assertThat(queued).isCompleted();
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("분당 토큰 수 한도를 넘어도 대기열에 들어간다")
+    void acquire_queued_by_token_limit() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(10, 1000, 10, 10, Duration.ofMinutes(2));
+        limiter.acquire("user_1", 900, wait -> {}).block();
+        List<Duration> notices = new ArrayList<>();
+
+        // when
+        CompletableFuture<Void> queued = limiter.acquire("user_2", 400, notices::add).toFuture();
+
+        // then
+        assertThat(queued).isNotDone();
+        assertThat(notices).containsExactly(Duration.ofSeconds(18));  // 300 토큰이 더 필요하다
+        queued.cancel(true);
+    }
+
+    @Test
+    @DisplayName("사용자별 한도에 걸린 요청은 건너뛰고, 뒤에 들어온 다른 사용자의 요청을 먼저 허가한다")
+    void acquire_skips_user_limited_waiter() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(10, 1000, 1, 10, Duration.ofMinutes(2));
+        limiter.acquire("user_1", 10, wait -> {}).block();
+
+        // when
+        CompletableFuture<Void> user1 = limiter.acquire("user_1", 10, wait -> {}).toFuture();
+        CompletableFuture<Void> user2 = limiter.acquire("user_2", 10, wait -> {}).toFuture();
+
+        // then
+        assertThat(user1).isNotDone();
+        assertThat(user2).isCompleted();
+        assertThat(limiter.getQueueSize()).isEqualTo(1);
+        user1.cancel(true);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간이 최대 대기 시간보다 길면 기다리지 않고 거절한다")
+    void acquire_rejected_when_wait_is_too_long() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(1, 1000, 10, 10, Duration.ofSeconds(30));
+        limiter.acquire("user_1", 10, wait -> {}).block();
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> limiter.acquire("user_2", 10, wait -> {}).block());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 거절한다")
+    void acquire_rejected_when_queue_is_full() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(1, 1000, 10, 1, Duration.ofMinutes(5));
+        limiter.acquire("user_1", 10, wait -> {}).block();
+        CompletableFuture<Void> queued = limiter.acquire("user_2", 10, wait -> {}).toFuture();
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> limiter.acquire("user_3", 10, wait -> {}).block());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+        assertThat(limiter.getQueueSize()).isEqualTo(1);
+        queued.cancel(true);
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 대기열에서 제거된다")
+    void acquire_cancel_removes_waiter() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(1, 1000, 10, 10, Duration.ofMinutes(2));
+        limiter.acquire("user_1", 10, wait -> {}).block();
+        Disposable queued = limiter.acquire("user_2", 10, wait -> {}).subscribe();
+        int queueSizeBeforeCancel = limiter.getQueueSize();
+
+        // when
+        queued.dispose();
+
+        // then
+        assertThat(queueSizeBeforeCancel).isEqualTo(1);
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("계속 요청하는 사용자의 bucket 은 생성 후 2분이 지나도 가득 찬 상태로 다시 만들어지지 않는다")
+    void acquire_user_bucket_expires_after_last_access() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(100, 100_000, 1, 10, Duration.ofSeconds(10));
+        limiter.acquire("user_1", 10, wait -> {}).block();
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(119));
+        limiter.acquire("user_1", 10, wait -> {}).block();
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));   // bucket 을 만든 지 2분이 지났다.
+        CustomException exception = assertThrows(CustomException.class,
+                () -> limiter.acquire("user_1", 10, wait -> {}).block());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("acquireUser 는 사용자별 한도만, acquireTokens 는 토큰 수만, acquireRequest 는 요청 수와 토큰 수만 차감한다")
+    void acquireUser_acquireTokens_and_acquireRequest() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(1, 300, 1, 10, Duration.ofSeconds(10));
+        List<Duration> notices = new ArrayList<>();
+
+        // when
+        limiter.acquireUser("user_1", notices::add).block();
+        limiter.acquireUser("user_2", notices::add).block();
+        limiter.acquireTokens(100, notices::add).block();
+        limiter.acquireTokens(100, notices::add).block();
+        limiter.acquireRequest(100, notices::add).block();
+        CustomException requestRejected = assertThrows(CustomException.class,
+                () -> limiter.acquireRequest().block());
+        CustomException tokenRejected = assertThrows(CustomException.class,
+                () -> limiter.acquireTokens(100, notices::add).block());
+        CustomException userRejected = assertThrows(CustomException.class,
+                () -> limiter.acquireUser("user_1", notices::add).block());
+
+        // then
+        assertThat(notices).isEmpty();
+        assertThat(requestRejected.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+        assertThat(tokenRejected.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+        assertThat(userRejected.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("acquireUser 는 전체 한도가 남아 있지 않아도, 사용자별 한도만 남아 있으면 바로 허가한다")
+    void acquireUser_ignores_global_limit() {
+        // given
+        QueuedRateLimiter limiter = createLimiter(1, 100, 10, 10, Duration.ofSeconds(10));
+        limiter.acquireRequest(100, wait -> {}).block();
+        List<Duration> notices = new ArrayList<>();
+
+        // when
+        limiter.acquireUser("user_1", notices::add).block();
+
+        // then
+        assertThat(notices).isEmpty();
+        assertThat(limiter.getQueueSize()).isZero();
+    }
+
+    private QueuedRateLimiter createLimiter(long requestsPerMinute, long tokensPerMinute, long userRequestsPerMinute,
+                                            int queueCapacity, Duration maxWait) {
+        return new QueuedRateLimiter("test", requestsPerMinute, tokensPerMinute, userRequestsPerMinute,
+                queueCapacity, maxWait, Schedulers.parallel(), nanos::get);
+    }
+}
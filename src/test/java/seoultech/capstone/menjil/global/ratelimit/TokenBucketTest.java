@@ -0,0 +1,96 @@
+package seoultech.capstone.menjil.global.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class TokenBucketTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("토큰이 부족하면 차감하지 않고 false 를 돌려준다")
+    void tryConsume_not_enough_tokens() {
+        // given
+        TokenBucket bucket = new TokenBucket(2, Duration.ofMinutes(1), nanos::get);
+
+        // when
+        boolean first = bucket.tryConsume(1);
+        boolean second = bucket.tryConsume(1);
+        boolean third = bucket.tryConsume(1);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(bucket.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 일정한 속도로 토큰이 채워지고, capacity 를 넘지 않는다")
+    void refill_over_time() {
+        // given
+        TokenBucket bucket = new TokenBucket(60, Duration.ofMinutes(1), nanos::get);
+        bucket.tryConsume(60);
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        double afterTenSeconds = bucket.getAvailablePermits();
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        double afterFiveMinutes = bucket.getAvailablePermits();
+
+        // then
+        assertThat(afterTenSeconds).isCloseTo(10.0, offset(0.001));
+        assertThat(afterFiveMinutes).isEqualTo(60.0);
+    }
+
+    @Test
+    @DisplayName("필요한 토큰이 쌓이기까지 남은 시간을 계산한다")
+    void nanosUntilAvailable() {
+        // given
+        TokenBucket bucket = new TokenBucket(60, Duration.ofMinutes(1), nanos::get);
+        bucket.tryConsume(60);
+
+        // when
+        long nanosForOne = bucket.nanosUntilAvailable(1);
+        long nanosForCapacityPlusOne = bucket.nanosUntilAvailable(61);
+
+        // then
+        assertThat(nanosForOne).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(nanosForCapacityPlusOne).isEqualTo(TimeUnit.SECONDS.toNanos(61));
+    }
+
+    @Test
+    @DisplayName("capacity 보다 많이 요청하면 capacity 만큼 차감한다")
+    void tryConsume_more_than_capacity() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, Duration.ofMinutes(1), nanos::get);
+
+        // when
+        boolean result = bucket.tryConsume(100);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(bucket.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("refund 하면 차감했던 토큰을 돌려준다")
+    void refund() {
+        // given
+        TokenBucket bucket = new TokenBucket(10, Duration.ofMinutes(1), nanos::get);
+        bucket.tryConsume(4);
+
+        // when
+        bucket.refund(4);
+
+        // then
+        assertThat(bucket.getAvailablePermits()).isEqualTo(10.0);
+    }
+}
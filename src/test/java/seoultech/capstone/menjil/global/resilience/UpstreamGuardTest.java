@@ -0,0 +1,193 @@
+package seoultech.capstone.menjil.global.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import seoultech.capstone.menjil.global.exception.CustomException;
+import seoultech.capstone.menjil.global.exception.ErrorCode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamGuardTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2023-09-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("실패 비율이 threshold 이상이면 circuit 을 열고, 요청을 보내지 않고 바로 거절한다")
+    void circuit_opens_on_failures() {
+        // given
+        UpstreamGuard guard = new UpstreamGuard("test", UpstreamGuardSettings.builder()
+                .slidingWindowSize(4)
+                .minimumCalls(4)
+                .failureRateThreshold(50.0)
+                .build(), clock);
+        callSuccess(guard);
+        callSuccess(guard);
+        callFailure(guard);
+        callFailure(guard);
+
+        // when
+        AtomicInteger subscribed = new AtomicInteger();
+        Mono<String> request = Mono.fromCallable(() -> {
+            subscribed.incrementAndGet();
+            return "ok";
+        });
+        CustomException exception = assertThrows(CustomException.class, () -> guard.protect(request).block());
+
+        // then
+        assertThat(guard.getState()).isEqualTo(UpstreamGuard.State.OPEN);
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPSTREAM_UNAVAILABLE);
+        assertThat(subscribed.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("open 시간이 지나면 시험 호출을 허용하고, 성공하면 circuit 을 닫는다")
+    void circuit_closes_after_successful_trial() {
+        // given
+        UpstreamGuard guard = new UpstreamGuard("test", UpstreamGuardSettings.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .openDuration(Duration.ofSeconds(30))
+                .build(), clock);
+        callFailure(guard);
+        callFailure(guard);
+        assertThat(guard.getState()).isEqualTo(UpstreamGuard.State.OPEN);
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+        callSuccess(guard);
+
+        // then
+        assertThat(guard.getState()).isEqualTo(UpstreamGuard.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 circuit 을 다시 연다")
+    void circuit_reopens_after_failed_trial() {
+        // given
+        UpstreamGuard guard = new UpstreamGuard("test", UpstreamGuardSettings.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .openDuration(Duration.ofSeconds(30))
+                .build(), clock);
+        callFailure(guard);
+        callFailure(guard);
+
+        // when
+        clock.advance(Duration.ofSeconds(30));
+        callFailure(guard);
+
+        // then
+        assertThat(guard.getState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 요청이 상한에 도달하면, 다음 요청은 기다리지 않고 거절한다")
+    void bulkhead_rejects_when_full() {
+        // given
+        UpstreamGuard guard = new UpstreamGuard("test", UpstreamGuardSettings.builder()
+                .maxConcurrentCalls(1)
+                .build(), clock);
+        Disposable inFlight = guard.protect(Mono.never()).subscribe();
+
+        // when
+        CustomException exception = assertThrows(CustomException.class,
+                () -> guard.protect(Mono.just("ok")).block());
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.UPSTREAM_UNAVAILABLE);
+        assertThat(guard.getInFlightCalls()).isEqualTo(1);
+
+        // 진행 중인 요청이 취소되면 자리를 돌려준다
+        inFlight.dispose();
+        assertThat(guard.getInFlightCalls()).isZero();
+        assertThat(guard.protect(Mono.just("ok")).block()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("timeout 은 최근 응답 시간의 p99 * multiplier 로 정해지며, 최소값보다 작아지지 않는다")
+    void adaptive_timeout() {
+        // given
+        UpstreamGuard guard = new UpstreamGuard("test", UpstreamGuardSettings.builder()
+                .minTimeout(Duration.ofMillis(50))
+                .maxTimeout(Duration.ofSeconds(10))
+                .minLatencySamples(5)
+                .build(), clock);
+        assertThat(guard.getCurrentTimeout()).isEqualTo(Duration.ofSeconds(10));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            callSuccess(guard);
+        }
+
+        // then
+        assertThat(guard.getCurrentTimeout()).isEqualTo(Duration.ofMillis(50));
+        assertThrows(RuntimeException.class, () -> guard.protect(Mono.delay(Duration.ofSeconds(1))).block());
+    }
+
+    @Test
+    @DisplayName("timeout 도 실패로 집계한다")
+    void timeout_is_counted_as_failure() {
+        // given
+        UpstreamGuard guard = new UpstreamGuard("test", UpstreamGuardSettings.builder()
+                .slidingWindowSize(1)
+                .minimumCalls(1)
+                .minTimeout(Duration.ofMillis(10))
+                .maxTimeout(Duration.ofMillis(10))
+                .build(), clock);
+
+        // when
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> guard.protect(Mono.never()).block());
+
+        // then
+        assertThat(exception.getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(guard.getState()).isEqualTo(UpstreamGuard.State.OPEN);
+    }
+
+    private void callSuccess(UpstreamGuard guard) {
+        guard.protect(Mono.just("ok")).block();
+    }
+
+    private void callFailure(UpstreamGuard guard) {
+        assertThrows(IllegalStateException.class,
+                () -> guard.protect(Mono.error(new IllegalStateException("upstream error"))).block());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}